@@ -27,6 +27,8 @@ android {
         buildConfigField("String", "API_BASE_URL", "\"https://api.swiftquantum.app\"")
         buildConfigField("String", "BRIDGE_API_URL", "\"https://api.quantumbridge.io/v1\"")
         buildConfigField("String", "BRIDGE_WS_URL", "\"wss://ws.quantumbridge.io/v1\"")
+        // Set to false (and point the URLs above at a LocalBridgeServer) to use the real client stack
+        buildConfigField("Boolean", "BRIDGE_SIMULATED", "true")
         buildConfigField("Boolean", "DEBUG_MODE", "false")
 
         // Admin credentials for development
@@ -94,8 +96,8 @@ dependencies {
 
     // Serialization & Networking
     implementation(libs.kotlinx.serialization.json)
+    implementation(libs.kotlinx.serialization.cbor)
     implementation(libs.retrofit)
-    implementation(libs.retrofit.kotlinx.serialization)
     implementation(libs.okhttp)
     implementation(libs.okhttp.logging)
     implementation(libs.kotlinx.coroutines.android)
@@ -125,11 +127,17 @@ dependencies {
     implementation(libs.room.ktx)
     ksp(libs.room.compiler)
 
+    // WorkManager
+    implementation(libs.androidx.work.runtime.ktx)
+    implementation(libs.hilt.work)
+    ksp(libs.hilt.work.compiler)
+
     // Lottie Animations
     implementation(libs.lottie.compose)
 
     // Testing
     testImplementation(libs.junit)
+    testImplementation(libs.okhttp.mockwebserver)
     androidTestImplementation(libs.androidx.junit)
     androidTestImplementation(libs.androidx.espresso.core)
     androidTestImplementation(platform(libs.androidx.compose.bom))
@@ -0,0 +1,34 @@
+/**
+ * K-QuantumNative - App Database
+ * Room database that is the source of truth for cached server data
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.local
+
+import android.content.Context
+import androidx.room.Database
+import androidx.room.Room
+import androidx.room.RoomDatabase
+
+@Database(
+    entities = [TrackEntity::class, AchievementEntity::class, ProgressEntity::class, OutboxEventEntity::class],
+    version = 1,
+    exportSchema = false
+)
+abstract class AppDatabase : RoomDatabase() {
+    abstract fun trackDao(): TrackDao
+    abstract fun achievementDao(): AchievementDao
+    abstract fun progressDao(): ProgressDao
+    abstract fun outboxDao(): OutboxDao
+
+    companion object {
+        private const val NAME = "kquantum.db"
+
+        fun create(context: Context): AppDatabase =
+            Room.databaseBuilder(context, AppDatabase::class.java, NAME)
+                // Only for downgrades. The outbox holds progress the server has not seen,
+                // so schema upgrades need real migrations.
+                .fallbackToDestructiveMigrationOnDowngrade()
+                .build()
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * K-QuantumNative - Local DAOs
+ * Observable queries and diff-merge writes for cached server data
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.local
+
+import androidx.room.Dao
+import androidx.room.Insert
+import androidx.room.Query
+import androidx.room.Transaction
+import androidx.room.Upsert
+import kotlinx.coroutines.flow.Flow
+
+@Dao
+abstract class TrackDao {
+
+    @Query("SELECT * FROM learning_tracks ORDER BY position")
+    abstract fun observeAll(): Flow<List<TrackEntity>>
+
+    @Query("SELECT * FROM learning_tracks")
+    abstract suspend fun getAll(): List<TrackEntity>
+
+    @Upsert
+    abstract suspend fun upsert(rows: List<TrackEntity>)
+
+    @Query("DELETE FROM learning_tracks WHERE id IN (:ids)")
+    abstract suspend fun delete(ids: List<String>)
+
+    /**
+     * Makes the table match [rows], touching only rows that changed. Returns false when
+     * nothing did, in which case observers are not notified.
+     */
+    @Transaction
+    open suspend fun merge(rows: List<TrackEntity>): Boolean {
+        val diff = RowDiff.of(getAll(), rows)
+        if (diff.isEmpty) return false
+        if (diff.deletedIds.isNotEmpty()) delete(diff.deletedIds)
+        if (diff.upserts.isNotEmpty()) upsert(diff.upserts)
+        return true
+    }
+}
+
+@Dao
+abstract class AchievementDao {
+
+    @Query("SELECT * FROM achievements ORDER BY position")
+    abstract fun observeAll(): Flow<List<AchievementEntity>>
+
+    @Query("SELECT * FROM achievements")
+    abstract suspend fun getAll(): List<AchievementEntity>
+
+    @Upsert
+    abstract suspend fun upsert(rows: List<AchievementEntity>)
+
+    @Query("DELETE FROM achievements WHERE id IN (:ids)")
+    abstract suspend fun delete(ids: List<String>)
+
+    @Query("DELETE FROM achievements")
+    abstract suspend fun clear()
+
+    @Transaction
+    open suspend fun merge(rows: List<AchievementEntity>): Boolean {
+        val diff = RowDiff.of(getAll(), rows)
+        if (diff.isEmpty) return false
+        if (diff.deletedIds.isNotEmpty()) delete(diff.deletedIds)
+        if (diff.upserts.isNotEmpty()) upsert(diff.upserts)
+        return true
+    }
+}
+
+@Dao
+interface ProgressDao {
+
+    @Query("SELECT * FROM user_progress WHERE id = 0")
+    fun observe(): Flow<ProgressEntity?>
+
+    @Query("SELECT * FROM user_progress WHERE id = 0")
+    suspend fun get(): ProgressEntity?
+
+    @Upsert
+    suspend fun upsert(row: ProgressEntity)
+
+    @Query("DELETE FROM user_progress")
+    suspend fun clear()
+}
+
+@Dao
+interface OutboxDao {
+
+    @Insert
+    suspend fun insert(event: OutboxEventEntity): Long
+
+    @Query("SELECT * FROM sync_outbox ORDER BY id LIMIT :limit")
+    suspend fun oldest(limit: Int): List<OutboxEventEntity>
+
+    @Query("DELETE FROM sync_outbox WHERE id IN (:ids)")
+    suspend fun delete(ids: List<Long>)
+
+    @Query("SELECT COUNT(*) FROM sync_outbox")
+    fun observeCount(): Flow<Int>
+
+    @Query("SELECT COUNT(*) FROM sync_outbox")
+    suspend fun count(): Int
+
+    // XP the server has not been told about yet
+    @Query("SELECT COALESCE(SUM(xp), 0) FROM sync_outbox")
+    suspend fun pendingXp(): Int
+
+    @Query("DELETE FROM sync_outbox")
+    suspend fun clear()
+}
@@ -0,0 +1,80 @@
+/**
+ * K-QuantumNative - Local Entities
+ * Room rows backing the offline-first repositories
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.local
+
+import androidx.room.Entity
+import androidx.room.PrimaryKey
+
+/**
+ * A server list item stored as its JSON form. [position] keeps the server's ordering and
+ * [payload] is compared verbatim when merging, so unchanged rows are never rewritten.
+ */
+interface CachedRow {
+    val id: String
+    val position: Int
+    val payload: String
+}
+
+@Entity(tableName = "learning_tracks")
+data class TrackEntity(
+    @PrimaryKey override val id: String,
+    override val position: Int,
+    override val payload: String
+) : CachedRow
+
+@Entity(tableName = "achievements")
+data class AchievementEntity(
+    @PrimaryKey override val id: String,
+    override val position: Int,
+    override val payload: String
+) : CachedRow
+
+@Entity(tableName = "user_progress")
+data class ProgressEntity(
+    // Single row
+    @PrimaryKey val id: Int = 0,
+    val payload: String,
+    val syncedAt: Long? = null
+)
+
+enum class OutboxEventType {
+    XP,
+    LEVEL_COMPLETE,
+    ACHIEVEMENT_UNLOCK
+}
+
+/**
+ * A progress change made locally and not yet acknowledged by the server. [targetId] is the
+ * level or achievement id; [xp] is the XP the event granted, zero for unlocks.
+ */
+@Entity(tableName = "sync_outbox")
+data class OutboxEventEntity(
+    @PrimaryKey(autoGenerate = true) val id: Long = 0,
+    val type: OutboxEventType,
+    val targetId: String? = null,
+    val xp: Int = 0,
+    val reason: String? = null,
+    val createdAt: Long = System.currentTimeMillis()
+)
+
+/**
+ * Rows to write and ids to delete so that [current] becomes [incoming]
+ */
+class RowDiff<T : CachedRow>(val upserts: List<T>, val deletedIds: List<String>) {
+    val isEmpty: Boolean get() = upserts.isEmpty() && deletedIds.isEmpty()
+
+    companion object {
+        fun <T : CachedRow> of(current: List<T>, incoming: List<T>): RowDiff<T> {
+            val existing = current.associateBy { it.id }
+            val upserts = incoming.filter { row ->
+                val old = existing[row.id]
+                old == null || old.payload != row.payload || old.position != row.position
+            }
+            val keep = incoming.mapTo(HashSet(incoming.size)) { it.id }
+            return RowDiff(upserts, current.map { it.id }.filterNot { it in keep })
+        }
+    }
+}
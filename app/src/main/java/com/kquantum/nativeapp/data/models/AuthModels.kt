@@ -32,7 +32,15 @@ data class AuthResponse(
     val username: String,
     val email: String,
     @SerialName("expires_in")
-    val expiresIn: Int? = null
+    val expiresIn: Int? = null,
+    @SerialName("refresh_token")
+    val refreshToken: String? = null
+)
+
+@Serializable
+data class RefreshTokenRequest(
+    @SerialName("refresh_token")
+    val refreshToken: String
 )
 
 @Serializable
@@ -0,0 +1,23 @@
+/**
+ * K-QuantumNative - Bootstrap Models
+ * Aggregated payload for the home screen's first load
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import kotlinx.serialization.SerialName
+import kotlinx.serialization.Serializable
+
+/**
+ * Everything the home, profile and achievement screens need, in one response. Sections the
+ * server could not produce are null and leave the stored data as it is.
+ */
+@Serializable
+data class HomeBootstrapResponse(
+    val stats: UserStatsResponse? = null,
+    val tracks: List<LearningTrack>? = null,
+    val achievements: List<AchievementResponse>? = null,
+    val subscription: SubscriptionSyncResponse? = null,
+    @SerialName("server_time")
+    val serverTime: String? = null
+)
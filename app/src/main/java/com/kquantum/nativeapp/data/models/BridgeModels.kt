@@ -8,6 +8,7 @@ package com.kquantum.nativeapp.data.models
 
 import kotlinx.serialization.SerialName
 import kotlinx.serialization.Serializable
+import kotlinx.serialization.Transient
 
 /**
  * Bridge job status
@@ -54,7 +55,14 @@ data class BridgeJob(
     @SerialName("estimated_time")
     val estimatedTime: Int? = null, // seconds
     @SerialName("queue_position")
-    val queuePosition: Int? = null
+    val queuePosition: Int? = null,
+    val backend: String? = null,
+    // Kept locally from the submission: whether results are mitigated, and the physical
+    // qubit each classical bit was read from once transpiled
+    @SerialName("error_mitigation")
+    val errorMitigation: Boolean = true,
+    @SerialName("qubit_for_bit")
+    val qubitForBit: List<Int>? = null
 )
 
 /**
@@ -63,8 +71,14 @@ data class BridgeJob(
 @Serializable
 data class BridgeJobResults(
     val measurements: Map<String, Int> = emptyMap(),
+    // Legacy JSON form; bridges that support attachments send stateVectorBlob instead
     @SerialName("final_state_vector")
     val finalStateVector: List<ComplexNumber>? = null,
+    // Base64 ResultAttachmentCodec payloads, decoded on first use
+    @SerialName("state_vector_blob")
+    val stateVectorBlob: String? = null,
+    @SerialName("measurements_blob")
+    val measurementsBlob: String? = null,
     val fidelity: Double = 1.0,
     @SerialName("execution_time_ms")
     val executionTimeMs: Long = 0,
@@ -73,17 +87,63 @@ data class BridgeJobResults(
     @SerialName("atom_replenishments")
     val atomReplenishments: Int = 0,
     @SerialName("coherence_time_seconds")
-    val coherenceTimeSeconds: Double = 0.0
+    val coherenceTimeSeconds: Double = 0.0,
+    // Outcome probabilities after readout-error mitigation, filled in on the client
+    @SerialName("mitigated_probabilities")
+    val mitigatedProbabilities: Map<String, Double>? = null
 ) {
+    /**
+     * All measurement counts, from [measurements] and [measurementsBlob], keyed by bit
+     * pattern. Null for registers wider than [OutcomeHistogram.MAX_WIDTH] bits, which only
+     * exist as [measurements]. Built once, the first time a screen reads it.
+     */
+    val histogram: OutcomeHistogram? by lazy {
+        val histogram = OutcomeHistogram.fromCounts(measurements) ?: return@lazy null
+        measurementsBlob?.let { blob ->
+            runCatching {
+                ResultAttachmentCodec.decodeHistogram(ResultAttachmentCodec.decodeBase64(blob))
+            }.getOrNull()
+        }?.let { histogram.merge(it) }
+        histogram
+    }
+
+    /**
+     * Counts in the API's bitstring form, for callers that need the map.
+     */
+    val counts: Map<String, Int> by lazy { histogram?.toCountMap() ?: measurements }
+
+    val totalShots: Long
+        get() = histogram?.total ?: measurements.values.sumOf { it.toLong() }
+
+    /**
+     * The [k] most frequent outcomes as bitstrings; only these bins are rendered.
+     */
+    fun topOutcomes(k: Int): List<Pair<String, Int>> {
+        val histogram = histogram
+            ?: return measurements.entries.sortedByDescending { it.value }.take(k).map { it.key to it.value }
+        return histogram.topK(k).map { histogram.bitstring(it.outcome) to it.count }
+    }
+
+    /**
+     * Final state as primitive amplitudes, or null if the job did not return one. Nothing is
+     * decoded until this is first read, so job lists never pay for large vectors.
+     */
+    val stateVector: StateVector? by lazy {
+        stateVectorBlob?.let { blob ->
+            runCatching {
+                ResultAttachmentCodec.decodeStateVector(ResultAttachmentCodec.decodeBase64(blob))
+            }.getOrNull()
+        } ?: finalStateVector?.let { runCatching { StateVector.fromComplex(it) }.getOrNull() }
+    }
+
     val mostLikelyOutcome: String?
-        get() = measurements.maxByOrNull { it.value }?.key
-
-    val probabilities: Map<String, Double>
-        get() {
-            val total = measurements.values.sum().toDouble()
-            return if (total > 0) measurements.mapValues { it.value / total }
-            else emptyMap()
-        }
+        get() = topOutcomes(1).firstOrNull()?.first
+
+    val probabilities: Map<String, Double> by lazy {
+        val total = totalShots.toDouble()
+        if (total > 0) counts.mapValues { it.value / total }
+        else emptyMap()
+    }
 }
 
 @Serializable
@@ -117,7 +177,11 @@ data class RealTimeNoiseData(
     @SerialName("atom_loss_rate")
     val atomLossRate: Double = 0.0,
     @SerialName("replenishment_rate")
-    val replenishmentRate: Double = 0.0
+    val replenishmentRate: Double = 0.0,
+    // Every qubit of the backend; qubitNoiseMap only summarizes the first few. Owned by
+    // this frame and never written after it is published.
+    @Transient
+    val snapshot: NoiseSnapshot? = null
 )
 
 @Serializable
@@ -207,7 +271,20 @@ data class CircuitSubmissionRequest(
     @SerialName("noise_model")
     val noiseModel: String = "harvard_mit_2025",
     @SerialName("error_mitigation")
-    val errorMitigation: Boolean = true
+    val errorMitigation: Boolean = true,
+    val backend: String? = null,
+    // Lets the bridge recognise a retried submission
+    @SerialName("idempotency_key")
+    val idempotencyKey: String? = null
+)
+
+/**
+ * Server-side credit balance for the current billing period
+ */
+@Serializable
+data class CreditBalance(
+    val remaining: Int,
+    val period: String? = null
 )
 
 /**
@@ -240,5 +317,17 @@ data class QuantumBackend(
     val status: String = "online",
     @SerialName("queue_length")
     val queueLength: Int = 0,
-    val description: String? = null
+    val description: String? = null,
+    @SerialName("average_gate_fidelity")
+    val averageGateFidelity: Double? = null,
+    @SerialName("average_job_seconds")
+    val averageJobSeconds: Int? = null,
+    // Undirected qubit pairs; null means all-to-all connectivity
+    @SerialName("coupling_map")
+    val couplingMap: List<List<Int>>? = null,
+    // OpenQASM gate names executed natively; null accepts every gate
+    @SerialName("basis_gates")
+    val basisGates: List<String>? = null,
+    // Runs on classical hardware, so it always looks fastest and most accurate to the router
+    val simulator: Boolean = false
 )
@@ -0,0 +1,231 @@
+/**
+ * K-QuantumNative - Columnar Noise Snapshot
+ * Per-qubit noise levels for large backends stored as index-aligned primitive columns
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import kotlin.math.abs
+import kotlin.math.log10
+import kotlin.math.pow
+import kotlin.math.roundToInt
+
+/**
+ * Qubit health encoded as a single byte in [NoiseSnapshot.status]
+ */
+object QubitNoiseStatus {
+    const val HEALTHY: Byte = 0
+    const val WARNING: Byte = 1
+    const val CRITICAL: Byte = 2
+
+    fun fromLabel(label: String): Byte = when (label.lowercase()) {
+        "warning" -> WARNING
+        "critical" -> CRITICAL
+        else -> HEALTHY
+    }
+
+    fun label(status: Byte): String = when (status) {
+        WARNING -> "warning"
+        CRITICAL -> "critical"
+        else -> "healthy"
+    }
+}
+
+/**
+ * Noise levels for every qubit of a backend. Index `i` of each column belongs to qubit `i`,
+ * so a 3000-qubit frame is four arrays instead of thousands of map entries. Instances are
+ * meant to be reused: [ensureCapacity] only allocates when the backend grows.
+ */
+class NoiseSnapshot(initialCapacity: Int = 0) {
+    var timestamp: Long = 0
+    var qubitCount: Int = 0
+        private set
+    var overallFidelity: Double = 1.0
+    var coherenceRemaining: Double = 1.0
+    var atomLossRate: Double = 0.0
+    var replenishmentRate: Double = 0.0
+
+    var dephasing = FloatArray(initialCapacity)
+        private set
+    var relaxation = FloatArray(initialCapacity)
+        private set
+    var gateError = FloatArray(initialCapacity)
+        private set
+    // Probability of reading the wrong value when measuring the qubit
+    var readoutError = FloatArray(initialCapacity)
+        private set
+    var status = ByteArray(initialCapacity)
+        private set
+
+    fun ensureCapacity(qubits: Int) {
+        if (dephasing.size < qubits) {
+            dephasing = FloatArray(qubits)
+            relaxation = FloatArray(qubits)
+            gateError = FloatArray(qubits)
+            readoutError = FloatArray(qubits)
+            status = ByteArray(qubits)
+        }
+        qubitCount = qubits
+    }
+
+    /**
+     * An independent copy of the current [qubitCount] qubits, safe to hand out while this
+     * instance is refilled.
+     */
+    fun copy(): NoiseSnapshot = NoiseSnapshot().also { copy ->
+        copy.timestamp = timestamp
+        copy.qubitCount = qubitCount
+        copy.overallFidelity = overallFidelity
+        copy.coherenceRemaining = coherenceRemaining
+        copy.atomLossRate = atomLossRate
+        copy.replenishmentRate = replenishmentRate
+        copy.dephasing = dephasing.copyOf(qubitCount)
+        copy.relaxation = relaxation.copyOf(qubitCount)
+        copy.gateError = gateError.copyOf(qubitCount)
+        copy.readoutError = readoutError.copyOf(qubitCount)
+        copy.status = status.copyOf(qubitCount)
+    }
+
+    fun level(qubit: Int): QubitNoiseLevel = QubitNoiseLevel(
+        dephasing = dephasing[qubit].toDouble(),
+        relaxation = relaxation[qubit].toDouble(),
+        gateError = gateError[qubit].toDouble(),
+        status = QubitNoiseStatus.label(status[qubit])
+    )
+
+    /**
+     * Map-based summary of the first [maxQubits] qubits for screens that show a few qubits.
+     */
+    fun toRealTimeNoiseData(maxQubits: Int): RealTimeNoiseData = RealTimeNoiseData(
+        timestamp = timestamp,
+        qubitNoiseMap = (0 until minOf(maxQubits, qubitCount)).associate { it.toString() to level(it) },
+        overallFidelity = overallFidelity,
+        coherenceRemaining = coherenceRemaining,
+        atomLossRate = atomLossRate,
+        replenishmentRate = replenishmentRate,
+        snapshot = this
+    )
+
+    /**
+     * True when no value differs from [other] by [resolution] or more.
+     */
+    fun isSameAs(other: NoiseSnapshot, resolution: Double): Boolean {
+        if (qubitCount != other.qubitCount) return false
+        if (abs(overallFidelity - other.overallFidelity) >= resolution ||
+            abs(coherenceRemaining - other.coherenceRemaining) >= resolution ||
+            abs(atomLossRate - other.atomLossRate) >= resolution ||
+            abs(replenishmentRate - other.replenishmentRate) >= resolution
+        ) {
+            return false
+        }
+        for (i in 0 until qubitCount) {
+            if (status[i] != other.status[i] ||
+                abs(dephasing[i] - other.dephasing[i]) >= resolution ||
+                abs(relaxation[i] - other.relaxation[i]) >= resolution ||
+                abs(gateError[i] - other.gateError[i]) >= resolution ||
+                abs(readoutError[i] - other.readoutError[i]) >= resolution
+            ) {
+                return false
+            }
+        }
+        return true
+    }
+}
+
+/**
+ * Compact binary encoding of [NoiseSnapshot] for the noise stream.
+ *
+ * Layout (little-endian): magic `QN`, version, reserved byte, qubit count (int), timestamp
+ * (long), the four device-level rates (float each), then the dephasing, relaxation,
+ * gate-error and readout-error columns and finally one status byte per qubit. Error rates
+ * are stored as log-scaled unsigned shorts covering 1e-8..1 at about 0.03% relative
+ * precision, so a 3000-qubit frame is about 27 KB.
+ */
+object NoiseSnapshotCodec {
+    private const val MAGIC: Short = 0x4E51 // "QN"
+    private const val VERSION: Byte = 1
+    private const val HEADER_BYTES = 2 + 1 + 1 + 4 + 8 + 4 * 4
+    private const val MIN_LOG = -8.0
+    private const val LOG_RANGE = 8.0
+    private const val QUANT_MAX = 0xFFFF
+
+    fun encodedSize(qubitCount: Int): Int = frameSize(qubitCount).toInt()
+
+    // Long so a corrupt qubit count cannot wrap around and pass the length check
+    private fun frameSize(qubitCount: Int): Long = HEADER_BYTES + qubitCount.toLong() * (4 * 2 + 1)
+
+    fun encode(snapshot: NoiseSnapshot): ByteArray {
+        val buffer = ByteBuffer.allocate(encodedSize(snapshot.qubitCount))
+        encode(snapshot, buffer)
+        return buffer.array()
+    }
+
+    /**
+     * Writes [snapshot] into [buffer] at its current position.
+     */
+    fun encode(snapshot: NoiseSnapshot, buffer: ByteBuffer) {
+        val n = snapshot.qubitCount
+        buffer.order(ByteOrder.LITTLE_ENDIAN)
+        buffer.putShort(MAGIC)
+        buffer.put(VERSION)
+        buffer.put(0)
+        buffer.putInt(n)
+        buffer.putLong(snapshot.timestamp)
+        buffer.putFloat(snapshot.overallFidelity.toFloat())
+        buffer.putFloat(snapshot.coherenceRemaining.toFloat())
+        buffer.putFloat(snapshot.atomLossRate.toFloat())
+        buffer.putFloat(snapshot.replenishmentRate.toFloat())
+        for (i in 0 until n) buffer.putShort(quantize(snapshot.dephasing[i]))
+        for (i in 0 until n) buffer.putShort(quantize(snapshot.relaxation[i]))
+        for (i in 0 until n) buffer.putShort(quantize(snapshot.gateError[i]))
+        for (i in 0 until n) buffer.putShort(quantize(snapshot.readoutError[i]))
+        buffer.put(snapshot.status, 0, n)
+    }
+
+    /**
+     * Decodes one frame from [buffer] into [target], reusing its arrays.
+     *
+     * @throws IllegalArgumentException if the frame is not a noise snapshot
+     */
+    fun decodeInto(buffer: ByteBuffer, target: NoiseSnapshot) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN)
+        val available = buffer.remaining()
+        require(available >= HEADER_BYTES) { "Truncated noise frame" }
+        require(buffer.getShort() == MAGIC) { "Not a noise frame" }
+        val version = buffer.get()
+        require(version == VERSION) { "Unsupported noise frame version $version" }
+        buffer.get()
+
+        val n = buffer.getInt()
+        require(n >= 0 && available >= frameSize(n)) { "Truncated noise frame" }
+
+        target.ensureCapacity(n)
+        target.timestamp = buffer.getLong()
+        target.overallFidelity = buffer.getFloat().toDouble()
+        target.coherenceRemaining = buffer.getFloat().toDouble()
+        target.atomLossRate = buffer.getFloat().toDouble()
+        target.replenishmentRate = buffer.getFloat().toDouble()
+        for (i in 0 until n) target.dephasing[i] = dequantize(buffer.getShort())
+        for (i in 0 until n) target.relaxation[i] = dequantize(buffer.getShort())
+        for (i in 0 until n) target.gateError[i] = dequantize(buffer.getShort())
+        for (i in 0 until n) target.readoutError[i] = dequantize(buffer.getShort())
+        buffer.get(target.status, 0, n)
+    }
+
+    fun decodeInto(bytes: ByteArray, target: NoiseSnapshot) =
+        decodeInto(ByteBuffer.wrap(bytes), target)
+
+    private fun quantize(value: Float): Short {
+        if (value <= 0f) return 0
+        val scaled = (log10(value.toDouble().coerceAtMost(1.0)) - MIN_LOG) / LOG_RANGE
+        return (scaled * QUANT_MAX).roundToInt().coerceIn(1, QUANT_MAX).toShort()
+    }
+
+    private fun dequantize(raw: Short): Float {
+        val q = raw.toInt() and QUANT_MAX
+        if (q == 0) return 0f
+        return 10.0.pow(MIN_LOG + q.toDouble() / QUANT_MAX * LOG_RANGE).toFloat()
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * K-QuantumNative - Outcome Histogram
+ * Measurement counts keyed by primitive bit patterns
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+/**
+ * One histogram bin; [outcome] is the measured bitstring read as a binary number
+ */
+data class OutcomeCount(val outcome: Long, val count: Int)
+
+/**
+ * Counts per measured bit pattern for registers of up to [MAX_WIDTH] bits, stored in an
+ * open-addressing table of primitive arrays. Totals are maintained on insert and the
+ * largest bins are cached until the next change, so repeated reads by the UI are free.
+ * Bitstrings are only materialised through [bitstring] for the bins actually shown.
+ *
+ * Not thread-safe while it is being built; build it on one thread, after which any number
+ * of threads may read it, including [topK].
+ */
+class OutcomeHistogram(
+    width: Int,
+    initialCapacity: Int = 16
+) {
+    var width: Int = width
+        private set
+
+    private var keys: LongArray
+    private var counts: IntArray
+    private var mask: Int
+
+    var size: Int = 0
+        private set
+
+    var total: Long = 0
+        private set
+
+    // Read by concurrent topK callers; any published list is a correct prefix of the ranking
+    @Volatile
+    private var cachedTop: List<OutcomeCount>? = null
+
+    init {
+        require(width in 0..MAX_WIDTH) { "Histogram width $width exceeds $MAX_WIDTH bits" }
+        val capacity = tableSizeFor(initialCapacity)
+        keys = LongArray(capacity) { EMPTY }
+        counts = IntArray(capacity)
+        mask = capacity - 1
+    }
+
+    /**
+     * Adds [count] shots of [outcome]. Widens the register if [outcome] needs more bits.
+     */
+    fun add(outcome: Long, count: Int = 1) {
+        require(outcome >= 0) { "Outcome must be a non-negative bit pattern" }
+        require(count >= 0) { "Count must be non-negative" }
+        if (count == 0) return
+        width = maxOf(width, 64 - java.lang.Long.numberOfLeadingZeros(outcome))
+
+        var slot = slotFor(outcome)
+        while (true) {
+            val key = keys[slot]
+            if (key == outcome) {
+                counts[slot] += count
+                break
+            }
+            if (key == EMPTY) {
+                keys[slot] = outcome
+                counts[slot] = count
+                if (++size * 4 > keys.size * 3) resize(keys.size * 2)
+                break
+            }
+            slot = (slot + 1) and mask
+        }
+        total += count
+        cachedTop = null
+    }
+
+    operator fun get(outcome: Long): Int {
+        if (outcome < 0) return 0
+        var slot = slotFor(outcome)
+        while (true) {
+            val key = keys[slot]
+            if (key == outcome) return counts[slot]
+            if (key == EMPTY) return 0
+            slot = (slot + 1) and mask
+        }
+    }
+
+    fun probability(outcome: Long): Double =
+        if (total > 0) get(outcome).toDouble() / total else 0.0
+
+    /**
+     * Adds every bin of [other] into this histogram, e.g. partial results from batched or
+     * cut sub-circuits.
+     */
+    fun merge(other: OutcomeHistogram): OutcomeHistogram {
+        require(other !== this) { "Cannot merge a histogram into itself" }
+        width = maxOf(width, other.width)
+        other.forEach { outcome, count -> add(outcome, count) }
+        return this
+    }
+
+    inline fun forEach(action: (outcome: Long, count: Int) -> Unit) {
+        for (slot in 0 until capacity) {
+            val key = keyAt(slot)
+            if (key != EMPTY) action(key, countAt(slot))
+        }
+    }
+
+    @PublishedApi
+    internal val capacity: Int get() = keys.size
+
+    @PublishedApi
+    internal fun keyAt(slot: Int): Long = keys[slot]
+
+    @PublishedApi
+    internal fun countAt(slot: Int): Int = counts[slot]
+
+    /**
+     * The [k] largest bins, most frequent first. Ties are broken by outcome so the order is
+     * stable across runs.
+     */
+    fun topK(k: Int): List<OutcomeCount> {
+        val cached = cachedTop
+        if (cached != null && (cached.size >= k || cached.size == size)) return cached.take(k)
+
+        val limit = minOf(k, size)
+        if (limit <= 0) return emptyList()
+        // Bounded min-heap of slots, weakest bin at the root
+        val heap = IntArray(limit)
+        var heapSize = 0
+        for (slot in keys.indices) {
+            if (keys[slot] == EMPTY) continue
+            if (heapSize < limit) {
+                heap[heapSize] = slot
+                siftUp(heap, heapSize++)
+            } else if (weaker(heap[0], slot)) {
+                heap[0] = slot
+                siftDown(heap, heapSize)
+            }
+        }
+
+        val top = (0 until heapSize)
+            .map { OutcomeCount(keys[heap[it]], counts[heap[it]]) }
+            .sortedWith(compareByDescending<OutcomeCount> { it.count }.thenBy { it.outcome })
+        // Keep the longest ranking, so a small k does not evict a larger cached one
+        if ((cachedTop?.size ?: -1) < top.size) cachedTop = top
+        return top
+    }
+
+    fun mostLikely(): OutcomeCount? = topK(1).firstOrNull()
+
+    fun bitstring(outcome: Long): String =
+        java.lang.Long.toBinaryString(outcome).padStart(width, '0')
+
+    /**
+     * The histogram in the API's `{"bitstring": count}` form.
+     */
+    fun toCountMap(): Map<String, Int> {
+        val map = LinkedHashMap<String, Int>(size * 2)
+        forEach { outcome, count -> map[bitstring(outcome)] = count }
+        return map
+    }
+
+    private fun slotFor(outcome: Long): Int {
+        // Fibonacci hashing spreads the dense low bit patterns of small registers
+        val h = outcome * -0x61c8864680b583ebL
+        return (h ushr 32).toInt() and mask
+    }
+
+    private fun resize(newCapacity: Int) {
+        val oldKeys = keys
+        val oldCounts = counts
+        keys = LongArray(newCapacity) { EMPTY }
+        counts = IntArray(newCapacity)
+        mask = newCapacity - 1
+        for (i in oldKeys.indices) {
+            val key = oldKeys[i]
+            if (key == EMPTY) continue
+            var slot = slotFor(key)
+            while (keys[slot] != EMPTY) slot = (slot + 1) and mask
+            keys[slot] = key
+            counts[slot] = oldCounts[i]
+        }
+    }
+
+    // True if bin a ranks below bin b
+    private fun weaker(a: Int, b: Int): Boolean =
+        counts[a] < counts[b] || (counts[a] == counts[b] && keys[a] > keys[b])
+
+    private fun siftUp(heap: IntArray, index: Int) {
+        var i = index
+        while (i > 0) {
+            val parent = (i - 1) / 2
+            if (!weaker(heap[i], heap[parent])) break
+            heap[i] = heap[parent].also { heap[parent] = heap[i] }
+            i = parent
+        }
+    }
+
+    private fun siftDown(heap: IntArray, heapSize: Int) {
+        var i = 0
+        while (true) {
+            val left = 2 * i + 1
+            if (left >= heapSize) break
+            val right = left + 1
+            val child = if (right < heapSize && weaker(heap[right], heap[left])) right else left
+            if (!weaker(heap[child], heap[i])) break
+            heap[i] = heap[child].also { heap[child] = heap[i] }
+            i = child
+        }
+    }
+
+    companion object {
+        const val MAX_WIDTH = 63
+        @PublishedApi
+        internal const val EMPTY = -1L
+
+        /**
+         * Builds a histogram from API counts, or returns null when a bitstring is wider than
+         * [MAX_WIDTH] bits or is not binary; callers then keep using the map.
+         */
+        fun fromCounts(counts: Map<String, Int>): OutcomeHistogram? {
+            val width = counts.keys.maxOfOrNull { it.length } ?: 0
+            if (width > MAX_WIDTH) return null
+            val histogram = OutcomeHistogram(width, counts.size)
+            for ((bits, count) in counts) {
+                if (count < 0 || bits.isEmpty() || bits.any { it != '0' && it != '1' }) return null
+                histogram.add(java.lang.Long.parseLong(bits, 2), count)
+            }
+            return histogram
+        }
+
+        private fun tableSizeFor(expected: Int): Int {
+            val needed = (expected.coerceAtLeast(4) * 4 + 2) / 3
+            return Integer.highestOneBit(needed - 1).coerceAtLeast(2) shl 1
+        }
+    }
+}
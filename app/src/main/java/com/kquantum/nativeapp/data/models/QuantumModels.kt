@@ -194,6 +194,7 @@ data class QuantumGate(
     val controlQubit: Int? = null,
     val controlQubit2: Int? = null,
     val parameter: Double? = null, // For rotation gates
+    val classicalBit: Int? = null, // Measurement destination; defaults to targetQubit
     val timestamp: Long = System.currentTimeMillis()
 )
 
@@ -259,7 +260,8 @@ data class QuantumCircuit(
     val name: String = "Untitled Circuit",
     val numberOfQubits: Int = 2,
     val gates: List<QuantumGate> = emptyList(),
-    val createdAt: Long = System.currentTimeMillis()
+    val createdAt: Long = System.currentTimeMillis(),
+    val classicalBits: Int? = null // Classical register size; defaults to numberOfQubits
 ) {
     val depth: Int
         get() = gates.size
@@ -270,7 +272,7 @@ data class QuantumCircuit(
         sb.appendLine("include \"qelib1.inc\";")
         sb.appendLine()
         sb.appendLine("qreg q[$numberOfQubits];")
-        sb.appendLine("creg c[$numberOfQubits];")
+        sb.appendLine("creg c[${classicalBits ?: numberOfQubits}];")
         sb.appendLine()
 
         for (gate in gates) {
@@ -287,7 +289,7 @@ data class QuantumCircuit(
                 QuantumGateType.ROTATION_X -> sb.appendLine("rx(${gate.parameter}) q[${gate.targetQubit}];")
                 QuantumGateType.ROTATION_Y -> sb.appendLine("ry(${gate.parameter}) q[${gate.targetQubit}];")
                 QuantumGateType.ROTATION_Z -> sb.appendLine("rz(${gate.parameter}) q[${gate.targetQubit}];")
-                QuantumGateType.MEASURE -> sb.appendLine("measure q[${gate.targetQubit}] -> c[${gate.targetQubit}];")
+                QuantumGateType.MEASURE -> sb.appendLine("measure q[${gate.targetQubit}] -> c[${gate.classicalBit ?: gate.targetQubit}];")
             }
         }
 
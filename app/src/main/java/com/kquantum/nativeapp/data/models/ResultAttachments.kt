@@ -0,0 +1,317 @@
+/**
+ * K-QuantumNative - Result Attachments
+ * Compact binary encoding of state vectors and measurement histograms in job results
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import java.io.ByteArrayOutputStream
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.Base64
+import java.util.zip.DataFormatException
+import java.util.zip.Deflater
+import java.util.zip.Inflater
+
+/**
+ * Amplitudes of an n-qubit state as interleaved `re, im` pairs. A dense vector stores all
+ * 2^n basis states; a sparse one stores only the basis states listed in [indices], in
+ * ascending order.
+ */
+class StateVector(
+    val qubitCount: Int,
+    private val amplitudes: DoubleArray,
+    private val indices: IntArray? = null
+) {
+    init {
+        require(qubitCount in 0..StateVectorLimits.MAX_QUBITS) { "Unsupported qubit count $qubitCount" }
+        require(amplitudes.size == 2 * (indices?.size ?: (1 shl qubitCount))) { "Amplitude count mismatch" }
+    }
+
+    val dimension: Int get() = 1 shl qubitCount
+
+    val isSparse: Boolean get() = indices != null
+
+    // Number of stored amplitudes
+    val storedCount: Int get() = amplitudes.size / 2
+
+    fun basisState(slot: Int): Int = indices?.get(slot) ?: slot
+
+    fun real(slot: Int): Double = amplitudes[2 * slot]
+
+    fun imaginary(slot: Int): Double = amplitudes[2 * slot + 1]
+
+    fun probability(slot: Int): Double {
+        val re = amplitudes[2 * slot]
+        val im = amplitudes[2 * slot + 1]
+        return re * re + im * im
+    }
+
+    /**
+     * Amplitude of basis state [index], or zero when a sparse vector does not store it.
+     */
+    fun amplitude(index: Int): ComplexNumber {
+        val slot = if (indices != null) indices.binarySearch(index) else index
+        if (slot < 0) return ComplexNumber(0.0, 0.0)
+        return ComplexNumber(real(slot), imaginary(slot))
+    }
+
+    fun countNonZero(epsilon: Double = 0.0): Int =
+        (0 until storedCount).count { probability(it) > epsilon * epsilon }
+
+    fun toComplexList(): List<ComplexNumber> = List(dimension) { amplitude(it) }
+
+    companion object {
+        fun fromComplex(values: List<ComplexNumber>): StateVector {
+            val qubits = Integer.numberOfTrailingZeros(values.size)
+            require(values.size == 1 shl qubits) { "State vector length ${values.size} is not a power of two" }
+            val amplitudes = DoubleArray(values.size * 2)
+            values.forEachIndexed { i, c ->
+                amplitudes[2 * i] = c.real
+                amplitudes[2 * i + 1] = c.imaginary
+            }
+            return StateVector(qubits, amplitudes)
+        }
+    }
+}
+
+object StateVectorLimits {
+    // Dense vectors beyond this would not fit in a single DoubleArray
+    const val MAX_QUBITS = 29
+}
+
+/**
+ * Binary layout shared by result attachments (little-endian):
+ *
+ * ```
+ * u16 magic | u8 version | u8 flags | u32 uncompressed payload length | payload
+ * ```
+ *
+ * When [FLAG_DEFLATE] is set the payload is zlib-compressed. Attachments travel inside JSON
+ * as base64 strings and are only decoded when a screen asks for them.
+ */
+object ResultAttachmentCodec {
+    private const val STATE_MAGIC: Short = 0x5653 // "SV"
+    private const val COUNTS_MAGIC: Short = 0x4348 // "HC"
+    private const val VERSION: Byte = 1
+    private const val HEADER_BYTES = 2 + 1 + 1 + 4
+
+    private const val FLAG_SPARSE = 0x01
+    private const val FLAG_DEFLATE = 0x02
+
+    // Below this size compression rarely pays for its header
+    private const val MIN_DEFLATE_BYTES = 256
+
+    // Largest payload decoded: a dense 22-qubit state vector. The length field is read
+    // before any payload, so it is checked against this before allocating.
+    private const val MAX_PAYLOAD_BYTES = 64 * 1024 * 1024
+
+    // zlib cannot expand input by more than about 1032:1
+    private const val MAX_DEFLATE_RATIO = 1032L
+
+    fun encodeStateVector(vector: StateVector, compress: Boolean = true, epsilon: Double = 1e-12): ByteArray {
+        val threshold = epsilon * epsilon
+        var kept = 0
+        for (slot in 0 until vector.storedCount) if (vector.probability(slot) > threshold) kept++
+        // Sparse entries cost 20 bytes against 16 per dense amplitude
+        val sparse = kept * 20L < vector.dimension * 16L
+
+        val payload = if (sparse) {
+            val buffer = ByteBuffer.allocate(8 + kept * 20).order(ByteOrder.LITTLE_ENDIAN)
+            buffer.putInt(vector.qubitCount)
+            buffer.putInt(kept)
+            val amplitudesAt = 8 + kept * 4
+            var entry = 0
+            for (slot in 0 until vector.storedCount) {
+                if (vector.probability(slot) <= threshold) continue
+                buffer.putInt(8 + entry * 4, vector.basisState(slot))
+                buffer.putDouble(amplitudesAt + entry * 16, vector.real(slot))
+                buffer.putDouble(amplitudesAt + entry * 16 + 8, vector.imaginary(slot))
+                entry++
+            }
+            buffer
+        } else {
+            // Freshly allocated buffers are zeroed, so only stored amplitudes are written
+            val buffer = ByteBuffer.allocate(8 + vector.dimension * 16).order(ByteOrder.LITTLE_ENDIAN)
+            buffer.putInt(vector.qubitCount)
+            buffer.putInt(vector.dimension)
+            for (slot in 0 until vector.storedCount) {
+                val at = 8 + vector.basisState(slot) * 16
+                buffer.putDouble(at, vector.real(slot))
+                buffer.putDouble(at + 8, vector.imaginary(slot))
+            }
+            buffer
+        }
+        return frame(STATE_MAGIC, payload.array(), if (sparse) FLAG_SPARSE else 0, compress)
+    }
+
+    /**
+     * @throws IllegalArgumentException if [bytes] is not a state vector attachment
+     */
+    fun decodeStateVector(bytes: ByteArray): StateVector {
+        val (flags, buffer) = unframe(STATE_MAGIC, bytes)
+        val qubits = buffer.getInt()
+        val count = buffer.getInt()
+        require(qubits in 0..StateVectorLimits.MAX_QUBITS) { "Unsupported qubit count $qubits" }
+
+        return if (flags and FLAG_SPARSE != 0) {
+            require(count in 0..(1 shl qubits) && buffer.remaining() >= count * 20L) { "Truncated state vector" }
+            val indices = IntArray(count) { buffer.getInt() }
+            for (i in 1 until count) require(indices[i] > indices[i - 1]) { "Unordered sparse indices" }
+            require(count == 0 || indices[count - 1] < (1 shl qubits)) { "Sparse index out of range" }
+            StateVector(qubits, DoubleArray(count * 2) { buffer.getDouble() }, indices)
+        } else {
+            require(count == 1 shl qubits && buffer.remaining() >= count * 16L) { "Truncated state vector" }
+            StateVector(qubits, DoubleArray(count * 2) { buffer.getDouble() })
+        }
+    }
+
+    /**
+     * Encodes bitstring counts as sorted basis-state indices with varint deltas. Bitstrings
+     * wider than 63 bits cannot be indexed and are rejected.
+     */
+    fun encodeCounts(counts: Map<String, Int>, compress: Boolean = true): ByteArray {
+        val width = counts.keys.maxOfOrNull { it.length } ?: 0
+        require(width <= OutcomeHistogram.MAX_WIDTH) { "Bitstrings wider than 63 bits are not supported" }
+        val entries = counts.entries
+            .filter { it.value > 0 }
+            .map { java.lang.Long.parseUnsignedLong(it.key, 2) to it.value }
+            .sortedBy { it.first }
+
+        val out = ByteArrayOutputStream(8 + entries.size * 4)
+        out.writeVarLong(width.toLong())
+        out.writeVarLong(entries.size.toLong())
+        var previous = 0L
+        entries.forEach { (index, count) ->
+            out.writeVarLong(index - previous)
+            out.writeVarLong(count.toLong())
+            previous = index
+        }
+        return frame(COUNTS_MAGIC, out.toByteArray(), 0, compress)
+    }
+
+    /**
+     * @throws IllegalArgumentException if [bytes] is not a counts attachment
+     */
+    fun decodeHistogram(bytes: ByteArray): OutcomeHistogram {
+        val (_, buffer) = unframe(COUNTS_MAGIC, bytes)
+        val width = buffer.readVarLong()
+        val size = buffer.readVarLong()
+        // Every entry takes at least two bytes, which bounds the table before it is allocated
+        require(width in 0..OutcomeHistogram.MAX_WIDTH && size in 0..buffer.remaining() / 2L) {
+            "Malformed counts attachment"
+        }
+
+        val histogram = OutcomeHistogram(width.toInt(), size.toInt())
+        var index = 0L
+        repeat(size.toInt()) {
+            index += buffer.readVarLong()
+            val count = buffer.readVarLong()
+            require(index >= 0 && count in 0..Int.MAX_VALUE) { "Malformed counts attachment" }
+            histogram.add(index, count.toInt())
+        }
+        return histogram
+    }
+
+    fun decodeCounts(bytes: ByteArray): Map<String, Int> = decodeHistogram(bytes).toCountMap()
+
+    fun encodeBase64(bytes: ByteArray): String = Base64.getEncoder().encodeToString(bytes)
+
+    fun decodeBase64(text: String): ByteArray = try {
+        Base64.getDecoder().decode(text)
+    } catch (e: IllegalArgumentException) {
+        throw IllegalArgumentException("Attachment is not valid base64", e)
+    }
+
+    private fun frame(magic: Short, payload: ByteArray, flags: Int, compress: Boolean): ByteArray {
+        val deflated = if (compress && payload.size >= MIN_DEFLATE_BYTES) deflate(payload) else null
+        val body = deflated?.takeIf { it.size < payload.size } ?: payload
+        val finalFlags = if (body !== payload) flags or FLAG_DEFLATE else flags
+
+        return ByteBuffer.allocate(HEADER_BYTES + body.size).order(ByteOrder.LITTLE_ENDIAN)
+            .putShort(magic)
+            .put(VERSION)
+            .put(finalFlags.toByte())
+            .putInt(payload.size)
+            .put(body)
+            .array()
+    }
+
+    private fun unframe(magic: Short, bytes: ByteArray): Pair<Int, ByteBuffer> {
+        val header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+        require(bytes.size >= HEADER_BYTES) { "Truncated attachment" }
+        require(header.getShort() == magic) { "Unexpected attachment type" }
+        val version = header.get()
+        require(version == VERSION) { "Unsupported attachment version $version" }
+        val flags = header.get().toInt() and 0xFF
+        val length = header.getInt()
+        require(length in 0..MAX_PAYLOAD_BYTES) { "Malformed attachment length" }
+
+        val payload = if (flags and FLAG_DEFLATE != 0) {
+            require(length <= (bytes.size - HEADER_BYTES) * MAX_DEFLATE_RATIO) { "Malformed attachment length" }
+            inflate(bytes, HEADER_BYTES, length)
+        } else {
+            require(bytes.size - HEADER_BYTES == length) { "Truncated attachment" }
+            bytes.copyOfRange(HEADER_BYTES, bytes.size)
+        }
+        return flags to ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN)
+    }
+
+    private fun deflate(input: ByteArray): ByteArray {
+        val deflater = Deflater(Deflater.BEST_SPEED)
+        try {
+            deflater.setInput(input)
+            deflater.finish()
+            val out = ByteArrayOutputStream(input.size / 2)
+            val chunk = ByteArray(8192)
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk))
+            }
+            return out.toByteArray()
+        } finally {
+            deflater.end()
+        }
+    }
+
+    private fun inflate(input: ByteArray, offset: Int, length: Int): ByteArray {
+        val inflater = Inflater()
+        try {
+            inflater.setInput(input, offset, input.size - offset)
+            val out = ByteArray(length)
+            var written = 0
+            while (written < length) {
+                val n = inflater.inflate(out, written, length - written)
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) break
+                written += n
+            }
+            require(written == length && inflater.finished()) { "Corrupt compressed attachment" }
+            return out
+        } catch (e: DataFormatException) {
+            throw IllegalArgumentException("Corrupt compressed attachment", e)
+        } finally {
+            inflater.end()
+        }
+    }
+
+    private fun ByteArrayOutputStream.writeVarLong(value: Long) {
+        var v = value
+        while (v and 0x7FL.inv() != 0L) {
+            write(((v and 0x7F) or 0x80).toInt())
+            v = v ushr 7
+        }
+        write(v.toInt())
+    }
+
+    private fun ByteBuffer.readVarLong(): Long {
+        var result = 0L
+        var shift = 0
+        while (shift < 64) {
+            require(hasRemaining()) { "Truncated counts attachment" }
+            val b = get().toInt() and 0xFF
+            result = result or ((b and 0x7F).toLong() shl shift)
+            if (b and 0x80 == 0) return result
+            shift += 7
+        }
+        throw IllegalArgumentException("Malformed varint")
+    }
+}
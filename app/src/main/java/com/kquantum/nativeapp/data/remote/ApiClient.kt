@@ -5,17 +5,17 @@
  */
 package com.kquantum.nativeapp.data.remote
 
-import com.jakewharton.retrofit2.converter.kotlinx.serialization.asConverterFactory
 import com.kquantum.nativeapp.BuildConfig
 import com.kquantum.nativeapp.data.models.*
-import kotlinx.serialization.json.Json
-import okhttp3.MediaType.Companion.toMediaType
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import okhttp3.HttpUrl.Companion.toHttpUrl
 import okhttp3.OkHttpClient
 import okhttp3.logging.HttpLoggingInterceptor
 import retrofit2.Response
 import retrofit2.Retrofit
 import retrofit2.http.*
-import java.util.concurrent.TimeUnit
+import java.io.IOException
 import javax.inject.Inject
 import javax.inject.Singleton
 
@@ -51,11 +51,16 @@ interface QuantumApiService {
     suspend fun getUserStats(): Response<UserStatsResponse>
 
     // Learning endpoints
+    @Headers(WireFormat.ACCEPT_BINARY)
     @GET("api/v1/learning/tracks")
     suspend fun getLearningTracks(): Response<List<LearningTrack>>
 
+    @Headers(WireFormat.ACCEPT_BINARY)
     @GET("api/v1/learning/levels/{track}")
-    suspend fun getLevelsForTrack(@Path("track") track: String): Response<List<LearningLevel>>
+    suspend fun getLevelsForTrack(
+        @Path("track") track: String,
+        @Header("Cache-Control") cacheControl: String? = null
+    ): Response<List<LearningLevel>>
 
     @POST("api/v1/learning/progress/complete/{levelId}")
     suspend fun completeLevel(
@@ -68,6 +73,7 @@ interface QuantumApiService {
     suspend fun addXp(@Body request: ProgressUpdateRequest): Response<UserProgress>
 
     // Achievements endpoints
+    @Headers(WireFormat.ACCEPT_BINARY)
     @GET("api/v1/achievements/")
     suspend fun getAchievements(): Response<List<AchievementResponse>>
 
@@ -80,19 +86,18 @@ interface QuantumApiService {
 
     @GET("api/v1/payment/subscription/status")
     suspend fun getSubscriptionStatus(): Response<SubscriptionSyncResponse>
+
+    // Aggregated first-load data: stats, tracks, achievements and subscription
+    @Headers(WireFormat.ACCEPT_BINARY)
+    @GET("api/v1/bootstrap/home")
+    suspend fun getHomeBootstrap(): Response<HomeBootstrapResponse>
 }
 
 @Singleton
 class ApiClient @Inject constructor(
-    private val tokenManager: TokenManager
+    private val tokenManager: TokenManager,
+    httpClient: OkHttpClient
 ) {
-    private val json = Json {
-        ignoreUnknownKeys = true
-        isLenient = true
-        encodeDefaults = true
-        coerceInputValues = true
-    }
-
     private val loggingInterceptor = HttpLoggingInterceptor().apply {
         level = if (BuildConfig.DEBUG_MODE) {
             HttpLoggingInterceptor.Level.BODY
@@ -109,40 +114,84 @@ class ApiClient @Inject constructor(
             originalRequest.newBuilder()
                 .header("Authorization", "Bearer $token")
                 .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
+                .defaultAccept(originalRequest)
                 .build()
         } else {
             originalRequest.newBuilder()
                 .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
+                .defaultAccept(originalRequest)
                 .build()
         }
 
-        val response = chain.proceed(newRequest)
+        // A 401 is handled by the authenticator, which refreshes the token and replays
+        chain.proceed(newRequest)
+    }
 
-        // Clear token on 401 Unauthorized
-        if (response.code == 401) {
-            tokenManager.clearToken()
-        }
+    private val baseUrl = (BuildConfig.API_BASE_URL + "/").toHttpUrl()
 
-        response
+    // Endpoints that negotiate a binary format set their own Accept
+    private fun okhttp3.Request.Builder.defaultAccept(original: okhttp3.Request) = apply {
+        if (original.header("Accept") == null) header("Accept", WireFormat.JSON)
     }
 
-    private val okHttpClient = OkHttpClient.Builder()
+    // Shares the connection pool and dispatcher of the injected stack
+    private val okHttpClient = httpClient.newBuilder()
         .addInterceptor(authInterceptor)
         .addInterceptor(loggingInterceptor)
-        .connectTimeout(30, TimeUnit.SECONDS)
-        .readTimeout(60, TimeUnit.SECONDS)
-        .writeTimeout(60, TimeUnit.SECONDS)
+        .addNetworkInterceptor(CatalogCacheInterceptor())
+        // The refresh call goes through the plain stack, which has no authenticator
+        .authenticator(TokenAuthenticator(tokenManager, httpClient, TokenAuthenticator.refreshUrl(baseUrl)))
         .build()
 
     private val retrofit = Retrofit.Builder()
-        .baseUrl(BuildConfig.API_BASE_URL + "/")
+        .baseUrl(baseUrl)
         .client(okHttpClient)
-        .addConverterFactory(json.asConverterFactory("application/json".toMediaType()))
+        .addConverterFactory(NegotiatingConverterFactory())
         .build()
 
     val api: QuantumApiService = retrofit.create(QuantumApiService::class.java)
+
+    private val singleFlight = SingleFlight()
+
+    /**
+     * [safeApiCall] for idempotent reads: concurrent calls with the same [key] (endpoint plus
+     * arguments) share one request, and its success is reused for a few seconds.
+     */
+    suspend fun <T> shared(key: String, call: suspend () -> Response<T>): ApiResult<T> =
+        singleFlight.run(key) { safeApiCall(call) }
+
+    /**
+     * Forces the next [shared] call for [key] to hit the network
+     */
+    fun invalidate(key: String) {
+        singleFlight.invalidate(key)
+    }
+
+    /**
+     * Drops every cached response, on disk and in memory, so the next account on this
+     * device cannot read the previous one's data through the offline cache
+     */
+    suspend fun clearCache() {
+        listOf(KEY_USER_STATS, KEY_ACHIEVEMENTS, KEY_SUBSCRIPTION_STATUS, KEY_HOME_BOOTSTRAP)
+            .forEach { invalidate(it) }
+        withContext(Dispatchers.IO) {
+            try {
+                okHttpClient.cache?.evictAll()
+            } catch (e: IOException) {
+                // The cache directory is gone or unreadable; nothing left to leak
+            }
+        }
+    }
+
+    companion object {
+        const val KEY_USER_STATS = "GET api/v1/users/me/stats"
+        const val KEY_LEARNING_TRACKS = "GET api/v1/learning/tracks"
+        const val KEY_ACHIEVEMENTS = "GET api/v1/achievements"
+        const val KEY_SUBSCRIPTION_STATUS = "GET api/v1/payment/subscription/status"
+        const val KEY_HOME_BOOTSTRAP = "GET api/v1/bootstrap/home"
+
+        fun levelsKey(track: String) = "GET api/v1/learning/levels/$track"
+    }
 }
 
 sealed class ApiResult<out T> {
@@ -163,9 +212,10 @@ suspend fun <T> safeApiCall(call: suspend () -> Response<T>): ApiResult<T> {
             } ?: ApiResult.Error("Empty response body")
         } else {
             val errorBody = response.errorBody()?.string()
+            // Decoded once; a JSON body without either field still reads as unknown
             val message = try {
-                Json.decodeFromString<ApiErrorResponse>(errorBody ?: "").detail
-                    ?: Json.decodeFromString<ApiErrorResponse>(errorBody ?: "").message
+                NetworkJson.decodeFromString<ApiErrorResponse>(errorBody ?: "")
+                    .let { it.detail ?: it.message }
                     ?: "Unknown error"
             } catch (e: Exception) {
                 errorBody ?: "Unknown error"
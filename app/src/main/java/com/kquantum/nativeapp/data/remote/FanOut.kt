@@ -0,0 +1,123 @@
+/**
+ * K-QuantumNative - Fan-Out
+ * Runs independent API calls concurrently with per-call timeouts and timings
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.withTimeoutOrNull
+
+enum class CallOutcome {
+    SUCCESS,
+    ERROR,
+    TIMEOUT
+}
+
+data class CallTiming(
+    val name: String,
+    val elapsedMs: Long,
+    val outcome: CallOutcome
+)
+
+/**
+ * Typed handle to one call's result in a [FanOutResult]
+ */
+class CallKey<T> internal constructor(val name: String)
+
+class FanOutResult internal constructor(
+    private val results: Map<String, ApiResult<*>>,
+    val timings: List<CallTiming>,
+    // Close to the slowest call, not the sum of all of them
+    val wallTimeMs: Long
+) {
+    @Suppress("UNCHECKED_CAST")
+    operator fun <T> get(key: CallKey<T>): ApiResult<T> = results.getValue(key.name) as ApiResult<T>
+
+    val failed: List<String> get() = timings.filter { it.outcome != CallOutcome.SUCCESS }.map { it.name }
+
+    val isComplete: Boolean get() = failed.isEmpty()
+
+    /**
+     * Sum of the individual call times; compare with [wallTimeMs] to see what running them
+     * concurrently saved.
+     */
+    val sequentialTimeMs: Long get() = timings.sumOf { it.elapsedMs }
+
+    /**
+     * One-line latency breakdown for logs, e.g.
+     * `wall 412 ms, sequential 905 ms: stats 210 ms, tracks 412 ms, subscription 283 ms TIMEOUT`
+     */
+    fun latencyBreakdown(): String = timings.joinToString(
+        prefix = "wall $wallTimeMs ms, sequential $sequentialTimeMs ms: "
+    ) { timing ->
+        "${timing.name} ${timing.elapsedMs} ms" + if (timing.outcome == CallOutcome.SUCCESS) "" else " ${timing.outcome}"
+    }
+}
+
+/**
+ * Runs independent calls concurrently and waits for all of them. A call that fails, throws
+ * or exceeds its timeout yields [ApiResult.Error] for that call only; the others still
+ * complete, so callers can use whatever succeeded.
+ *
+ *     val fanOut = FanOut()
+ *     val stats = fanOut.call("stats") { safeApiCall { api.getUserStats() } }
+ *     val tracks = fanOut.call("tracks", timeoutMs = 3_000) { safeApiCall { api.getLearningTracks() } }
+ *     val result = fanOut.run()
+ *     (result[stats] as? ApiResult.Success)?.let { ... }
+ */
+class FanOut(private val defaultTimeoutMs: Long = 10_000) {
+
+    private class Call(
+        val name: String,
+        val timeoutMs: Long,
+        val block: suspend () -> ApiResult<*>
+    )
+
+    private val calls = mutableListOf<Call>()
+
+    fun <T> call(
+        name: String,
+        timeoutMs: Long = defaultTimeoutMs,
+        block: suspend () -> ApiResult<T>
+    ): CallKey<T> {
+        require(calls.none { it.name == name }) { "Duplicate call name: $name" }
+        calls += Call(name, timeoutMs, block)
+        return CallKey(name)
+    }
+
+    suspend fun run(): FanOutResult {
+        val start = System.nanoTime()
+
+        val outcomes = coroutineScope {
+            calls.map { call -> async { execute(call) } }.awaitAll()
+        }
+
+        return FanOutResult(
+            results = calls.indices.associate { calls[it].name to outcomes[it].first },
+            timings = outcomes.map { it.second },
+            wallTimeMs = (System.nanoTime() - start) / 1_000_000
+        )
+    }
+
+    private suspend fun execute(call: Call): Pair<ApiResult<*>, CallTiming> {
+        val start = System.nanoTime()
+        val result = try {
+            withTimeoutOrNull(call.timeoutMs) { call.block() }
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            ApiResult.Error(e.message ?: "Network error")
+        }
+        val elapsedMs = (System.nanoTime() - start) / 1_000_000
+        return when (result) {
+            null -> ApiResult.Error("${call.name} timed out after ${call.timeoutMs} ms") to
+                CallTiming(call.name, elapsedMs, CallOutcome.TIMEOUT)
+            is ApiResult.Success -> result to CallTiming(call.name, elapsedMs, CallOutcome.SUCCESS)
+            else -> result to CallTiming(call.name, elapsedMs, CallOutcome.ERROR)
+        }
+    }
+}
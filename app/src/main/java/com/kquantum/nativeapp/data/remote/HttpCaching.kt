@@ -0,0 +1,64 @@
+/**
+ * K-QuantumNative - HTTP Caching
+ * Cache policy for catalog endpoints
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import okhttp3.CacheControl
+import okhttp3.Interceptor
+import okhttp3.Response
+import java.util.concurrent.TimeUnit
+
+object CachePolicy {
+    const val CACHE_SIZE_BYTES = 20L * 1024 * 1024
+
+    // Learning content changes with app releases, not per request
+    const val CATALOG_MAX_AGE_SECONDS = 300
+
+    // How old a cached catalog may be and still be shown while offline
+    const val OFFLINE_MAX_STALE_SECONDS = 7 * 24 * 60 * 60
+
+    /**
+     * Request header value that answers from disk only, accepting copies up to
+     * [OFFLINE_MAX_STALE_SECONDS] old. A miss comes back as 504 without touching the network.
+     */
+    val OFFLINE_FROM_CACHE: String = CacheControl.Builder()
+        .onlyIfCached()
+        .maxStale(OFFLINE_MAX_STALE_SECONDS, TimeUnit.SECONDS)
+        .build()
+        .toString()
+
+    private const val LEARNING_PREFIX = "/api/v1/learning/"
+    private const val ACHIEVEMENTS_PREFIX = "/api/v1/achievements"
+
+    /**
+     * Cache-Control to store a catalog response under when the server sent none, or null
+     * for endpoints that are not catalogs.
+     */
+    fun catalogCacheControl(method: String, path: String): String? = when {
+        method != "GET" -> null
+        path.startsWith(LEARNING_PREFIX) -> "public, max-age=$CATALOG_MAX_AGE_SECONDS"
+        // Unlock state is per user: keep a copy for offline use but revalidate every time
+        path.startsWith(ACHIEVEMENTS_PREFIX) -> "private, max-age=0"
+        else -> null
+    }
+}
+
+/**
+ * Network interceptor that makes catalog responses cacheable. Headers the server sends win;
+ * ETags pass through untouched, so expired entries are revalidated with If-None-Match and a
+ * 304 costs no payload.
+ */
+class CatalogCacheInterceptor : Interceptor {
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val response = chain.proceed(request)
+        val policy = CachePolicy.catalogCacheControl(request.method, request.url.encodedPath)
+        if (policy == null || response.header("Cache-Control") != null) return response
+        return response.newBuilder()
+            .removeHeader("Pragma")
+            .header("Cache-Control", policy)
+            .build()
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * K-QuantumNative - HTTP Stack
+ * Shared OkHttp client with pooled connections and per-host limits
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import okhttp3.Cache
+import okhttp3.ConnectionPool
+import okhttp3.Dispatcher
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import java.io.File
+import java.util.concurrent.TimeUnit
+
+/**
+ * The process-wide HTTP stack. Feature clients derive from it with `newBuilder()`, which
+ * keeps the connection pool, dispatcher, disk cache and event listener shared.
+ */
+object HttpStack {
+    private const val MAX_IDLE_CONNECTIONS = 8
+    private const val KEEP_ALIVE_MINUTES = 5L
+    private const val MAX_REQUESTS = 64
+    private const val MAX_REQUESTS_PER_HOST = 8
+
+    fun create(metrics: NetworkMetrics, cacheDir: File? = null): OkHttpClient = OkHttpClient.Builder()
+        .cache(cacheDir?.let { Cache(File(it, "http"), CachePolicy.CACHE_SIZE_BYTES) })
+        .connectionPool(ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+        .dispatcher(Dispatcher().apply {
+            maxRequests = MAX_REQUESTS
+            maxRequestsPerHost = MAX_REQUESTS_PER_HOST
+        })
+        .protocols(listOf(Protocol.HTTP_2, Protocol.HTTP_1_1))
+        // Keeps idle HTTP/2 connections from being silently dropped by middleboxes
+        .pingInterval(30, TimeUnit.SECONDS)
+        .eventListenerFactory(metrics)
+        .connectTimeout(15, TimeUnit.SECONDS)
+        .readTimeout(60, TimeUnit.SECONDS)
+        .writeTimeout(60, TimeUnit.SECONDS)
+        .build()
+}
@@ -0,0 +1,71 @@
+/**
+ * K-QuantumNative - Network JSON
+ * Shared Json configuration and a Retrofit converter that decodes straight from the body stream
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.KSerializer
+import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.decodeFromStream
+import kotlinx.serialization.json.encodeToStream
+import kotlinx.serialization.serializer
+import okhttp3.MediaType
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.RequestBody
+import okhttp3.RequestBody.Companion.toRequestBody
+import okhttp3.ResponseBody
+import okio.Buffer
+import retrofit2.Converter
+import retrofit2.Retrofit
+import java.lang.reflect.Type
+
+/**
+ * The Json configuration for every API response. Building a Json instance is not free and
+ * each one caches serializer lookups separately, so it is created once and shared.
+ */
+val NetworkJson: Json = Json {
+    ignoreUnknownKeys = true
+    isLenient = true
+    encodeDefaults = true
+    coerceInputValues = true
+}
+
+/**
+ * Decodes response bodies with [Json.decodeFromStream] as they arrive, instead of first
+ * reading the whole body into a String the way the stock kotlinx converter does. Large
+ * lists are never held twice in memory.
+ */
+@OptIn(ExperimentalSerializationApi::class)
+class StreamingJsonConverterFactory(
+    private val json: Json = NetworkJson,
+    private val contentType: MediaType = "application/json".toMediaType()
+) : Converter.Factory() {
+
+    override fun responseBodyConverter(
+        type: Type,
+        annotations: Array<out Annotation>,
+        retrofit: Retrofit
+    ): Converter<ResponseBody, *> {
+        val serializer = json.serializersModule.serializer(type)
+        return Converter<ResponseBody, Any?> { body ->
+            body.use { json.decodeFromStream(serializer, it.byteStream()) }
+        }
+    }
+
+    override fun requestBodyConverter(
+        type: Type,
+        parameterAnnotations: Array<out Annotation>,
+        methodAnnotations: Array<out Annotation>,
+        retrofit: Retrofit
+    ): Converter<*, RequestBody> {
+        @Suppress("UNCHECKED_CAST")
+        val serializer = json.serializersModule.serializer(type) as KSerializer<Any?>
+        return Converter<Any?, RequestBody> { value ->
+            val buffer = Buffer()
+            json.encodeToStream(serializer, value, buffer.outputStream())
+            buffer.readByteString().toRequestBody(contentType)
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * K-QuantumNative - Network Metrics
+ * Connection reuse and DNS/TLS timings collected from the shared HTTP stack
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import okhttp3.Call
+import okhttp3.Connection
+import okhttp3.EventListener
+import okhttp3.Handshake
+import okhttp3.Protocol
+import okhttp3.OkHttpClient
+import java.io.IOException
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Proxy
+import java.util.concurrent.atomic.AtomicLong
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Aggregate counters for every call made through the shared [OkHttpClient]. A call that
+ * acquires a connection without connecting first reused a pooled one.
+ */
+@Singleton
+class NetworkMetrics @Inject constructor() : EventListener.Factory {
+
+    data class Snapshot(
+        val calls: Long,
+        val failedCalls: Long,
+        val reusedConnections: Long,
+        val newConnections: Long,
+        val http2Connections: Long,
+        val dnsLookups: Long,
+        val averageDnsMs: Double,
+        val tlsHandshakes: Long,
+        val averageTlsMs: Double,
+        val averageConnectMs: Double,
+        val averageCallMs: Double
+    ) {
+        val reuseRatio: Double
+            get() = (reusedConnections + newConnections).let { if (it == 0L) 0.0 else reusedConnections.toDouble() / it }
+    }
+
+    private val calls = AtomicLong()
+    private val failedCalls = AtomicLong()
+    private val reusedConnections = AtomicLong()
+    private val newConnections = AtomicLong()
+    private val http2Connections = AtomicLong()
+    private val dnsLookups = AtomicLong()
+    private val dnsNanos = AtomicLong()
+    private val tlsHandshakes = AtomicLong()
+    private val tlsNanos = AtomicLong()
+    private val connectNanos = AtomicLong()
+    private val callNanos = AtomicLong()
+
+    override fun create(call: Call): EventListener = CallListener()
+
+    fun snapshot(): Snapshot {
+        val connected = newConnections.get()
+        val finished = calls.get()
+        return Snapshot(
+            calls = finished,
+            failedCalls = failedCalls.get(),
+            reusedConnections = reusedConnections.get(),
+            newConnections = connected,
+            http2Connections = http2Connections.get(),
+            dnsLookups = dnsLookups.get(),
+            averageDnsMs = averageMs(dnsNanos, dnsLookups.get()),
+            tlsHandshakes = tlsHandshakes.get(),
+            averageTlsMs = averageMs(tlsNanos, tlsHandshakes.get()),
+            averageConnectMs = averageMs(connectNanos, connected),
+            averageCallMs = averageMs(callNanos, finished)
+        )
+    }
+
+    private fun averageMs(total: AtomicLong, count: Long): Double =
+        if (count == 0L) 0.0 else total.get() / 1_000_000.0 / count
+
+    /**
+     * One per call; OkHttp delivers a call's events sequentially, so plain fields suffice.
+     */
+    private inner class CallListener : EventListener() {
+        private var callStart = 0L
+        private var dnsStart = 0L
+        private var connectStart = 0L
+        private var secureStart = 0L
+        private var connected = false
+
+        override fun callStart(call: Call) {
+            callStart = System.nanoTime()
+        }
+
+        override fun dnsStart(call: Call, domainName: String) {
+            dnsStart = System.nanoTime()
+        }
+
+        override fun dnsEnd(call: Call, domainName: String, inetAddressList: List<InetAddress>) {
+            dnsLookups.incrementAndGet()
+            dnsNanos.addAndGet(System.nanoTime() - dnsStart)
+        }
+
+        override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+            connectStart = System.nanoTime()
+            connected = true
+        }
+
+        override fun secureConnectStart(call: Call) {
+            secureStart = System.nanoTime()
+        }
+
+        override fun secureConnectEnd(call: Call, handshake: Handshake?) {
+            tlsHandshakes.incrementAndGet()
+            tlsNanos.addAndGet(System.nanoTime() - secureStart)
+        }
+
+        override fun connectEnd(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy, protocol: Protocol?) {
+            connectNanos.addAndGet(System.nanoTime() - connectStart)
+        }
+
+        override fun connectionAcquired(call: Call, connection: Connection) {
+            if (connected) {
+                newConnections.incrementAndGet()
+                if (connection.protocol() == Protocol.HTTP_2) http2Connections.incrementAndGet()
+            } else {
+                reusedConnections.incrementAndGet()
+            }
+            // Redirects and retries acquire again
+            connected = false
+        }
+
+        override fun callEnd(call: Call) {
+            finish()
+        }
+
+        override fun callFailed(call: Call, ioe: IOException) {
+            failedCalls.incrementAndGet()
+            finish()
+        }
+
+        private fun finish() {
+            calls.incrementAndGet()
+            callNanos.addAndGet(System.nanoTime() - callStart)
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * K-QuantumNative - Single Flight
+ * Shares one in-flight request, and its fresh result, among identical callers
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Callers asking for the same key while a request for it is running await that request
+ * instead of starting another. A successful result is then served for [freshForMs] without
+ * any request; errors are never reused.
+ *
+ * The shared request runs in its own scope, so one caller giving up does not cancel it for
+ * the others. [invalidate] also detaches a request already in flight: its callers still get
+ * its result, but it is not cached and later callers start a new request.
+ */
+class SingleFlight(
+    private val freshForMs: Long = DEFAULT_FRESH_FOR_MS,
+    private val clock: () -> Long = System::currentTimeMillis
+) {
+
+    companion object {
+        const val DEFAULT_FRESH_FOR_MS = 5_000L
+    }
+
+    private class Fresh(val result: ApiResult<*>, val at: Long)
+
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private val inFlight = ConcurrentHashMap<String, Deferred<ApiResult<*>>>()
+    private val fresh = ConcurrentHashMap<String, Fresh>()
+
+    // Bumped by invalidate, so a request started before a write cannot cache its result
+    private val generations = ConcurrentHashMap<String, Long>()
+
+    @Suppress("UNCHECKED_CAST")
+    suspend fun <T> run(key: String, block: suspend () -> ApiResult<T>): ApiResult<T> {
+        fresh[key]?.let { entry ->
+            if (clock() - entry.at < freshForMs) return entry.result as ApiResult<T>
+            fresh.remove(key, entry)
+        }
+
+        // Started only once it is published, so it cannot finish and unregister first
+        val generation = generations[key] ?: 0L
+        val created = scope.async(start = CoroutineStart.LAZY) {
+            block().also { result ->
+                if (result is ApiResult.Success) cacheIfCurrent(key, generation, Fresh(result, clock()))
+            }
+        }
+        val shared = inFlight.putIfAbsent(key, created) ?: created
+        if (shared === created) {
+            created.invokeOnCompletion { inFlight.remove(key, created) }
+            // An invalidate between reading the generation and publishing still detaches it
+            if ((generations[key] ?: 0L) != generation) inFlight.remove(key, created)
+            created.start()
+        } else {
+            created.cancel()
+        }
+        return shared.await() as ApiResult<T>
+    }
+
+    /**
+     * Drops the fresh result for [key], e.g. after a write that changes it, and detaches any
+     * request for it still in flight
+     */
+    fun invalidate(key: String) {
+        generations.merge(key, 1L) { current, bump -> current + bump }
+        inFlight.remove(key)
+        fresh.remove(key)
+    }
+
+    private fun cacheIfCurrent(key: String, generation: Long, entry: Fresh) {
+        // Checked and written atomically against invalidate's bump
+        generations.compute(key) { _, current ->
+            if ((current ?: 0L) == generation) fresh[key] = entry
+            current
+        }
+    }
+}
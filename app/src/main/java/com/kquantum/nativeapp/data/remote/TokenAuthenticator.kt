@@ -0,0 +1,110 @@
+/**
+ * K-QuantumNative - Token Authenticator
+ * Refreshes an expired access token once and replays the requests that hit the 401
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import com.kquantum.nativeapp.data.models.AuthResponse
+import com.kquantum.nativeapp.data.models.RefreshTokenRequest
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.json.decodeFromStream
+import okhttp3.Authenticator
+import okhttp3.HttpUrl
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody.Companion.toRequestBody
+import okhttp3.Response
+import okhttp3.Route
+
+/**
+ * OkHttp calls [authenticate] for every 401. Requests failing together wait on one lock:
+ * the first refreshes the token, and the rest find a token newer than the one they were
+ * sent with and replay with it, so a burst of 401s costs a single refresh call.
+ *
+ * Only a refresh the server rejects ends the session, through [SessionTokenStore.expireSession].
+ * When the refresh cannot reach the server, the original 401 is returned and the session
+ * is kept for the next attempt.
+ */
+class TokenAuthenticator(
+    private val tokenManager: SessionTokenStore,
+    // Must not carry this authenticator, or a 401 from the refresh endpoint would recurse
+    private val refreshClient: OkHttpClient,
+    private val refreshUrl: HttpUrl
+) : Authenticator {
+
+    companion object {
+        private const val REFRESH_PATH = "api/v1/auth/refresh"
+
+        // The original attempt plus one replay with a fresh token
+        private const val MAX_ATTEMPTS = 2
+
+        fun refreshUrl(baseUrl: HttpUrl): HttpUrl = baseUrl.resolve(REFRESH_PATH)!!
+    }
+
+    private sealed class Refresh {
+        class Refreshed(val accessToken: String) : Refresh()
+        object Rejected : Refresh()
+        object Unreachable : Refresh()
+    }
+
+    private val lock = Any()
+
+    override fun authenticate(route: Route?, response: Response): Request? {
+        val sentToken = response.request.header("Authorization")?.removePrefix("Bearer ")
+            // Sent without credentials; a token cannot help
+            ?: return null
+        if (attempts(response) >= MAX_ATTEMPTS) return null
+
+        synchronized(lock) {
+            val current = tokenManager.getToken() ?: return null
+            if (current != sentToken) return response.request.withToken(current)
+
+            return when (val refresh = refresh()) {
+                is Refresh.Refreshed -> response.request.withToken(refresh.accessToken)
+                Refresh.Rejected -> {
+                    tokenManager.expireSession()
+                    null
+                }
+                Refresh.Unreachable -> null
+            }
+        }
+    }
+
+    @OptIn(ExperimentalSerializationApi::class)
+    private fun refresh(): Refresh {
+        val refreshToken = tokenManager.getRefreshToken() ?: return Refresh.Rejected
+        val body = NetworkJson.encodeToString(RefreshTokenRequest.serializer(), RefreshTokenRequest(refreshToken))
+        val request = Request.Builder()
+            .url(refreshUrl)
+            .header("Accept", WireFormat.JSON)
+            .post(body.toRequestBody(WireFormat.JSON.toMediaType()))
+            .build()
+
+        return try {
+            refreshClient.newCall(request).execute().use { response ->
+                when {
+                    response.isSuccessful -> {
+                        val auth = NetworkJson.decodeFromStream(AuthResponse.serializer(), response.body!!.byteStream())
+                        tokenManager.saveToken(auth.accessToken)
+                        // Servers that rotate refresh tokens send a new one; others keep the old
+                        auth.refreshToken?.let { tokenManager.saveRefreshToken(it) }
+                        Refresh.Refreshed(auth.accessToken)
+                    }
+                    response.code in 400..499 && response.code != 408 && response.code != 429 -> Refresh.Rejected
+                    else -> Refresh.Unreachable
+                }
+            }
+        } catch (e: Exception) {
+            // Network failure, or a success body that could not be read
+            Refresh.Unreachable
+        }
+    }
+
+    private fun Request.withToken(token: String): Request =
+        newBuilder().header("Authorization", "Bearer $token").build()
+
+    private fun attempts(response: Response): Int =
+        generateSequence(response) { it.priorResponse }.count()
+}
@@ -11,22 +11,40 @@ import android.content.SharedPreferences
 import androidx.security.crypto.EncryptedSharedPreferences
 import androidx.security.crypto.MasterKey
 import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.flow.MutableSharedFlow
+import kotlinx.coroutines.flow.SharedFlow
+import kotlinx.coroutines.flow.asSharedFlow
 import javax.inject.Inject
 import javax.inject.Singleton
 
+/**
+ * The token operations [TokenAuthenticator] needs
+ */
+interface SessionTokenStore {
+    fun getToken(): String?
+    fun saveToken(token: String)
+    fun getRefreshToken(): String?
+    fun saveRefreshToken(token: String)
+    fun expireSession()
+}
+
 @Singleton
 class TokenManager @Inject constructor(
     @ApplicationContext private val context: Context
-) {
+) : SessionTokenStore {
     companion object {
         private const val PREFS_NAME = "kquantum_secure_prefs"
         private const val KEY_AUTH_TOKEN = "auth_token"
+        private const val KEY_REFRESH_TOKEN = "refresh_token"
         private const val KEY_USER_ID = "user_id"
         private const val KEY_USERNAME = "username"
         private const val KEY_EMAIL = "email"
         private const val KEY_IS_ADMIN = "is_admin"
     }
 
+    private val _sessionExpired = MutableSharedFlow<Unit>(extraBufferCapacity = 1)
+    val sessionExpired: SharedFlow<Unit> = _sessionExpired.asSharedFlow()
+
     private val masterKey = MasterKey.Builder(context)
         .setKeyScheme(MasterKey.KeyScheme.AES256_GCM)
         .build()
@@ -41,16 +59,33 @@ class TokenManager @Inject constructor(
         )
     }
 
-    fun saveToken(token: String) {
+    override fun saveToken(token: String) {
         encryptedPrefs.edit().putString(KEY_AUTH_TOKEN, token).apply()
     }
 
-    fun getToken(): String? {
+    override fun getToken(): String? {
         return encryptedPrefs.getString(KEY_AUTH_TOKEN, null)
     }
 
+    override fun saveRefreshToken(token: String) {
+        encryptedPrefs.edit().putString(KEY_REFRESH_TOKEN, token).apply()
+    }
+
+    override fun getRefreshToken(): String? {
+        return encryptedPrefs.getString(KEY_REFRESH_TOKEN, null)
+    }
+
     fun clearToken() {
-        encryptedPrefs.edit().remove(KEY_AUTH_TOKEN).apply()
+        encryptedPrefs.edit().remove(KEY_AUTH_TOKEN).remove(KEY_REFRESH_TOKEN).apply()
+    }
+
+    /**
+     * Drops the tokens after the server refused to refresh them; [sessionExpired] tells
+     * the auth layer to sign the user out.
+     */
+    override fun expireSession() {
+        clearToken()
+        _sessionExpired.tryEmit(Unit)
     }
 
     fun hasToken(): Boolean {
@@ -0,0 +1,76 @@
+/**
+ * K-QuantumNative - Wire Format
+ * CBOR negotiation for high-volume endpoints, with JSON as the fallback
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.cbor.Cbor
+import kotlinx.serialization.serializer
+import okhttp3.MediaType
+import okhttp3.RequestBody
+import okhttp3.ResponseBody
+import retrofit2.Converter
+import retrofit2.Retrofit
+import java.lang.reflect.Type
+
+object WireFormat {
+    const val JSON = "application/json"
+    const val CBOR = "application/cbor"
+
+    /**
+     * Opts an endpoint into CBOR: `@Headers(WireFormat.ACCEPT_BINARY)`. Servers that only
+     * speak JSON ignore the preference and the response is decoded as JSON.
+     */
+    const val ACCEPT_BINARY = "Accept: $CBOR, $JSON;q=0.9"
+
+    fun isCbor(contentType: MediaType?): Boolean =
+        contentType != null && contentType.type == "application" && contentType.subtype == "cbor"
+}
+
+/**
+ * CBOR for the same @Serializable models as [NetworkJson]; field names are kept, so a model
+ * change never needs a separate schema.
+ */
+@OptIn(ExperimentalSerializationApi::class)
+val NetworkCbor: Cbor = Cbor {
+    ignoreUnknownKeys = true
+    encodeDefaults = true
+}
+
+/**
+ * Decodes each response in the format the server actually chose, going by its Content-Type:
+ * CBOR when an endpoint asked for it and the server agreed, JSON otherwise. Request bodies
+ * stay JSON.
+ */
+@OptIn(ExperimentalSerializationApi::class)
+class NegotiatingConverterFactory(
+    private val cbor: Cbor = NetworkCbor,
+    private val jsonFactory: StreamingJsonConverterFactory = StreamingJsonConverterFactory()
+) : Converter.Factory() {
+
+    override fun responseBodyConverter(
+        type: Type,
+        annotations: Array<out Annotation>,
+        retrofit: Retrofit
+    ): Converter<ResponseBody, *> {
+        val serializer = cbor.serializersModule.serializer(type)
+        val jsonConverter = jsonFactory.responseBodyConverter(type, annotations, retrofit)
+        return Converter<ResponseBody, Any?> { body ->
+            if (WireFormat.isCbor(body.contentType())) {
+                body.use { cbor.decodeFromByteArray(serializer, it.bytes()) }
+            } else {
+                jsonConverter.convert(body)
+            }
+        }
+    }
+
+    override fun requestBodyConverter(
+        type: Type,
+        parameterAnnotations: Array<out Annotation>,
+        methodAnnotations: Array<out Annotation>,
+        retrofit: Retrofit
+    ): Converter<*, RequestBody> =
+        jsonFactory.requestBodyConverter(type, parameterAnnotations, methodAnnotations, retrofit)
+}
@@ -0,0 +1,91 @@
+/**
+ * K-QuantumNative - Achievement Repository
+ * Offline-first achievements backed by Room
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.repository
+
+import com.kquantum.nativeapp.data.local.AchievementDao
+import com.kquantum.nativeapp.data.local.AchievementEntity
+import com.kquantum.nativeapp.data.models.Achievement
+import com.kquantum.nativeapp.data.models.AchievementResponse
+import com.kquantum.nativeapp.data.remote.ApiClient
+import com.kquantum.nativeapp.data.remote.ApiResult
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import javax.inject.Inject
+import javax.inject.Singleton
+
+@Singleton
+class AchievementRepository @Inject constructor(
+    private val achievementDao: AchievementDao,
+    private val apiClient: ApiClient
+) {
+    private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
+
+    // Refreshes and local unlocks both read-modify-write the table
+    private val writeLock = Mutex()
+
+    val achievements: Flow<List<Achievement>> = achievementDao.observeAll()
+        .map { rows -> rows.mapNotNull { decode(it) } }
+        .flowOn(Dispatchers.Default)
+
+    suspend fun isEmpty(): Boolean = achievementDao.getAll().isEmpty()
+
+    /**
+     * Fetches achievements and merges them in with [store]
+     */
+    suspend fun refresh(): ApiResult<List<Achievement>> {
+        val remoteList = when (val result = apiClient.shared(ApiClient.KEY_ACHIEVEMENTS) { apiClient.api.getAchievements() }) {
+            is ApiResult.Success -> result.data
+            is ApiResult.Error -> return result
+            ApiResult.Loading -> return ApiResult.Error("Request did not complete")
+        }
+
+        return ApiResult.Success(store(remoteList))
+    }
+
+    /**
+     * Merges a server list, keeping local unlocks the server has not seen yet. Returns the
+     * list as stored.
+     */
+    suspend fun store(remoteList: List<AchievementResponse>): List<Achievement> = writeLock.withLock {
+        val local = achievementDao.getAll().mapNotNull { decode(it) }.associateBy { it.id }
+        val merged = remoteList.map { response ->
+            val remote = response.toAchievement()
+            val localUnlock = local[remote.id]?.unlockedDate
+            if (remote.unlockedDate == null && localUnlock != null) remote.copy(unlockedDate = localUnlock) else remote
+        }
+        achievementDao.merge(toRows(merged))
+        merged
+    }
+
+    /**
+     * Replaces the stored list, e.g. after unlocking one entry locally
+     */
+    suspend fun save(achievements: List<Achievement>) {
+        writeLock.withLock { achievementDao.merge(toRows(achievements)) }
+    }
+
+    suspend fun clear() {
+        writeLock.withLock { achievementDao.clear() }
+    }
+
+    private fun toRows(achievements: List<Achievement>): List<AchievementEntity> =
+        achievements.mapIndexed { index, achievement ->
+            AchievementEntity(id = achievement.id, position = index, payload = json.encodeToString(achievement))
+        }
+
+    private fun decode(row: AchievementEntity): Achievement? =
+        try {
+            json.decodeFromString<Achievement>(row.payload)
+        } catch (e: Exception) {
+            null
+        }
+}
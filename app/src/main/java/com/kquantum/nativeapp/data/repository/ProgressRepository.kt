@@ -0,0 +1,97 @@
+/**
+ * K-QuantumNative - Progress Repository
+ * Offline-first user progress backed by Room
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.repository
+
+import com.kquantum.nativeapp.data.local.OutboxDao
+import com.kquantum.nativeapp.data.local.ProgressDao
+import com.kquantum.nativeapp.data.local.ProgressEntity
+import com.kquantum.nativeapp.data.models.UserProgress
+import com.kquantum.nativeapp.data.models.UserStatsResponse
+import com.kquantum.nativeapp.data.remote.ApiClient
+import com.kquantum.nativeapp.data.remote.ApiResult
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import javax.inject.Inject
+import javax.inject.Singleton
+
+@Singleton
+class ProgressRepository @Inject constructor(
+    private val progressDao: ProgressDao,
+    private val outboxDao: OutboxDao,
+    private val apiClient: ApiClient
+) {
+    private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
+
+    private val writeLock = Mutex()
+
+    val progress: Flow<UserProgress> = progressDao.observe()
+        .map { row -> row?.let { decode(it) } ?: UserProgress() }
+        .distinctUntilChanged()
+
+    suspend fun isEmpty(): Boolean = progressDao.get() == null
+
+    /**
+     * Applies [transform] to the stored progress atomically and returns the result
+     */
+    suspend fun update(transform: (UserProgress) -> UserProgress): UserProgress = writeLock.withLock {
+        val row = progressDao.get()
+        val current = row?.let { decode(it) } ?: UserProgress()
+        val updated = transform(current)
+        if (updated != current || row == null) {
+            progressDao.upsert(ProgressEntity(payload = json.encodeToString(updated), syncedAt = row?.syncedAt))
+        }
+        updated
+    }
+
+    /**
+     * Fetches server stats and folds them into the stored progress. Only the fields the
+     * server owns are overwritten; completed levels, streak dates and the rest stay local.
+     */
+    suspend fun refresh(): ApiResult<UserProgress> {
+        val stats = when (val result = apiClient.shared(ApiClient.KEY_USER_STATS) { apiClient.api.getUserStats() }) {
+            is ApiResult.Success -> result.data
+            is ApiResult.Error -> return result
+            ApiResult.Loading -> return ApiResult.Error("Request did not complete")
+        }
+
+        return ApiResult.Success(applyStats(stats))
+    }
+
+    /**
+     * Folds server stats into the stored progress and returns the result. XP still waiting
+     * in the sync outbox is added on top, since the server has not counted it yet.
+     */
+    suspend fun applyStats(stats: UserStatsResponse): UserProgress = writeLock.withLock {
+        val current = progressDao.get()?.let { decode(it) } ?: UserProgress()
+        val merged = current.mergeStats(stats, outboxDao.pendingXp())
+        progressDao.upsert(ProgressEntity(payload = json.encodeToString(merged), syncedAt = System.currentTimeMillis()))
+        merged
+    }
+
+    suspend fun clear() {
+        writeLock.withLock { progressDao.clear() }
+    }
+
+    private fun UserProgress.mergeStats(stats: UserStatsResponse, pendingXp: Int): UserProgress = copy(
+        totalXp = stats.totalXp + pendingXp,
+        currentLevel = stats.currentLevel,
+        currentStreak = stats.currentStreak,
+        longestStreak = stats.longestStreak,
+        studyTimeMinutes = stats.totalStudyTimeMinutes
+    )
+
+    private fun decode(row: ProgressEntity): UserProgress? =
+        try {
+            json.decodeFromString<UserProgress>(row.payload)
+        } catch (e: Exception) {
+            null
+        }
+}
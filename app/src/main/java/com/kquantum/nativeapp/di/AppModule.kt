@@ -5,25 +5,82 @@
 package com.kquantum.nativeapp.di
 
 import android.content.Context
+import com.kquantum.nativeapp.data.local.AchievementDao
+import com.kquantum.nativeapp.data.local.AppDatabase
+import com.kquantum.nativeapp.data.local.OutboxDao
+import com.kquantum.nativeapp.data.local.ProgressDao
+import com.kquantum.nativeapp.data.local.TrackDao
 import com.kquantum.nativeapp.data.remote.ApiClient
+import com.kquantum.nativeapp.data.remote.HttpStack
+import com.kquantum.nativeapp.data.remote.NetworkMetrics
 import com.kquantum.nativeapp.data.remote.TokenManager
+import com.kquantum.nativeapp.data.repository.AchievementRepository
+import com.kquantum.nativeapp.data.repository.LearningRepository
+import com.kquantum.nativeapp.data.repository.ProgressRepository
 import com.kquantum.nativeapp.services.achievement.AchievementService
 import com.kquantum.nativeapp.services.auth.AuthService
 import com.kquantum.nativeapp.services.billing.BillingService
+import com.kquantum.nativeapp.services.bootstrap.HomeBootstrapService
+import com.kquantum.nativeapp.services.bridge.BridgeConfig
+import com.kquantum.nativeapp.services.bridge.BridgeJobStore
+import com.kquantum.nativeapp.services.bridge.BridgeJobTracker
+import com.kquantum.nativeapp.services.bridge.BridgeJobWorker
+import com.kquantum.nativeapp.services.bridge.CreditLedger
+import com.kquantum.nativeapp.services.bridge.ReadoutMitigator
 import com.kquantum.nativeapp.services.bridge.QuantumBridgeService
 import com.kquantum.nativeapp.services.learning.LearningService
 import com.kquantum.nativeapp.services.progress.ProgressService
+import com.kquantum.nativeapp.services.progress.ProgressSyncQueue
 import dagger.Module
 import dagger.Provides
 import dagger.hilt.InstallIn
 import dagger.hilt.android.qualifiers.ApplicationContext
 import dagger.hilt.components.SingletonComponent
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import okhttp3.OkHttpClient
 import javax.inject.Singleton
 
 @Module
 @InstallIn(SingletonComponent::class)
 object AppModule {
 
+    @Provides
+    @Singleton
+    @ApplicationScope
+    fun provideApplicationScope(): CoroutineScope {
+        return CoroutineScope(SupervisorJob() + Dispatchers.Default)
+    }
+
+    @Provides
+    @Singleton
+    fun provideAppDatabase(
+        @ApplicationContext context: Context
+    ): AppDatabase {
+        return AppDatabase.create(context)
+    }
+
+    @Provides
+    fun provideTrackDao(database: AppDatabase): TrackDao {
+        return database.trackDao()
+    }
+
+    @Provides
+    fun provideAchievementDao(database: AppDatabase): AchievementDao {
+        return database.achievementDao()
+    }
+
+    @Provides
+    fun provideProgressDao(database: AppDatabase): ProgressDao {
+        return database.progressDao()
+    }
+
+    @Provides
+    fun provideOutboxDao(database: AppDatabase): OutboxDao {
+        return database.outboxDao()
+    }
+
     @Provides
     @Singleton
     fun provideTokenManager(
@@ -32,21 +89,41 @@ object AppModule {
         return TokenManager(context)
     }
 
+    @Provides
+    @Singleton
+    fun provideNetworkMetrics(): NetworkMetrics {
+        return NetworkMetrics()
+    }
+
+    @Provides
+    @Singleton
+    fun provideOkHttpClient(
+        @ApplicationContext context: Context,
+        metrics: NetworkMetrics
+    ): OkHttpClient {
+        return HttpStack.create(metrics, context.cacheDir)
+    }
+
     @Provides
     @Singleton
     fun provideApiClient(
-        tokenManager: TokenManager
+        tokenManager: TokenManager,
+        httpClient: OkHttpClient
     ): ApiClient {
-        return ApiClient(tokenManager)
+        return ApiClient(tokenManager, httpClient)
     }
 
     @Provides
     @Singleton
     fun provideAuthService(
         apiClient: ApiClient,
-        tokenManager: TokenManager
+        tokenManager: TokenManager,
+        syncQueue: ProgressSyncQueue,
+        progressRepository: ProgressRepository,
+        achievementRepository: AchievementRepository,
+        @ApplicationScope scope: CoroutineScope
     ): AuthService {
-        return AuthService(apiClient, tokenManager)
+        return AuthService(apiClient, tokenManager, syncQueue, progressRepository, achievementRepository, scope)
     }
 
     @Provides
@@ -60,33 +137,132 @@ object AppModule {
 
     @Provides
     @Singleton
-    fun provideQuantumBridgeService(): QuantumBridgeService {
-        return QuantumBridgeService()
+    fun provideBridgeJobStore(
+        @ApplicationContext context: Context
+    ): BridgeJobStore {
+        return BridgeJobStore(context)
     }
 
     @Provides
     @Singleton
-    fun provideProgressService(
+    fun provideBridgeJobTracker(
+        @ApplicationContext context: Context
+    ): BridgeJobTracker {
+        return BridgeJobTracker { BridgeJobWorker.enqueue(context) }
+    }
+
+    @Provides
+    @Singleton
+    fun provideCreditLedger(
+        @ApplicationContext context: Context
+    ): CreditLedger {
+        return CreditLedger(context)
+    }
+
+    @Provides
+    @Singleton
+    fun provideReadoutMitigator(): ReadoutMitigator {
+        return ReadoutMitigator()
+    }
+
+    @Provides
+    @Singleton
+    fun provideBridgeConfig(): BridgeConfig {
+        return BridgeConfig.fromBuildConfig()
+    }
+
+    @Provides
+    @Singleton
+    fun provideQuantumBridgeService(
+        jobStore: BridgeJobStore,
+        creditLedger: CreditLedger,
+        readoutMitigator: ReadoutMitigator,
+        jobTracker: BridgeJobTracker,
+        httpClient: OkHttpClient,
+        config: BridgeConfig
+    ): QuantumBridgeService {
+        return QuantumBridgeService(jobStore, creditLedger, readoutMitigator, jobTracker, httpClient, config)
+    }
+
+    @Provides
+    @Singleton
+    fun provideLearningRepository(
+        trackDao: TrackDao,
+        apiClient: ApiClient
+    ): LearningRepository {
+        return LearningRepository(trackDao, apiClient)
+    }
+
+    @Provides
+    @Singleton
+    fun provideAchievementRepository(
+        achievementDao: AchievementDao,
+        apiClient: ApiClient
+    ): AchievementRepository {
+        return AchievementRepository(achievementDao, apiClient)
+    }
+
+    @Provides
+    @Singleton
+    fun provideProgressRepository(
+        progressDao: ProgressDao,
+        outboxDao: OutboxDao,
+        apiClient: ApiClient
+    ): ProgressRepository {
+        return ProgressRepository(progressDao, outboxDao, apiClient)
+    }
+
+    @Provides
+    @Singleton
+    fun provideProgressSyncQueue(
         @ApplicationContext context: Context,
+        outboxDao: OutboxDao,
         apiClient: ApiClient
+    ): ProgressSyncQueue {
+        return ProgressSyncQueue(context, outboxDao, apiClient)
+    }
+
+    @Provides
+    @Singleton
+    fun provideProgressService(
+        @ApplicationContext context: Context,
+        progressRepository: ProgressRepository,
+        syncQueue: ProgressSyncQueue,
+        @ApplicationScope scope: CoroutineScope
     ): ProgressService {
-        return ProgressService(context, apiClient)
+        return ProgressService(context, progressRepository, syncQueue, scope)
     }
 
     @Provides
     @Singleton
     fun provideLearningService(
-        apiClient: ApiClient
+        apiClient: ApiClient,
+        learningRepository: LearningRepository,
+        @ApplicationScope scope: CoroutineScope
     ): LearningService {
-        return LearningService(apiClient)
+        return LearningService(apiClient, learningRepository, scope)
+    }
+
+    @Provides
+    @Singleton
+    fun provideHomeBootstrapService(
+        apiClient: ApiClient,
+        learningRepository: LearningRepository,
+        achievementRepository: AchievementRepository,
+        progressRepository: ProgressRepository,
+        billingService: BillingService
+    ): HomeBootstrapService {
+        return HomeBootstrapService(apiClient, learningRepository, achievementRepository, progressRepository, billingService)
     }
 
     @Provides
     @Singleton
     fun provideAchievementService(
         @ApplicationContext context: Context,
-        apiClient: ApiClient
+        achievementRepository: AchievementRepository,
+        syncQueue: ProgressSyncQueue,
+        @ApplicationScope scope: CoroutineScope
     ): AchievementService {
-        return AchievementService(context, apiClient)
+        return AchievementService(context, achievementRepository, syncQueue, scope)
     }
 }
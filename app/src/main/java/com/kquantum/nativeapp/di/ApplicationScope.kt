@@ -0,0 +1,14 @@
+/**
+ * K-QuantumNative - Application Scope Qualifier
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.di
+
+import javax.inject.Qualifier
+
+/**
+ * CoroutineScope that lives as long as the process, for work that must outlast any screen
+ */
+@Qualifier
+@Retention(AnnotationRetention.BINARY)
+annotation class ApplicationScope
@@ -5,6 +5,7 @@
  */
 package com.kquantum.nativeapp.presentation.screens
 
+import androidx.compose.foundation.Canvas
 import androidx.compose.foundation.background
 import androidx.compose.foundation.clickable
 import androidx.compose.foundation.layout.*
@@ -18,13 +19,19 @@ import androidx.compose.runtime.*
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
+import androidx.compose.ui.geometry.Offset
+import androidx.compose.ui.geometry.Size
 import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
 import androidx.hilt.navigation.compose.hiltViewModel
+import androidx.lifecycle.compose.collectAsStateWithLifecycle
+import com.kquantum.nativeapp.data.models.BridgeJobResults
 import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import com.kquantum.nativeapp.data.models.NoiseSnapshot
 import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QubitNoiseStatus
 import com.kquantum.nativeapp.presentation.theme.*
 import com.kquantum.nativeapp.presentation.viewmodels.BridgeUiState
 import com.kquantum.nativeapp.presentation.viewmodels.BridgeViewModel
@@ -41,8 +48,11 @@ fun BridgeScreen(
     val selectedBackend by viewModel.selectedBackend.collectAsState()
     val circuitQasm by viewModel.circuitQasm.collectAsState()
     val shots by viewModel.shots.collectAsState()
-    val noiseData by viewModel.noiseData.collectAsState()
+    // Lifecycle-aware so the noise pipeline stops while the screen is in the background
+    val noiseData by viewModel.noiseData.collectAsStateWithLifecycle()
     val showBackendPicker by viewModel.showBackendPicker.collectAsState()
+    val autoRouting by viewModel.autoRouting.collectAsState()
+    val routeToSimulators by viewModel.routeToSimulators.collectAsState()
     val isLoading by viewModel.isLoading.collectAsState()
 
     Scaffold(
@@ -106,11 +116,15 @@ fun BridgeScreen(
                     ConnectedContent(
                         backends = availableBackends,
                         selectedBackend = selectedBackend,
+                        autoRouting = autoRouting,
+                        routeToSimulators = routeToSimulators,
                         circuitQasm = circuitQasm,
                         shots = shots,
                         noiseData = noiseData,
                         sampleCircuits = viewModel.sampleCircuits,
                         onBackendSelect = { viewModel.showBackendPicker() },
+                        onAutoRoutingChange = { viewModel.setAutoRouting(it) },
+                        onRouteToSimulatorsChange = { viewModel.setRouteToSimulators(it) },
                         onCircuitChange = { viewModel.updateCircuitQasm(it) },
                         onShotsChange = { viewModel.updateShots(it) },
                         onLoadSample = { viewModel.loadSampleCircuit(it) },
@@ -130,7 +144,7 @@ fun BridgeScreen(
                 is BridgeUiState.Completed -> {
                     val results = (uiState as BridgeUiState.Completed).results
                     CompletedContent(
-                        counts = results.measurements,
+                        results = results,
                         onNewJob = { viewModel.resetToIdle() },
                         onBack = onNavigateBack
                     )
@@ -212,11 +226,15 @@ private fun IdleContent(onConnect: () -> Unit) {
 private fun ConnectedContent(
     backends: List<QuantumBackend>,
     selectedBackend: QuantumBackend?,
+    autoRouting: Boolean,
+    routeToSimulators: Boolean,
     circuitQasm: String,
     shots: Int,
     noiseData: com.kquantum.nativeapp.data.models.RealTimeNoiseData?,
     sampleCircuits: List<Pair<String, String>>,
     onBackendSelect: () -> Unit,
+    onAutoRoutingChange: (Boolean) -> Unit,
+    onRouteToSimulatorsChange: (Boolean) -> Unit,
     onCircuitChange: (String) -> Unit,
     onShotsChange: (Int) -> Unit,
     onLoadSample: (String) -> Unit,
@@ -299,6 +317,69 @@ private fun ConnectedContent(
                     )
                 }
             }
+            Spacer(modifier = Modifier.height(8.dp))
+            Row(
+                modifier = Modifier.fillMaxWidth(),
+                horizontalArrangement = Arrangement.SpaceBetween,
+                verticalAlignment = Alignment.CenterVertically
+            ) {
+                Column(modifier = Modifier.weight(1f)) {
+                    Text(
+                        text = "Auto-select fastest backend",
+                        style = MaterialTheme.typography.titleSmall,
+                        color = TextPrimary
+                    )
+                    Text(
+                        text = "Routes by queue length and fidelity",
+                        style = MaterialTheme.typography.bodySmall,
+                        color = TextSecondary
+                    )
+                }
+                Switch(
+                    checked = autoRouting,
+                    onCheckedChange = onAutoRoutingChange,
+                    colors = SwitchDefaults.colors(checkedTrackColor = QuantumBlue)
+                )
+            }
+            if (autoRouting) {
+                Row(
+                    modifier = Modifier.fillMaxWidth(),
+                    horizontalArrangement = Arrangement.SpaceBetween,
+                    verticalAlignment = Alignment.CenterVertically
+                ) {
+                    Column(modifier = Modifier.weight(1f)) {
+                        Text(
+                            text = "Include simulators",
+                            style = MaterialTheme.typography.titleSmall,
+                            color = TextPrimary
+                        )
+                        Text(
+                            text = "Otherwise only quantum hardware is picked",
+                            style = MaterialTheme.typography.bodySmall,
+                            color = TextSecondary
+                        )
+                    }
+                    Switch(
+                        checked = routeToSimulators,
+                        onCheckedChange = onRouteToSimulatorsChange,
+                        colors = SwitchDefaults.colors(checkedTrackColor = QuantumBlue)
+                    )
+                }
+            }
+        }
+
+        // Per-qubit noise heatmap
+        noiseData?.snapshot?.let { snapshot ->
+            item {
+                Text(
+                    text = "Qubit Noise",
+                    style = MaterialTheme.typography.titleMedium,
+                    fontWeight = FontWeight.SemiBold,
+                    color = TextPrimary
+                )
+                Spacer(modifier = Modifier.height(8.dp))
+                QubitNoiseHeatmap(snapshot = snapshot, timestamp = snapshot.timestamp)
+            }
         }
 
         // Sample circuits
@@ -395,7 +476,7 @@ private fun ConnectedContent(
                 modifier = Modifier
                     .fillMaxWidth()
                     .height(56.dp),
-                enabled = selectedBackend != null && circuitQasm.isNotBlank(),
+                enabled = (autoRouting || selectedBackend != null) && circuitQasm.isNotBlank(),
                 colors = ButtonDefaults.buttonColors(containerColor = QuantumCyan),
                 shape = RoundedCornerShape(16.dp)
             ) {
@@ -411,6 +492,61 @@ private fun ConnectedContent(
     }
 }
 
+/**
+ * Draws one cell per qubit straight from the snapshot columns, so a frame costs no
+ * allocations however many qubits the backend has. Cell brightness follows gate error.
+ */
+@Composable
+private fun QubitNoiseHeatmap(
+    snapshot: NoiseSnapshot,
+    timestamp: Long,
+    modifier: Modifier = Modifier
+) {
+    Surface(
+        modifier = modifier.fillMaxWidth(),
+        shape = RoundedCornerShape(12.dp),
+        color = DarkCard
+    ) {
+        // Keyed on the timestamp so pooled snapshots still trigger a redraw
+        key(timestamp) {
+            Canvas(
+                modifier = Modifier
+                    .fillMaxWidth()
+                    .height(120.dp)
+                    .padding(12.dp)
+            ) {
+                val qubits = snapshot.qubitCount
+                if (qubits == 0) return@Canvas
+
+                // Near-square cells filling the available area
+                val columns = kotlin.math.ceil(
+                    kotlin.math.sqrt(qubits * size.width / size.height.toDouble())
+                ).toInt().coerceIn(1, qubits)
+                val rows = (qubits + columns - 1) / columns
+                val cell = Size(size.width / columns, size.height / rows)
+
+                var maxError = 0f
+                for (i in 0 until qubits) maxError = maxOf(maxError, snapshot.gateError[i])
+
+                for (i in 0 until qubits) {
+                    val color = when (snapshot.status[i]) {
+                        QubitNoiseStatus.CRITICAL -> StatusError
+                        QubitNoiseStatus.WARNING -> StatusWarning
+                        else -> StatusSuccess
+                    }
+                    val intensity = if (maxError > 0f) snapshot.gateError[i] / maxError else 1f
+                    drawRect(
+                        color = color,
+                        topLeft = Offset((i % columns) * cell.width, (i / columns) * cell.height),
+                        size = cell,
+                        alpha = 0.25f + 0.75f * intensity
+                    )
+                }
+            }
+        }
+    }
+}
+
 @Composable
 private fun RunningContent(
     jobId: String,
@@ -466,9 +602,12 @@ private fun RunningContent(
     }
 }
 
+// Wide registers can produce thousands of distinct outcomes; list only the largest
+private const val MAX_DISPLAYED_OUTCOMES = 32
+
 @Composable
 private fun CompletedContent(
-    counts: Map<String, Int>,
+    results: BridgeJobResults,
     onNewJob: () -> Unit,
     onBack: () -> Unit
 ) {
@@ -502,8 +641,8 @@ private fun CompletedContent(
             )
         }
 
-        val totalShots = counts.values.sum()
-        items(counts.entries.toList().sortedByDescending { it.value }) { (state, count) ->
+        val totalShots = results.totalShots
+        items(results.topOutcomes(MAX_DISPLAYED_OUTCOMES)) { (state, count) ->
             val probability = count.toFloat() / totalShots
             ResultBar(
                 state = state,
@@ -9,6 +9,7 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import com.kquantum.nativeapp.data.models.*
 import com.kquantum.nativeapp.services.achievement.AchievementService
+import com.kquantum.nativeapp.services.bootstrap.HomeBootstrapService
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
@@ -18,7 +19,8 @@ import javax.inject.Inject
 
 @HiltViewModel
 class AchievementViewModel @Inject constructor(
-    private val achievementService: AchievementService
+    private val achievementService: AchievementService,
+    private val homeBootstrapService: HomeBootstrapService
 ) : ViewModel() {
 
     val achievements: StateFlow<List<Achievement>> = achievementService.achievements
@@ -35,7 +37,8 @@ class AchievementViewModel @Inject constructor(
     val newlyUnlockedAchievement: StateFlow<Achievement?> = _newlyUnlockedAchievement.asStateFlow()
 
     init {
-        loadAchievements()
+        // Usually answered by the home screen's recent bootstrap without a request
+        viewModelScope.launch { homeBootstrapService.bootstrap() }
     }
 
     fun loadAchievements() {
@@ -8,13 +8,19 @@ package com.kquantum.nativeapp.presentation.viewmodels
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import com.kquantum.nativeapp.data.models.*
+import com.kquantum.nativeapp.services.bridge.BackendRouter
+import com.kquantum.nativeapp.services.bridge.CircuitProfile
+import com.kquantum.nativeapp.services.bridge.JobPollingScheduler
+import com.kquantum.nativeapp.services.bridge.NoiseTelemetryBuffer
 import com.kquantum.nativeapp.services.bridge.QuantumBridgeService
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.stateIn
 import kotlinx.coroutines.isActive
 import kotlinx.coroutines.launch
 import javax.inject.Inject
@@ -36,7 +42,10 @@ class BridgeViewModel @Inject constructor(
     val isConnected: StateFlow<Boolean> = bridgeService.isConnected
     val availableBackends: StateFlow<List<QuantumBackend>> = bridgeService.availableBackends
     val currentJob: StateFlow<BridgeJob?> = bridgeService.currentJob
-    val noiseData: StateFlow<RealTimeNoiseData?> = bridgeService.noiseData
+    val noiseData: StateFlow<RealTimeNoiseData?> = bridgeService
+        .noiseData(NOISE_SAMPLE_INTERVAL_MS)
+        .stateIn(viewModelScope, SharingStarted.WhileSubscribed(5_000), null)
+    val noiseTelemetry: NoiseTelemetryBuffer = bridgeService.noiseTelemetry
     val isLoading: StateFlow<Boolean> = bridgeService.isLoading
     val error: StateFlow<String?> = bridgeService.error
 
@@ -52,6 +61,13 @@ class BridgeViewModel @Inject constructor(
     private val _shots = MutableStateFlow(1024)
     val shots: StateFlow<Int> = _shots.asStateFlow()
 
+    // When on, each submission goes to the backend the router predicts is fastest to a good answer
+    private val _autoRouting = MutableStateFlow(false)
+    val autoRouting: StateFlow<Boolean> = _autoRouting.asStateFlow()
+
+    private val _routeToSimulators = MutableStateFlow(false)
+    val routeToSimulators: StateFlow<Boolean> = _routeToSimulators.asStateFlow()
+
     private val _showBackendPicker = MutableStateFlow(false)
     val showBackendPicker: StateFlow<Boolean> = _showBackendPicker.asStateFlow()
 
@@ -59,7 +75,8 @@ class BridgeViewModel @Inject constructor(
     val jobHistory: StateFlow<List<BridgeJob>> = _jobHistory.asStateFlow()
 
     private var noiseMonitorJob: Job? = null
-    private var jobPollingJob: Job? = null
+    private val jobPoller = JobPollingScheduler(viewModelScope, bridgeService::getJobStatuses)
+    private val backendRouter = BackendRouter()
 
     init {
         observeConnection()
@@ -111,6 +128,14 @@ class BridgeViewModel @Inject constructor(
         startNoiseMonitoring(backend.name)
     }
 
+    fun setAutoRouting(enabled: Boolean) {
+        _autoRouting.value = enabled
+    }
+
+    fun setRouteToSimulators(enabled: Boolean) {
+        _routeToSimulators.value = enabled
+    }
+
     fun showBackendPicker() {
         _showBackendPicker.value = true
     }
@@ -128,10 +153,18 @@ class BridgeViewModel @Inject constructor(
     }
 
     fun submitJob() {
-        val backend = _selectedBackend.value ?: return
         val qasm = _circuitQasm.value
         if (qasm.isBlank()) return
 
+        val backend = if (_autoRouting.value) {
+            routeBackend(qasm) ?: run {
+                _uiState.value = BridgeUiState.Error("No available backend can run this circuit")
+                return
+            }
+        } else {
+            _selectedBackend.value ?: return
+        }
+
         viewModelScope.launch {
             val job = bridgeService.submitJob(
                 circuit = qasm,
@@ -141,38 +174,47 @@ class BridgeViewModel @Inject constructor(
 
             if (job != null) {
                 _uiState.value = BridgeUiState.Running(job)
-                _jobHistory.value = listOf(job) + _jobHistory.value
-                startJobPolling(job.id)
+                _jobHistory.value = listOf(job) + _jobHistory.value.filterNot { it.id == job.id }
+                startJobPolling(job)
             } else {
                 _uiState.value = BridgeUiState.Error("Failed to submit job")
             }
         }
     }
 
-    private fun startJobPolling(jobId: String) {
-        jobPollingJob?.cancel()
-        jobPollingJob = viewModelScope.launch {
-            while (isActive) {
-                val job = bridgeService.getJobStatus(jobId)
-                if (job != null) {
-                    when (job.status) {
-                        BridgeJobStatus.COMPLETED -> {
-                            val results = bridgeService.getJobResults(jobId)
-                            if (results != null) {
-                                _uiState.value = BridgeUiState.Completed(results)
-                            }
-                            break
-                        }
-                        BridgeJobStatus.FAILED, BridgeJobStatus.CANCELLED -> {
-                            _uiState.value = BridgeUiState.Error("Job ${job.status.name.lowercase()}")
-                            break
-                        }
-                        else -> {
-                            _uiState.value = BridgeUiState.Running(job)
+    private fun routeBackend(qasm: String): QuantumBackend? {
+        val profile = CircuitProfile.fromQasm(qasm, _shots.value)
+        val backend = backendRouter.route(
+            availableBackends.value,
+            profile,
+            bridgeService.hardwareStatus.value,
+            includeSimulators = _routeToSimulators.value
+        )?.backend ?: return null
+
+        if (backend != _selectedBackend.value) {
+            _selectedBackend.value = backend
+            startNoiseMonitoring(backend.name)
+        }
+        return backend
+    }
+
+    private fun startJobPolling(job: BridgeJob) {
+        jobPoller.track(job) { updated ->
+            when (updated.status) {
+                BridgeJobStatus.COMPLETED -> {
+                    viewModelScope.launch {
+                        val results = updated.results ?: bridgeService.getJobResults(updated.id)
+                        if (results != null) {
+                            _uiState.value = BridgeUiState.Completed(results)
                         }
                     }
                 }
-                delay(2000) // Poll every 2 seconds
+                BridgeJobStatus.FAILED, BridgeJobStatus.CANCELLED -> {
+                    _uiState.value = BridgeUiState.Error("Job ${updated.status.name.lowercase()}")
+                }
+                else -> {
+                    _uiState.value = BridgeUiState.Running(updated)
+                }
             }
         }
     }
@@ -196,7 +238,7 @@ class BridgeViewModel @Inject constructor(
         val job = currentJob.value ?: return
         viewModelScope.launch {
             bridgeService.cancelJob(job.id)
-            jobPollingJob?.cancel()
+            jobPoller.untrack(job.id)
             _uiState.value = BridgeUiState.Connected
         }
     }
@@ -252,9 +294,14 @@ class BridgeViewModel @Inject constructor(
         }
     }
 
+    companion object {
+        // The noise card refreshes at 1 Hz; faster frames would only be conflated away
+        private const val NOISE_SAMPLE_INTERVAL_MS = 1_000L
+    }
+
     override fun onCleared() {
         super.onCleared()
         noiseMonitorJob?.cancel()
-        jobPollingJob?.cancel()
+        jobPoller.stop()
     }
 }
@@ -9,12 +9,16 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import com.kquantum.nativeapp.data.models.*
 import com.kquantum.nativeapp.services.auth.AuthService
+import com.kquantum.nativeapp.services.bootstrap.HomeBootstrapService
 import com.kquantum.nativeapp.services.learning.LearningService
 import com.kquantum.nativeapp.services.progress.ProgressService
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.stateIn
 import kotlinx.coroutines.launch
 import javax.inject.Inject
 
@@ -43,20 +47,41 @@ enum class ContentType {
 class HomeViewModel @Inject constructor(
     private val authService: AuthService,
     private val progressService: ProgressService,
-    private val learningService: LearningService
+    private val learningService: LearningService,
+    private val homeBootstrapService: HomeBootstrapService
 ) : ViewModel() {
 
     val userProgress: StateFlow<UserProgress> = progressService.userProgress
     val isLoggedIn: StateFlow<Boolean> = authService.isLoggedIn
 
-    private val _dailyChallenge = MutableStateFlow<DailyChallenge?>(null)
-    val dailyChallenge: StateFlow<DailyChallenge?> = _dailyChallenge.asStateFlow()
+    // Completed in this session; progress carries it once synced
+    private val dailyChallengeCompleted = MutableStateFlow(false)
+
+    // Both follow stored progress and tracks, so a sync or a finished level updates them
+    val dailyChallenge: StateFlow<DailyChallenge?> = combine(
+        userProgress,
+        dailyChallengeCompleted
+    ) { progress, completed ->
+        todaysChallenge(progress, completed)
+    }.stateIn(
+        viewModelScope,
+        SharingStarted.WhileSubscribed(5_000),
+        todaysChallenge(userProgress.value, dailyChallengeCompleted.value)
+    )
 
     private val _featuredContent = MutableStateFlow<List<FeaturedContent>>(emptyList())
     val featuredContent: StateFlow<List<FeaturedContent>> = _featuredContent.asStateFlow()
 
-    private val _continueLearning = MutableStateFlow<LearningLevel?>(null)
-    val continueLearning: StateFlow<LearningLevel?> = _continueLearning.asStateFlow()
+    val continueLearning: StateFlow<LearningLevel?> = combine(
+        learningService.tracks,
+        userProgress
+    ) { tracks, progress ->
+        nextIncompleteLevel(tracks, progress)
+    }.stateIn(
+        viewModelScope,
+        SharingStarted.WhileSubscribed(5_000),
+        nextIncompleteLevel(learningService.tracks.value, userProgress.value)
+    )
 
     private val _isLoading = MutableStateFlow(false)
     val isLoading: StateFlow<Boolean> = _isLoading.asStateFlow()
@@ -69,30 +94,25 @@ class HomeViewModel @Inject constructor(
         viewModelScope.launch {
             _isLoading.value = true
 
-            // Load progress
-            progressService.loadProgress()
+            // Stats, tracks, achievements and subscription in one round-trip; stored data
+            // is already on screen while it runs
+            homeBootstrapService.bootstrap()
             progressService.updateStreak()
 
-            // Load daily challenge
-            loadDailyChallenge()
-
             // Load featured content
             loadFeaturedContent()
 
-            // Load continue learning
-            loadContinueLearning()
-
             _isLoading.value = false
         }
     }
 
-    private fun loadDailyChallenge() {
+    private fun todaysChallenge(progress: UserProgress, completed: Boolean): DailyChallenge {
         // Generate daily challenge based on date
         val today = java.time.LocalDate.now()
         val challengeIndex = today.dayOfYear % dailyChallenges.size
 
-        _dailyChallenge.value = dailyChallenges[challengeIndex].copy(
-            isCompleted = userProgress.value.dailyChallengeCompletedToday
+        return dailyChallenges[challengeIndex].copy(
+            isCompleted = completed || progress.dailyChallengeCompletedToday
         )
     }
 
@@ -129,30 +149,17 @@ class HomeViewModel @Inject constructor(
         )
     }
 
-    private suspend fun loadContinueLearning() {
-        val tracks = learningService.tracks.value
-        if (tracks.isEmpty()) {
-            learningService.loadTracks()
-        }
-
-        // Find next incomplete level
-        val progress = userProgress.value
-        for (track in learningService.tracks.value) {
-            for (level in track.levels) {
-                if (level.id !in progress.completedLevels) {
-                    _continueLearning.value = level
-                    return
-                }
-            }
-        }
-    }
+    private fun nextIncompleteLevel(tracks: List<LearningTrack>, progress: UserProgress): LearningLevel? =
+        tracks.asSequence()
+            .flatMap { it.levels.asSequence() }
+            .firstOrNull { it.id !in progress.completedLevels }
 
     suspend fun completeDailyChallenge() {
-        _dailyChallenge.value?.let { challenge ->
-            if (!challenge.isCompleted) {
-                progressService.addXp(challenge.xpReward, "Daily Challenge: ${challenge.title}")
-                _dailyChallenge.value = challenge.copy(isCompleted = true)
-            }
+        // Read from the sources; the derived flow may not be collected
+        val challenge = todaysChallenge(userProgress.value, dailyChallengeCompleted.value)
+        if (!challenge.isCompleted) {
+            progressService.addXp(challenge.xpReward, "Daily Challenge: ${challenge.title}")
+            dailyChallengeCompleted.value = true
         }
     }
 
@@ -13,6 +13,7 @@ import com.kquantum.nativeapp.services.progress.ProgressService
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.launch
 import javax.inject.Inject
@@ -61,8 +62,12 @@ class LearnViewModel @Inject constructor(
 
     fun loadTracks() {
         viewModelScope.launch {
-            learningService.loadTracks()
-            loadLevelsForCurrentTrack()
+            // Independent loads: wait for the slower one, not both in turn. Neither fails;
+            // each keeps the stored copy when its request does.
+            coroutineScope {
+                launch { learningService.loadTracks() }
+                launch { loadLevelsForCurrentTrack() }
+            }
         }
     }
 
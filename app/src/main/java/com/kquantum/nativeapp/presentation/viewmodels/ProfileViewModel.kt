@@ -12,6 +12,7 @@ import com.kquantum.nativeapp.services.auth.AuthService
 import com.kquantum.nativeapp.services.progress.ProgressService
 import com.kquantum.nativeapp.services.achievement.AchievementService
 import com.kquantum.nativeapp.services.billing.BillingService
+import com.kquantum.nativeapp.services.bootstrap.HomeBootstrapService
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
@@ -37,7 +38,8 @@ class ProfileViewModel @Inject constructor(
     private val authService: AuthService,
     private val progressService: ProgressService,
     private val achievementService: AchievementService,
-    private val billingService: BillingService
+    private val billingService: BillingService,
+    private val homeBootstrapService: HomeBootstrapService
 ) : ViewModel() {
 
     val currentUser: StateFlow<UserResponse?> = authService.currentUser
@@ -70,8 +72,8 @@ class ProfileViewModel @Inject constructor(
 
     private fun loadProfileData() {
         viewModelScope.launch {
-            progressService.loadProgress()
-            achievementService.loadAchievements()
+            // Reuses the home screen's load when it is recent
+            homeBootstrapService.bootstrap()
             updateStats()
         }
     }
@@ -10,15 +10,16 @@ import androidx.datastore.preferences.core.edit
 import androidx.datastore.preferences.core.stringPreferencesKey
 import androidx.datastore.preferences.preferencesDataStore
 import com.kquantum.nativeapp.data.models.*
-import com.kquantum.nativeapp.data.remote.ApiClient
-import com.kquantum.nativeapp.data.remote.ApiResult
-import com.kquantum.nativeapp.data.remote.safeApiCall
+import com.kquantum.nativeapp.data.repository.AchievementRepository
+import com.kquantum.nativeapp.di.ApplicationScope
+import com.kquantum.nativeapp.services.progress.ProgressSyncQueue
 import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.flow.first
-import kotlinx.serialization.encodeToString
+import kotlinx.coroutines.launch
 import kotlinx.serialization.json.Json
 import javax.inject.Inject
 import javax.inject.Singleton
@@ -28,7 +29,9 @@ private val Context.achievementDataStore by preferencesDataStore(name = "achieve
 @Singleton
 class AchievementService @Inject constructor(
     @ApplicationContext private val context: Context,
-    private val apiClient: ApiClient
+    private val achievementRepository: AchievementRepository,
+    private val syncQueue: ProgressSyncQueue,
+    @ApplicationScope scope: CoroutineScope
 ) {
     private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
 
@@ -42,9 +45,19 @@ class AchievementService @Inject constructor(
     val error: StateFlow<String?> = _error.asStateFlow()
 
     companion object {
+        // Pre-Room storage, imported once
         private val KEY_ACHIEVEMENTS = stringPreferencesKey("achievements")
     }
 
+    init {
+        scope.launch {
+            importLegacyAchievements()
+            achievementRepository.achievements.collect { stored ->
+                _achievements.value = stored.ifEmpty { getDefaultAchievements() }
+            }
+        }
+    }
+
     val unlockedCount: Int
         get() = _achievements.value.count { it.isUnlocked }
 
@@ -63,48 +76,28 @@ class AchievementService @Inject constructor(
             .sortedByDescending { it.unlockedDate }
             .take(5)
 
+    /**
+     * Refreshes the stored achievements; [achievements] updates only if something changed
+     */
     suspend fun loadAchievements() {
         _isLoading.value = true
         _error.value = null
 
-        val result = safeApiCall { apiClient.api.getAchievements() }
-
-        when (result) {
-            is ApiResult.Success -> {
-                _achievements.value = result.data.map { it.toAchievement() }
-                saveAchievementsLocally(_achievements.value)
-            }
-            is ApiResult.Error -> {
-                // Load from local or use defaults
-                loadAchievementsLocally()
-            }
-            else -> {}
-        }
+        // Failures keep the stored or default achievements
+        achievementRepository.refresh()
 
         _isLoading.value = false
     }
 
-    private suspend fun loadAchievementsLocally() {
-        try {
-            val prefs = context.achievementDataStore.data.first()
-            val achievementsJson = prefs[KEY_ACHIEVEMENTS]
-            if (achievementsJson != null) {
-                _achievements.value = json.decodeFromString(achievementsJson)
-            } else {
-                _achievements.value = getDefaultAchievements()
-            }
-        } catch (e: Exception) {
-            _achievements.value = getDefaultAchievements()
-        }
-    }
-
-    private suspend fun saveAchievementsLocally(achievements: List<Achievement>) {
+    private suspend fun importLegacyAchievements() {
         try {
-            context.achievementDataStore.edit { prefs ->
-                prefs[KEY_ACHIEVEMENTS] = json.encodeToString(achievements)
+            val legacy = context.achievementDataStore.data.first()[KEY_ACHIEVEMENTS] ?: return
+            if (achievementRepository.isEmpty()) {
+                achievementRepository.save(json.decodeFromString<List<Achievement>>(legacy))
             }
+            context.achievementDataStore.edit { it.remove(KEY_ACHIEVEMENTS) }
         } catch (e: Exception) {
-            // Ignore
+            // Ignore; the next refresh repopulates
         }
     }
 
@@ -120,10 +113,9 @@ class AchievementService @Inject constructor(
             if (it.id == achievementId) unlockedAchievement else it
         }
 
-        saveAchievementsLocally(_achievements.value)
+        achievementRepository.save(_achievements.value)
 
-        // Sync with server
-        safeApiCall { apiClient.api.unlockAchievement(achievementId) }
+        syncQueue.recordUnlock(achievementId)
 
         return unlockedAchievement
     }
@@ -11,16 +11,26 @@ import com.kquantum.nativeapp.data.remote.ApiClient
 import com.kquantum.nativeapp.data.remote.ApiResult
 import com.kquantum.nativeapp.data.remote.TokenManager
 import com.kquantum.nativeapp.data.remote.safeApiCall
+import com.kquantum.nativeapp.data.repository.AchievementRepository
+import com.kquantum.nativeapp.data.repository.ProgressRepository
+import com.kquantum.nativeapp.di.ApplicationScope
+import com.kquantum.nativeapp.services.progress.ProgressSyncQueue
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.launch
 import javax.inject.Inject
 import javax.inject.Singleton
 
 @Singleton
 class AuthService @Inject constructor(
     private val apiClient: ApiClient,
-    private val tokenManager: TokenManager
+    private val tokenManager: TokenManager,
+    private val syncQueue: ProgressSyncQueue,
+    private val progressRepository: ProgressRepository,
+    private val achievementRepository: AchievementRepository,
+    @ApplicationScope private val scope: CoroutineScope
 ) {
     private val _isLoggedIn = MutableStateFlow(false)
     val isLoggedIn: StateFlow<Boolean> = _isLoggedIn.asStateFlow()
@@ -39,6 +49,10 @@ class AuthService @Inject constructor(
 
     init {
         checkAuthStatus()
+        // The server refused to refresh the session; any request may have found out
+        scope.launch {
+            tokenManager.sessionExpired.collect { logout() }
+        }
     }
 
     private fun checkAuthStatus() {
@@ -109,6 +123,7 @@ class AuthService @Inject constructor(
 
     private fun handleAuthSuccess(response: AuthResponse) {
         tokenManager.saveToken(response.accessToken)
+        response.refreshToken?.let { tokenManager.saveRefreshToken(it) }
         tokenManager.saveUserInfo(response.userId, response.username, response.email)
         _isLoggedIn.value = true
         _currentUser.value = UserResponse(
@@ -138,16 +153,10 @@ class AuthService @Inject constructor(
 
         val result = safeApiCall { apiClient.api.getCurrentUser() }
 
-        when (result) {
-            is ApiResult.Success -> {
-                _currentUser.value = result.data
-            }
-            is ApiResult.Error -> {
-                if (result.code == 401) {
-                    logout()
-                }
-            }
-            else -> {}
+        // An expired token is refreshed transparently; a refused refresh signs out
+        // through sessionExpired, so a 401 here needs no handling of its own
+        if (result is ApiResult.Success) {
+            _currentUser.value = result.data
         }
 
         return result
@@ -204,6 +213,13 @@ class AuthService @Inject constructor(
         _isAdmin.value = false
         _currentUser.value = null
         _errorMessage.value = null
+        // Unsent events, cached responses and stored progress belong to the account that just left
+        scope.launch {
+            apiClient.clearCache()
+            syncQueue.clear()
+            progressRepository.clear()
+            achievementRepository.clear()
+        }
     }
 
     fun clearError() {
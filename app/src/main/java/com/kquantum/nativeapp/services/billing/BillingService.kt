@@ -245,6 +245,34 @@ class BillingService @Inject constructor(
         }
     }
 
+    /**
+     * Adopts the server's view of the subscription unless Play Billing already reports an
+     * active purchase on this device, which stays authoritative.
+     */
+    fun applyServerStatus(status: SubscriptionSyncResponse) {
+        if (_subscriptionInfo.value.isActive) return
+        if (!status.isPremium) {
+            _subscriptionInfo.value = SubscriptionInfo()
+            return
+        }
+        val tier = status.subscriptionTier?.uppercase()
+        _subscriptionInfo.value = SubscriptionInfo(
+            status = "active",
+            productId = SubscriptionProductId.entries
+                .filter { it.tier.name == tier }
+                .minByOrNull { it.sortOrder }
+                ?.productId,
+            expirationDate = status.expiresAt?.let {
+                try {
+                    java.time.Instant.parse(it).toEpochMilli()
+                } catch (_: Exception) {
+                    null
+                }
+            },
+            isAutoRenewEnabled = status.isAutoRenew
+        )
+    }
+
     suspend fun restorePurchases(): Boolean {
         updateSubscriptionStatus()
         return _subscriptionInfo.value.isActive
@@ -0,0 +1,149 @@
+/**
+ * K-QuantumNative - Home Bootstrap Service
+ * Loads stats, tracks, achievements and subscription for the first screens in one round-trip
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bootstrap
+
+import android.util.Log
+import com.kquantum.nativeapp.BuildConfig
+import com.kquantum.nativeapp.data.models.HomeBootstrapResponse
+import com.kquantum.nativeapp.data.remote.ApiClient
+import com.kquantum.nativeapp.data.remote.ApiResult
+import com.kquantum.nativeapp.data.remote.CallTiming
+import com.kquantum.nativeapp.data.remote.FanOut
+import com.kquantum.nativeapp.data.repository.AchievementRepository
+import com.kquantum.nativeapp.data.repository.LearningRepository
+import com.kquantum.nativeapp.data.repository.ProgressRepository
+import com.kquantum.nativeapp.services.billing.BillingService
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import javax.inject.Inject
+import javax.inject.Singleton
+
+enum class BootstrapMode {
+    // One aggregated request
+    AGGREGATED,
+    // Server lacks the endpoint: the individual requests, issued concurrently
+    PARALLEL
+}
+
+data class BootstrapResult(
+    val mode: BootstrapMode,
+    // Sections that could not be refreshed; their stored data is still shown
+    val failedSections: List<String>,
+    // Per-request latency breakdown in PARALLEL mode
+    val timings: List<CallTiming>,
+    val elapsedMs: Long,
+    val completedAt: Long
+) {
+    val isComplete: Boolean get() = failedSections.isEmpty()
+}
+
+/**
+ * Refreshes everything the home, profile and achievement screens show. The data goes
+ * straight into the repositories and billing state, so each service's flow updates without
+ * the screens issuing their own requests.
+ *
+ * Results are reused for [FRESH_FOR_MS], so screens opened right after home do not refetch.
+ */
+@Singleton
+class HomeBootstrapService @Inject constructor(
+    private val apiClient: ApiClient,
+    private val learningRepository: LearningRepository,
+    private val achievementRepository: AchievementRepository,
+    private val progressRepository: ProgressRepository,
+    private val billingService: BillingService
+) {
+
+    companion object {
+        const val FRESH_FOR_MS = 30_000L
+        private const val TAG = "HomeBootstrap"
+        private const val SECTION_STATS = "stats"
+        private const val SECTION_TRACKS = "tracks"
+        private const val SECTION_ACHIEVEMENTS = "achievements"
+        private const val SECTION_SUBSCRIPTION = "subscription"
+        private val ALL_SECTIONS = listOf(SECTION_STATS, SECTION_TRACKS, SECTION_ACHIEVEMENTS, SECTION_SUBSCRIPTION)
+
+        private const val PARALLEL_CALL_TIMEOUT_MS = 10_000L
+
+        // Status codes meaning the server predates the bootstrap endpoint
+        private val UNSUPPORTED_CODES = setOf(404, 405, 501)
+    }
+
+    // Concurrent callers wait for the running load and then reuse its result
+    private val loadLock = Mutex()
+
+    @Volatile
+    private var aggregatedSupported = true
+
+    @Volatile
+    private var lastResult: BootstrapResult? = null
+
+    suspend fun bootstrap(force: Boolean = false): BootstrapResult = loadLock.withLock {
+        lastResult?.takeIf { !force && System.currentTimeMillis() - it.completedAt < FRESH_FOR_MS }?.let {
+            return@withLock it
+        }
+
+        val start = System.currentTimeMillis()
+        val aggregated = if (aggregatedSupported) loadAggregated() else null
+        val mode = if (aggregated != null) BootstrapMode.AGGREGATED else BootstrapMode.PARALLEL
+        val (failed, timings) = aggregated?.let { it to emptyList<CallTiming>() } ?: loadParallel()
+
+        val now = System.currentTimeMillis()
+        BootstrapResult(mode, failed, timings, elapsedMs = now - start, completedAt = now).also {
+            // A load where every section failed is not worth reusing
+            if (!failed.containsAll(ALL_SECTIONS)) lastResult = it
+        }
+    }
+
+    /**
+     * Returns the failed sections, or null if the request itself failed and the caller
+     * should fall back to individual requests. Servers without the endpoint are remembered
+     * and not asked again.
+     */
+    private suspend fun loadAggregated(): List<String>? {
+        return when (val result = apiClient.shared(ApiClient.KEY_HOME_BOOTSTRAP) { apiClient.api.getHomeBootstrap() }) {
+            is ApiResult.Success -> apply(result.data)
+            is ApiResult.Error -> {
+                if (result.code in UNSUPPORTED_CODES) aggregatedSupported = false
+                null
+            }
+            ApiResult.Loading -> null
+        }
+    }
+
+    private suspend fun apply(response: HomeBootstrapResponse): List<String> = coroutineScope {
+        val failed = mutableListOf<String>()
+        if (response.stats == null) failed += SECTION_STATS
+        if (response.tracks == null) failed += SECTION_TRACKS
+        if (response.achievements == null) failed += SECTION_ACHIEVEMENTS
+        if (response.subscription == null) failed += SECTION_SUBSCRIPTION
+
+        response.subscription?.let { billingService.applyServerStatus(it) }
+        listOf(
+            async { response.stats?.let { progressRepository.applyStats(it) } },
+            async { response.tracks?.let { learningRepository.store(it) } },
+            async { response.achievements?.let { achievementRepository.store(it) } }
+        ).awaitAll()
+        failed
+    }
+
+    private suspend fun loadParallel(): Pair<List<String>, List<CallTiming>> {
+        val fanOut = FanOut(PARALLEL_CALL_TIMEOUT_MS)
+        fanOut.call(SECTION_STATS) { progressRepository.refresh() }
+        fanOut.call(SECTION_TRACKS) { learningRepository.refresh() }
+        fanOut.call(SECTION_ACHIEVEMENTS) { achievementRepository.refresh() }
+        fanOut.call(SECTION_SUBSCRIPTION) {
+            apiClient.shared(ApiClient.KEY_SUBSCRIPTION_STATUS) { apiClient.api.getSubscriptionStatus() }.also { result ->
+                if (result is ApiResult.Success) billingService.applyServerStatus(result.data)
+            }
+        }
+        val result = fanOut.run()
+        if (BuildConfig.DEBUG_MODE) Log.d(TAG, "Parallel bootstrap ${result.latencyBreakdown()}")
+        return result.failed to result.timings
+    }
+}
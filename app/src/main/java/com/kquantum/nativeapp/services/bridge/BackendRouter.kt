@@ -0,0 +1,198 @@
+/**
+ * K-QuantumNative - Bridge Backend Router
+ * Automatic backend selection by predicted turnaround and expected fidelity
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.HardwareStatus
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import kotlin.math.pow
+
+/**
+ * Shape of a circuit as far as routing is concerned
+ */
+data class CircuitProfile(
+    val width: Int,
+    val depth: Int,
+    val twoQubitGates: Int = 0,
+    val shots: Int = 1024
+) {
+    companion object {
+        private val QREG = Regex("""qreg\s+(\w+)\s*\[\s*(\d+)\s*]""")
+        private val QUBIT_REF = Regex("""(\w+)\s*\[\s*(\d+)\s*]""")
+        private val COMMENT = Regex("//[^\\n]*")
+        private val NON_GATE_PREFIXES = listOf(
+            "OPENQASM", "include", "qreg", "creg", "measure", "barrier", "reset"
+        )
+
+        fun fromCircuit(circuit: QuantumCircuit, shots: Int): CircuitProfile = CircuitProfile(
+            width = circuit.numberOfQubits,
+            depth = circuit.depth,
+            twoQubitGates = circuit.gates.count { it.controlQubit != null },
+            shots = shots
+        )
+
+        /**
+         * Reads width and layered depth from OpenQASM 2.0 source. Gates on disjoint qubits
+         * share a layer, so depth is the critical path rather than the gate count.
+         */
+        fun fromQasm(qasm: String, shots: Int): CircuitProfile {
+            // Comments run to the end of their line, so strip them before splitting statements
+            val source = qasm.replace(COMMENT, "")
+            val registerOffsets = mutableMapOf<String, Int>()
+            var width = 0
+            for (match in QREG.findAll(source)) {
+                registerOffsets[match.groupValues[1]] = width
+                width += match.groupValues[2].toInt()
+            }
+
+            val layer = IntArray(width)
+            var depth = 0
+            var twoQubitGates = 0
+            for (statement in source.split(';')) {
+                val line = statement.trim()
+                if (line.isEmpty() || NON_GATE_PREFIXES.any { line.startsWith(it) }) continue
+
+                val qubits = QUBIT_REF.findAll(line).mapNotNull { ref ->
+                    registerOffsets[ref.groupValues[1]]?.let { it + ref.groupValues[2].toInt() }
+                }.filter { it < width }.toList()
+                if (qubits.isEmpty()) continue
+
+                val gateLayer = qubits.maxOf { layer[it] } + 1
+                qubits.forEach { layer[it] = gateLayer }
+                depth = maxOf(depth, gateLayer)
+                if (qubits.size >= 2) twoQubitGates++
+            }
+
+            return CircuitProfile(width = width, depth = depth, twoQubitGates = twoQubitGates, shots = shots)
+        }
+    }
+}
+
+/**
+ * Routing estimate for one backend
+ */
+data class BackendScore(
+    val backend: QuantumBackend,
+    val turnaroundSeconds: Double,
+    val expectedFidelity: Double,
+    val cost: Double
+)
+
+/**
+ * Scores a backend for a circuit; lower is better.
+ */
+fun interface BackendCostFunction {
+    fun cost(
+        backend: QuantumBackend,
+        profile: CircuitProfile,
+        turnaroundSeconds: Double,
+        expectedFidelity: Double
+    ): Double
+
+    companion object {
+        /**
+         * Expected wall-clock time to a correct answer: a backend with half the fidelity
+         * needs roughly twice the runs to be trusted.
+         */
+        val FASTEST_GOOD_ANSWER = BackendCostFunction { _, _, turnaround, fidelity ->
+            turnaround / fidelity.coerceAtLeast(MIN_FIDELITY)
+        }
+
+        /**
+         * Shortest turnaround among backends expected to reach [minFidelity]; the rest are
+         * only used when nothing else qualifies.
+         */
+        fun fastestAbove(minFidelity: Double) = BackendCostFunction { _, _, turnaround, fidelity ->
+            if (fidelity >= minFidelity) turnaround else UNQUALIFIED_PENALTY + turnaround
+        }
+
+        private const val MIN_FIDELITY = 0.01
+        private const val UNQUALIFIED_PENALTY = 1e9
+    }
+}
+
+/**
+ * Picks the backend that minimises [costFunction] for a circuit, skipping backends that
+ * are not online or are too small for it. Simulators have perfect fidelity and no queue,
+ * so they would win every time; they are only considered when [includeSimulators] is set.
+ */
+class BackendRouter(
+    private val costFunction: BackendCostFunction = BackendCostFunction.FASTEST_GOOD_ANSWER
+) {
+
+    companion object {
+        private const val DEFAULT_JOB_SECONDS = 10.0
+        private const val DEFAULT_GATE_FIDELITY = 0.999
+        private const val TWO_QUBIT_ERROR_FACTOR = 10.0
+    }
+
+    fun route(
+        backends: List<QuantumBackend>,
+        profile: CircuitProfile,
+        hardwareStatus: HardwareStatus? = null,
+        includeSimulators: Boolean = false
+    ): BackendScore? = rank(backends, profile, hardwareStatus, includeSimulators).firstOrNull()
+
+    fun rank(
+        backends: List<QuantumBackend>,
+        profile: CircuitProfile,
+        hardwareStatus: HardwareStatus? = null,
+        includeSimulators: Boolean = false
+    ): List<BackendScore> {
+        return backends
+            .filter { it.status == "online" && it.numQubits >= profile.width }
+            .filter { includeSimulators || !it.simulator }
+            .map { backend ->
+                val turnaround = predictTurnaroundSeconds(backend, profile, hardwareStatus)
+                val fidelity = expectedFidelity(backend, profile, hardwareStatus)
+                BackendScore(
+                    backend = backend,
+                    turnaroundSeconds = turnaround,
+                    expectedFidelity = fidelity,
+                    cost = costFunction.cost(backend, profile, turnaround, fidelity)
+                )
+            }
+            .sortedBy { it.cost }
+    }
+
+    /**
+     * Queue wait plus execution time. Without a per-backend job time, the bridge-wide wait
+     * per queued job from [HardwareStatus] is the best live estimate.
+     */
+    fun predictTurnaroundSeconds(
+        backend: QuantumBackend,
+        profile: CircuitProfile,
+        hardwareStatus: HardwareStatus?
+    ): Double {
+        val perJobSeconds = backend.averageJobSeconds?.toDouble()
+            ?: hardwareStatus?.takeIf { it.queueLength > 0 }
+                ?.let { it.estimatedWaitSeconds.toDouble() / it.queueLength }
+            ?: DEFAULT_JOB_SECONDS
+        val queueSeconds = backend.queueLength * perJobSeconds
+
+        // Same shape as the service's execution estimate, scaled by shots
+        val executionSeconds = (2 + profile.depth * 0.1 + profile.width * 0.05) * (profile.shots / 1024.0)
+        return queueSeconds + executionSeconds
+    }
+
+    /**
+     * Probability that no error occurs over the circuit volume (width x depth slots),
+     * treating two-qubit gates as an order of magnitude noisier than single-qubit ones.
+     */
+    fun expectedFidelity(
+        backend: QuantumBackend,
+        profile: CircuitProfile,
+        hardwareStatus: HardwareStatus?
+    ): Double {
+        val gateFidelity = backend.averageGateFidelity
+            ?: hardwareStatus?.currentFidelity
+            ?: DEFAULT_GATE_FIDELITY
+        val gateError = 1 - gateFidelity
+        val twoQubitFidelity = (1 - gateError * TWO_QUBIT_ERROR_FACTOR).coerceAtLeast(0.0)
+        val singleQubitGates = (profile.width * profile.depth - 2 * profile.twoQubitGates).coerceAtLeast(0)
+        return gateFidelity.pow(singleQubitGates) * twoQubitFidelity.pow(profile.twoQubitGates)
+    }
+}
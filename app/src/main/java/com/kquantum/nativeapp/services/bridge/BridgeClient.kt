@@ -0,0 +1,191 @@
+/**
+ * K-QuantumNative - QuantumBridge Client
+ * REST and WebSocket client for the QuantumBridge API
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.BuildConfig
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobResults
+import com.kquantum.nativeapp.data.models.CircuitSubmissionRequest
+import com.kquantum.nativeapp.data.models.CreditBalance
+import com.kquantum.nativeapp.data.models.HardwareStatus
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.remote.NegotiatingConverterFactory
+import com.kquantum.nativeapp.data.remote.StreamingJsonConverterFactory
+import com.kquantum.nativeapp.data.remote.WireFormat
+import kotlinx.coroutines.channels.BufferOverflow
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.serialization.json.Json
+import okhttp3.HttpUrl.Companion.toHttpUrl
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.WebSocket
+import okhttp3.WebSocketListener
+import okio.ByteString
+import retrofit2.Retrofit
+import retrofit2.http.Body
+import retrofit2.http.GET
+import retrofit2.http.Headers
+import retrofit2.http.POST
+import retrofit2.http.Path
+import retrofit2.http.Query
+import java.io.IOException
+
+/**
+ * Where the bridge lives. With [simulated] set, [QuantumBridgeService] runs its built-in
+ * simulation instead of talking to [apiUrl] and [wsUrl].
+ */
+data class BridgeConfig(
+    val apiUrl: String,
+    val wsUrl: String,
+    val simulated: Boolean
+) {
+    companion object {
+        fun fromBuildConfig(): BridgeConfig = BridgeConfig(
+            apiUrl = BuildConfig.BRIDGE_API_URL,
+            wsUrl = BuildConfig.BRIDGE_WS_URL,
+            simulated = BuildConfig.BRIDGE_SIMULATED
+        )
+    }
+}
+
+interface BridgeApiService {
+
+    @GET("health")
+    suspend fun health(): retrofit2.Response<Unit>
+
+    @GET("backends")
+    suspend fun getBackends(): retrofit2.Response<List<QuantumBackend>>
+
+    @GET("hardware/status")
+    suspend fun getHardwareStatus(): retrofit2.Response<HardwareStatus>
+
+    @POST("jobs")
+    suspend fun submitJob(@Body request: CircuitSubmissionRequest): retrofit2.Response<BridgeJob>
+
+    @GET("jobs/status")
+    suspend fun getJobStatuses(@Query("ids") jobIds: String): retrofit2.Response<List<BridgeJob>>
+
+    @Headers(WireFormat.ACCEPT_BINARY)
+    @GET("jobs/{id}/results")
+    suspend fun getJobResults(@Path("id") jobId: String): retrofit2.Response<BridgeJobResults>
+
+    @POST("jobs/{id}/cancel")
+    suspend fun cancelJob(@Path("id") jobId: String): retrofit2.Response<Unit>
+
+    @GET("credits")
+    suspend fun getCredits(): retrofit2.Response<CreditBalance>
+}
+
+/**
+ * Non-success HTTP status from the bridge
+ */
+class BridgeApiException(val code: Int, message: String) : IOException(message)
+
+/**
+ * Thin client over [BridgeApiService] plus the binary noise WebSocket. Contains no Android
+ * dependencies, so it runs unchanged against a local stand-in server on the JVM.
+ */
+class BridgeClient(
+    private val config: BridgeConfig,
+    httpClient: OkHttpClient,
+    json: Json
+) {
+    @Volatile
+    private var apiKey: String? = null
+
+    private val client = httpClient.newBuilder()
+        .addInterceptor { chain ->
+            val key = apiKey
+            val request = if (key != null) {
+                chain.request().newBuilder().header("X-API-Key", key).build()
+            } else {
+                chain.request()
+            }
+            chain.proceed(request)
+        }
+        .build()
+
+    private val api: BridgeApiService = Retrofit.Builder()
+        .baseUrl(config.apiUrl.trimEnd('/') + "/")
+        .client(client)
+        .addConverterFactory(NegotiatingConverterFactory(jsonFactory = StreamingJsonConverterFactory(json)))
+        .build()
+        .create(BridgeApiService::class.java)
+
+    suspend fun connect(apiKey: String?) {
+        this.apiKey = apiKey
+        val response = api.health()
+        if (!response.isSuccessful) throw BridgeApiException(response.code(), "Bridge unavailable")
+    }
+
+    suspend fun backends(): List<QuantumBackend> = api.getBackends().bodyOrThrow()
+
+    suspend fun hardwareStatus(): HardwareStatus = api.getHardwareStatus().bodyOrThrow()
+
+    suspend fun submit(request: CircuitSubmissionRequest): BridgeJob = api.submitJob(request).bodyOrThrow()
+
+    /**
+     * Status of several jobs in one round-trip; unknown ids are left out of the result.
+     */
+    suspend fun jobStatuses(jobIds: Set<String>): List<BridgeJob> {
+        if (jobIds.isEmpty()) return emptyList()
+        return api.getJobStatuses(jobIds.joinToString(",")).bodyOrThrow()
+    }
+
+    suspend fun results(jobId: String): BridgeJobResults? {
+        val response = api.getJobResults(jobId)
+        if (response.code() == 404) return null
+        return response.bodyOrThrow()
+    }
+
+    suspend fun credits(): CreditBalance = api.getCredits().bodyOrThrow()
+
+    suspend fun cancel(jobId: String) {
+        val response = api.cancelJob(jobId)
+        if (!response.isSuccessful) throw BridgeApiException(response.code(), "Cancel failed")
+    }
+
+    /**
+     * Binary [com.kquantum.nativeapp.data.models.NoiseSnapshotCodec] frames for [backend]. The
+     * socket is opened on collection and closed when the collector goes away; a consumer that
+     * falls behind only ever sees the latest frame.
+     */
+    fun noiseFrames(backend: String, intervalMs: Long): Flow<ByteArray> = callbackFlow {
+        // OkHttp upgrades http(s) URLs, which also lets HttpUrl encode the query
+        val url = config.wsUrl.replaceFirst(Regex("^ws"), "http").trimEnd('/').plus("/noise")
+            .toHttpUrl()
+            .newBuilder()
+            .addQueryParameter("backend", backend)
+            .addQueryParameter("interval_ms", intervalMs.toString())
+            .build()
+
+        val socket = client.newWebSocket(Request.Builder().url(url).build(), object : WebSocketListener() {
+            override fun onMessage(webSocket: WebSocket, bytes: ByteString) {
+                trySend(bytes.toByteArray())
+            }
+
+            override fun onClosing(webSocket: WebSocket, code: Int, reason: String) {
+                webSocket.close(code, null)
+                channel.close()
+            }
+
+            override fun onFailure(webSocket: WebSocket, t: Throwable, response: Response?) {
+                channel.close(t)
+            }
+        })
+
+        awaitClose { socket.close(1000, null) }
+    }.buffer(1, BufferOverflow.DROP_OLDEST)
+
+    private fun <T> retrofit2.Response<T>.bodyOrThrow(): T {
+        if (!isSuccessful) throw BridgeApiException(code(), "Bridge request failed: ${code()}")
+        return body() ?: throw BridgeApiException(code(), "Empty response body")
+    }
+}
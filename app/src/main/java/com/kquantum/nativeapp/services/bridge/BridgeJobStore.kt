@@ -0,0 +1,144 @@
+/**
+ * K-QuantumNative - Bridge Job Store
+ * Durable record of submitted and completed QuantumBridge jobs
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import android.content.Context
+import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.core.Preferences
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobResults
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.withContext
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import java.io.File
+import java.net.URLEncoder
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.bridgeJobDataStore by preferencesDataStore(name = "bridge_jobs")
+
+/**
+ * Persists the jobs that still need tracking and the results of finished ones, so a job
+ * submitted before the process is killed can be resumed by [BridgeJobWorker] and its
+ * results are on disk before any screen asks for them.
+ *
+ * The DataStore holds job metadata only. Results, which may carry large state-vector and
+ * histogram attachments, go to one file per job in [resultsDir] and are read on demand.
+ */
+@Singleton
+class BridgeJobStore(
+    private val dataStore: DataStore<Preferences>,
+    private val resultsDir: File
+) {
+    @Inject
+    constructor(@ApplicationContext context: Context) :
+        this(context.bridgeJobDataStore, File(context.filesDir, "bridge_results"))
+
+    private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
+
+    companion object {
+        private val KEY_TRACKED_JOBS = stringPreferencesKey("tracked_jobs")
+        private val KEY_COMPLETED_JOBS = stringPreferencesKey("completed_jobs")
+        private const val MAX_COMPLETED_JOBS = 50
+    }
+
+    suspend fun track(job: BridgeJob) {
+        val entry = job.copy(results = null)
+        editJobs(KEY_TRACKED_JOBS) { jobs -> jobs.filterNot { it.id == job.id } + entry }
+    }
+
+    suspend fun untrack(jobId: String) {
+        editJobs(KEY_TRACKED_JOBS) { jobs -> jobs.filterNot { it.id == jobId } }
+    }
+
+    suspend fun trackedJobs(): List<BridgeJob> = readJobs(KEY_TRACKED_JOBS)
+
+    /**
+     * Stores a finished job, writing its results before the job is listed. The job stays
+     * tracked until the worker has delivered its completion notification.
+     */
+    suspend fun saveCompleted(job: BridgeJob) {
+        job.results?.let { writeResults(job.id, it) }
+        var evicted = emptyList<BridgeJob>()
+        editJobs(KEY_COMPLETED_JOBS) { jobs ->
+            val updated = listOf(job.copy(results = null)) + jobs.filterNot { it.id == job.id }
+            evicted = updated.drop(MAX_COMPLETED_JOBS)
+            updated.take(MAX_COMPLETED_JOBS)
+        }
+        evicted.forEach { deleteResults(it.id) }
+    }
+
+    /**
+     * A completed job with its results loaded from disk
+     */
+    suspend fun completedJob(jobId: String): BridgeJob? {
+        val job = readJobs(KEY_COMPLETED_JOBS).find { it.id == jobId } ?: return null
+        return job.copy(results = completedResults(jobId))
+    }
+
+    /**
+     * Completed jobs without their results; see [completedResults]
+     */
+    suspend fun completedJobs(): List<BridgeJob> = readJobs(KEY_COMPLETED_JOBS)
+
+    suspend fun completedResults(jobId: String): BridgeJobResults? = withContext(Dispatchers.IO) {
+        try {
+            resultsFile(jobId).takeIf { it.exists() }
+                ?.let { json.decodeFromString<BridgeJobResults>(it.readText()) }
+        } catch (e: Exception) {
+            null
+        }
+    }
+
+    private suspend fun writeResults(jobId: String, results: BridgeJobResults) = withContext(Dispatchers.IO) {
+        try {
+            resultsDir.mkdirs()
+            // Written aside and renamed, so a reader never sees half a file
+            val temp = File(resultsDir, "${resultsFile(jobId).name}.tmp")
+            temp.writeText(json.encodeToString(results))
+            if (!temp.renameTo(resultsFile(jobId))) temp.delete()
+        } catch (e: Exception) {
+            // Ignore save errors
+        }
+    }
+
+    private suspend fun deleteResults(jobId: String) = withContext(Dispatchers.IO) {
+        resultsFile(jobId).delete()
+    }
+
+    private fun resultsFile(jobId: String) = File(resultsDir, "${URLEncoder.encode(jobId, "UTF-8")}.json")
+
+    private suspend fun readJobs(key: Preferences.Key<String>): List<BridgeJob> {
+        return try {
+            val prefs = dataStore.data.first()
+            prefs[key]?.let { json.decodeFromString<List<BridgeJob>>(it) } ?: emptyList()
+        } catch (e: Exception) {
+            emptyList()
+        }
+    }
+
+    private suspend fun editJobs(
+        key: Preferences.Key<String>,
+        transform: (List<BridgeJob>) -> List<BridgeJob>
+    ) {
+        try {
+            dataStore.edit { prefs ->
+                val current = prefs[key]?.let {
+                    runCatching { json.decodeFromString<List<BridgeJob>>(it) }.getOrNull()
+                } ?: emptyList()
+                prefs[key] = json.encodeToString(transform(current))
+            }
+        } catch (e: Exception) {
+            // Ignore save errors
+        }
+    }
+}
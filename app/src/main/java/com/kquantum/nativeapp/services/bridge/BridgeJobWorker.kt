@@ -0,0 +1,166 @@
+/**
+ * K-QuantumNative - Bridge Job Worker
+ * Background tracking of QuantumBridge jobs that survives process death
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import android.Manifest
+import android.app.NotificationChannel
+import android.app.NotificationManager
+import android.content.Context
+import android.content.pm.PackageManager
+import android.os.Build
+import androidx.core.app.NotificationCompat
+import androidx.core.app.NotificationManagerCompat
+import androidx.core.content.ContextCompat
+import androidx.hilt.work.HiltWorker
+import androidx.work.BackoffPolicy
+import androidx.work.Constraints
+import androidx.work.CoroutineWorker
+import androidx.work.ExistingWorkPolicy
+import androidx.work.NetworkType
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.WorkManager
+import androidx.work.WorkerParameters
+import com.kquantum.nativeapp.R
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import dagger.assisted.Assisted
+import dagger.assisted.AssistedInject
+import kotlinx.coroutines.delay
+import java.util.concurrent.TimeUnit
+
+/**
+ * Starts background tracking of the jobs recorded in [BridgeJobStore]
+ */
+fun interface BridgeJobTracker {
+    fun startTracking()
+}
+
+/**
+ * Tracks every job recorded in [BridgeJobStore] until it reaches a terminal state, then
+ * stores its results and posts a notification. WorkManager re-runs the worker after the
+ * process is killed, so queued hardware jobs are never lost.
+ */
+@HiltWorker
+class BridgeJobWorker @AssistedInject constructor(
+    @Assisted appContext: Context,
+    @Assisted params: WorkerParameters,
+    private val bridgeService: QuantumBridgeService,
+    private val jobStore: BridgeJobStore
+) : CoroutineWorker(appContext, params) {
+
+    companion object {
+        private const val UNIQUE_WORK_NAME = "bridge_job_tracker"
+        private const val CHANNEL_ID = "bridge_jobs"
+        private const val BACKOFF_DELAY_SECONDS = 30L
+        // Longer than any hardware queue; a job still unsettled by then is not coming back
+        private val MAX_TRACKING_AGE_MS = TimeUnit.DAYS.toMillis(7)
+
+        fun enqueue(context: Context) {
+            val request = OneTimeWorkRequestBuilder<BridgeJobWorker>()
+                .setConstraints(
+                    Constraints.Builder()
+                        .setRequiredNetworkType(NetworkType.CONNECTED)
+                        .build()
+                )
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY_SECONDS, TimeUnit.SECONDS)
+                .build()
+
+            // Replace rather than chain a second run: every job lives in BridgeJobStore, so the
+            // new worker picks up where the old one stopped, including a job tracked just as
+            // the old one found the store empty
+            WorkManager.getInstance(context).enqueueUniqueWork(
+                UNIQUE_WORK_NAME,
+                ExistingWorkPolicy.REPLACE,
+                request
+            )
+        }
+    }
+
+    override suspend fun doWork(): Result {
+        bridgeService.resumeTrackedJobs()
+
+        val attempts = mutableMapOf<String, Int>()
+        while (!isStopped) {
+            val tracked = jobStore.trackedJobs()
+            if (tracked.isEmpty()) return Result.success()
+
+            val statuses = try {
+                bridgeService.getJobStatuses(tracked.map { it.id }.toSet())
+            } catch (e: Exception) {
+                return Result.retry()
+            }
+
+            val now = System.currentTimeMillis()
+            var nextDelayMs = JobPollingScheduler.MAX_QUEUED_POLL_INTERVAL_MS
+            for (job in tracked) {
+                val latest = statuses[job.id]
+                if (latest == null || now - job.createdAt > MAX_TRACKING_AGE_MS) {
+                    // Unknown to the bridge, or too old to still be queued: nothing left to wait for
+                    jobStore.untrack(job.id)
+                    attempts.remove(job.id)
+                    continue
+                }
+                if (latest.status.isTerminal) {
+                    if (latest.status == BridgeJobStatus.COMPLETED) {
+                        jobStore.saveCompleted(latest)
+                    }
+                    // The user already knows about a cancel they asked for
+                    if (!bridgeService.wasCancelledByUser(job.id)) notifyFinished(latest)
+                    jobStore.untrack(job.id)
+                    attempts.remove(job.id)
+                } else {
+                    val attempt = if (latest.status == job.status) attempts[job.id] ?: 0 else 0
+                    attempts[job.id] = attempt + 1
+                    if (latest != job) jobStore.track(latest)
+                    nextDelayMs = minOf(
+                        nextDelayMs,
+                        JobPollingScheduler.nextPollDelayMs(latest, attempt, latest.startedAt, now)
+                    )
+                }
+            }
+
+            delay(nextDelayMs)
+        }
+
+        return Result.retry()
+    }
+
+    private fun notifyFinished(job: BridgeJob) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU &&
+            ContextCompat.checkSelfPermission(applicationContext, Manifest.permission.POST_NOTIFICATIONS)
+            != PackageManager.PERMISSION_GRANTED
+        ) {
+            return
+        }
+
+        ensureChannel()
+
+        val title = if (job.status == BridgeJobStatus.COMPLETED) {
+            applicationContext.getString(R.string.bridge_job_completed_title)
+        } else {
+            applicationContext.getString(R.string.bridge_job_finished_title, job.status.displayName)
+        }
+
+        val notification = NotificationCompat.Builder(applicationContext, CHANNEL_ID)
+            .setSmallIcon(R.drawable.ic_launcher_foreground)
+            .setContentTitle(title)
+            .setContentText(applicationContext.getString(R.string.bridge_job_notification_text, job.id))
+            .setAutoCancel(true)
+            .build()
+
+        NotificationManagerCompat.from(applicationContext).notify(job.id.hashCode(), notification)
+    }
+
+    private fun ensureChannel() {
+        val channel = NotificationChannel(
+            CHANNEL_ID,
+            applicationContext.getString(R.string.bridge_job_channel_name),
+            NotificationManager.IMPORTANCE_DEFAULT
+        )
+        applicationContext.getSystemService(NotificationManager::class.java)
+            .createNotificationChannel(channel)
+    }
+}
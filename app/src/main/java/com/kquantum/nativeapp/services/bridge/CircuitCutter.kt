@@ -0,0 +1,465 @@
+/**
+ * K-QuantumNative - Circuit Cutter
+ * Wire cutting of wide circuits into narrow fragments with classical reconstruction
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.OutcomeHistogram
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlin.math.PI
+
+/**
+ * A cut on logical [qubit]'s wire: the state leaving [fromFragment]'s local qubit
+ * [fromQubit] continues on [toFragment]'s local qubit [toQubit].
+ */
+data class WireCut(
+    val qubit: Int,
+    val fromFragment: Int,
+    val fromQubit: Int,
+    val toFragment: Int,
+    val toQubit: Int
+)
+
+/**
+ * One independently executable piece of a cut circuit. [outputs] pairs a local qubit with
+ * the global classical bit it is finally measured into; [incomingCuts] and
+ * [outgoingCuts] index into [CutPlan.cuts].
+ */
+data class CircuitFragment(
+    val index: Int,
+    val width: Int,
+    val gates: List<QuantumGate>,
+    val outputs: List<Pair<Int, Int>>,
+    val incomingCuts: List<Int>,
+    val outgoingCuts: List<Int>
+) {
+    // Measurement bases per outgoing cut times preparations per incoming cut
+    val variantCount: Int
+        get() = pow(MEASUREMENT_BASES, outgoingCuts.size) * pow(PREPARATIONS, incomingCuts.size)
+
+    internal companion object {
+        const val MEASUREMENT_BASES = 3 // Z, X, Y
+        const val PREPARATIONS = 4 // |0>, |1>, |+>, |+i>
+
+        fun pow(base: Int, exponent: Int): Int {
+            var result = 1
+            repeat(exponent) { result *= base }
+            return result
+        }
+    }
+}
+
+data class CutPlan(
+    val fragments: List<CircuitFragment>,
+    val cuts: List<WireCut>,
+    val classicalWidth: Int
+) {
+    val subexperiments: Int get() = fragments.sumOf { it.variantCount }
+}
+
+data class CutResult(
+    val probabilities: Map<String, Double>,
+    val fragmentCount: Int,
+    val cutCount: Int,
+    val subexperiments: Int
+)
+
+/**
+ * Splits circuits wider than a qubit budget into fragments joined by wire cuts, runs every
+ * fragment variant as one group through [execute], and stitches the full distribution back
+ * together.
+ *
+ * Each cut replaces the identity on a wire with `ρ = ½ Σ_O Tr(Oρ) O` over `O ∈ {I, X, Y, Z}`:
+ * the upstream fragment measures the cut qubit in the Z, X or Y basis and the downstream
+ * fragment prepares it in |0⟩, |1⟩, |+⟩ or |+i⟩. Reconstruction sums `4^K` products of
+ * fragment terms for `K` cuts, so [maxCuts] bounds both the classical work and the number of
+ * sub-experiments. Memory per fragment is bounded by its own width.
+ */
+class CircuitCutter(
+    private val maxCuts: Int = DEFAULT_MAX_CUTS,
+    private val parallelism: Int = Runtime.getRuntime().availableProcessors().coerceIn(1, 8),
+    private val execute: suspend (List<QuantumCircuit>) -> List<OutcomeHistogram>
+) {
+
+    companion object {
+        const val DEFAULT_MAX_CUTS = 6
+        // Fragment terms below this are dropped before the products are formed
+        private const val PRUNE_THRESHOLD = 1e-9
+
+        // Label of a cut in the reconstruction sum
+        private const val LABEL_I = 0
+        private const val LABEL_Z = 1
+        private const val LABEL_X = 2
+        private const val LABEL_Y = 3
+
+        /**
+         * Greedy partition of [circuit] into fragments of at most [maxWidth] qubits. Gates are
+         * taken in order; a gate spanning fragments is placed in the one that needs the fewest
+         * wires moved into it, and every moved wire becomes a cut. When no touched fragment has
+         * room, the gate opens a new fragment.
+         *
+         * @throws IllegalArgumentException if a measurement is followed by other gates or a
+         * gate is wider than [maxWidth]
+         */
+        fun plan(circuit: QuantumCircuit, maxWidth: Int): CutPlan {
+            val firstMeasure = circuit.gates.indexOfFirst { it.type == QuantumGateType.MEASURE }
+            val unitary = if (firstMeasure < 0) circuit.gates else circuit.gates.subList(0, firstMeasure)
+            val measures = if (firstMeasure < 0) emptyList() else circuit.gates.subList(firstMeasure, circuit.gates.size)
+            require(measures.all { it.type == QuantumGateType.MEASURE }) { "Gates after a measurement cannot be cut" }
+            val readout = if (measures.isEmpty()) {
+                (0 until circuit.numberOfQubits).map { it to it }
+            } else {
+                measures.map { it.targetQubit to (it.classicalBit ?: it.targetQubit) }
+            }
+            val classicalWidth = circuit.classicalBits ?: circuit.numberOfQubits
+            require(classicalWidth <= OutcomeHistogram.MAX_WIDTH) { "Too many classical bits to reconstruct" }
+
+            val builder = PlanBuilder(circuit.numberOfQubits, maxWidth)
+            for (gate in unitary) builder.place(gate)
+            for ((qubit, bit) in readout) builder.measure(qubit, bit)
+            return builder.build(classicalWidth)
+        }
+    }
+
+    /**
+     * Runs [circuit] as fragments of at most [maxWidth] qubits.
+     *
+     * @throws IllegalArgumentException if the circuit needs more than `maxCuts` cuts
+     */
+    suspend fun run(circuit: QuantumCircuit, maxWidth: Int): CutResult {
+        val plan = plan(circuit, maxWidth)
+        require(plan.cuts.size <= maxCuts) {
+            "Circuit needs ${plan.cuts.size} cuts to fit $maxWidth qubits; at most $maxCuts are supported"
+        }
+
+        val variants = coroutineScope {
+            plan.fragments.map { fragment ->
+                async(Dispatchers.Default) { (0 until fragment.variantCount).map { variantCircuit(fragment, plan.cuts, it) } }
+            }.awaitAll()
+        }
+        val histograms = execute(variants.flatten())
+        require(histograms.size == plan.subexperiments) {
+            "Expected ${plan.subexperiments} results, got ${histograms.size}"
+        }
+
+        // Per-fragment term tables, built concurrently
+        var offset = 0
+        val fragmentResults = plan.fragments.map { fragment ->
+            histograms.subList(offset, offset + fragment.variantCount).also { offset += fragment.variantCount }
+        }
+        val terms = coroutineScope {
+            plan.fragments.mapIndexed { i, fragment ->
+                async(Dispatchers.Default) { fragmentTerms(fragment, fragmentResults[i]) }
+            }.awaitAll()
+        }
+
+        val distribution = reconstruct(plan, terms)
+        return CutResult(
+            probabilities = distribution.toProbabilities(plan.classicalWidth),
+            fragmentCount = plan.fragments.size,
+            cutCount = plan.cuts.size,
+            subexperiments = plan.subexperiments
+        )
+    }
+
+    /**
+     * Circuit for variant [variant] of [fragment]. The variant index is mixed-radix: one
+     * base-3 digit per outgoing cut (measurement basis), then one base-4 digit per incoming
+     * cut (preparation). Outputs are measured into bits `0 until outputs.size`, outgoing
+     * cuts into the bits after them.
+     */
+    private fun variantCircuit(fragment: CircuitFragment, cuts: List<WireCut>, variant: Int): QuantumCircuit {
+        val gates = ArrayList<QuantumGate>(fragment.gates.size + 4 * (fragment.incomingCuts.size + fragment.outgoingCuts.size))
+        var digits = variant
+        val bases = IntArray(fragment.outgoingCuts.size) {
+            (digits % CircuitFragment.MEASUREMENT_BASES).also { digits /= CircuitFragment.MEASUREMENT_BASES }
+        }
+        val preparations = IntArray(fragment.incomingCuts.size) {
+            (digits % CircuitFragment.PREPARATIONS).also { digits /= CircuitFragment.PREPARATIONS }
+        }
+
+        fragment.incomingCuts.forEachIndexed { i, cut ->
+            val qubit = cuts[cut].toQubit
+            when (preparations[i]) {
+                1 -> gates += gate(QuantumGateType.PAULI_X, qubit)
+                2 -> gates += gate(QuantumGateType.HADAMARD, qubit)
+                3 -> {
+                    gates += gate(QuantumGateType.HADAMARD, qubit)
+                    gates += gate(QuantumGateType.PHASE, qubit)
+                }
+            }
+        }
+        gates += fragment.gates
+
+        // Basis changes go before every measurement; backends reject gates after a measure
+        fragment.outgoingCuts.forEachIndexed { i, cut ->
+            val qubit = cuts[cut].fromQubit
+            when (bases[i]) {
+                1 -> gates += gate(QuantumGateType.HADAMARD, qubit)
+                2 -> {
+                    gates += gate(QuantumGateType.ROTATION_Z, qubit, -PI / 2)
+                    gates += gate(QuantumGateType.HADAMARD, qubit)
+                }
+            }
+        }
+        fragment.outputs.forEachIndexed { bit, (qubit, _) ->
+            gates += QuantumGate(type = QuantumGateType.MEASURE, targetQubit = qubit, classicalBit = bit)
+        }
+        fragment.outgoingCuts.forEachIndexed { i, cut ->
+            gates += QuantumGate(
+                type = QuantumGateType.MEASURE,
+                targetQubit = cuts[cut].fromQubit,
+                classicalBit = fragment.outputs.size + i
+            )
+        }
+
+        return QuantumCircuit(
+            name = "fragment ${fragment.index} variant $variant",
+            numberOfQubits = fragment.width,
+            gates = gates,
+            classicalBits = fragment.outputs.size + fragment.outgoingCuts.size
+        )
+    }
+
+    private fun gate(type: QuantumGateType, qubit: Int, parameter: Double? = null) =
+        QuantumGate(type = type, targetQubit = qubit, parameter = parameter)
+
+    /**
+     * For every assignment of labels to the fragment's cuts (outgoing first, base 4), the
+     * fragment's contribution as a quasi-distribution over global output bits.
+     */
+    private fun fragmentTerms(fragment: CircuitFragment, results: List<OutcomeHistogram>): Array<QuasiDistribution> {
+        val outgoing = fragment.outgoingCuts.size
+        val incoming = fragment.incomingCuts.size
+        val labelCount = CircuitFragment.pow(4, outgoing + incoming)
+        val outputBits = fragment.outputs.size
+
+        // Low bits of each outcome are outputs, then one bit per outgoing cut
+        val variantTerms = results.map { histogram ->
+            val total = histogram.total.toDouble()
+            val probabilities = QuasiDistribution(histogram.size)
+            if (total > 0) histogram.forEach { outcome, count -> probabilities.add(outcome, count / total) }
+            probabilities
+        }
+
+        return Array(labelCount) { label ->
+            var digits = label
+            val outLabels = IntArray(outgoing) { (digits % 4).also { digits /= 4 } }
+            val inLabels = IntArray(incoming) { (digits % 4).also { digits /= 4 } }
+
+            var measurementVariant = 0
+            var radix = 1
+            for (i in 0 until outgoing) {
+                measurementVariant += basisFor(outLabels[i]) * radix
+                radix *= CircuitFragment.MEASUREMENT_BASES
+            }
+
+            val term = QuasiDistribution()
+            // Expand each incoming label into its preparations
+            forEachPreparation(inLabels) { preparationIndex, coefficient ->
+                val variant = measurementVariant + preparationIndex * radix
+                variantTerms[variant].forEach { outcome, probability ->
+                    var sign = 1.0
+                    for (i in 0 until outgoing) {
+                        if (outLabels[i] != LABEL_I && (outcome shr (outputBits + i)) and 1L == 1L) sign = -sign
+                    }
+                    term.add(globalOutcome(fragment, outcome), coefficient * sign * probability)
+                }
+            }
+            term.pruned(PRUNE_THRESHOLD)
+        }
+    }
+
+    private fun basisFor(label: Int): Int = when (label) {
+        LABEL_X -> 1
+        LABEL_Y -> 2
+        else -> 0 // I and Z both read the Z basis
+    }
+
+    /**
+     * Calls [action] with the mixed-radix preparation index and weight of every term in the
+     * expansion of [labels]: I = |0⟩ + |1⟩, Z = |0⟩ - |1⟩, X = 2|+⟩ - |0⟩ - |1⟩,
+     * Y = 2|+i⟩ - |0⟩ - |1⟩.
+     */
+    private inline fun forEachPreparation(labels: IntArray, action: (index: Int, coefficient: Double) -> Unit) {
+        val options = labels.map { label ->
+            when (label) {
+                LABEL_I -> listOf(0 to 1.0, 1 to 1.0)
+                LABEL_Z -> listOf(0 to 1.0, 1 to -1.0)
+                LABEL_X -> listOf(2 to 2.0, 0 to -1.0, 1 to -1.0)
+                else -> listOf(3 to 2.0, 0 to -1.0, 1 to -1.0)
+            }
+        }
+        val choice = IntArray(labels.size)
+        while (true) {
+            var index = 0
+            var coefficient = 1.0
+            var radix = 1
+            for (i in labels.indices) {
+                val (preparation, weight) = options[i][choice[i]]
+                index += preparation * radix
+                coefficient *= weight
+                radix *= CircuitFragment.PREPARATIONS
+            }
+            action(index, coefficient)
+
+            var position = 0
+            while (position < labels.size && ++choice[position] == options[position].size) {
+                choice[position] = 0
+                position++
+            }
+            if (position == labels.size) return
+        }
+    }
+
+    private fun globalOutcome(fragment: CircuitFragment, outcome: Long): Long {
+        var global = 0L
+        fragment.outputs.forEachIndexed { bit, (_, globalBit) ->
+            if ((outcome shr bit) and 1L == 1L) global = global or (1L shl globalBit)
+        }
+        return global
+    }
+
+    /**
+     * Sums the `4^K` label assignments, split across [parallelism] workers that each keep
+     * their own accumulator.
+     */
+    private suspend fun reconstruct(plan: CutPlan, terms: List<Array<QuasiDistribution>>): QuasiDistribution {
+        val k = plan.cuts.size
+        val assignments = CircuitFragment.pow(4, k)
+        val scale = 1.0 / (1 shl k)
+        val workers = parallelism.coerceAtMost(assignments)
+
+        val partials = coroutineScope {
+            (0 until workers).map { worker ->
+                async(Dispatchers.Default) {
+                    val accumulator = QuasiDistribution()
+                    val labels = IntArray(k)
+                    for (assignment in worker until assignments step workers) {
+                        var digits = assignment
+                        for (c in 0 until k) {
+                            labels[c] = digits % 4
+                            digits /= 4
+                        }
+                        var product = QuasiDistribution(1).apply { add(0L, scale) }
+                        for (fragment in plan.fragments) {
+                            val term = terms[fragment.index][fragmentLabel(fragment, labels)]
+                            product = product.times(term)
+                            if (product.size == 0) break
+                        }
+                        accumulator.addAll(product)
+                    }
+                    accumulator
+                }
+            }.awaitAll()
+        }
+        return partials.reduce { merged, part -> merged.apply { addAll(part) } }
+    }
+
+    private fun fragmentLabel(fragment: CircuitFragment, labels: IntArray): Int {
+        var index = 0
+        var radix = 1
+        for (cut in fragment.outgoingCuts) {
+            index += labels[cut] * radix
+            radix *= 4
+        }
+        for (cut in fragment.incomingCuts) {
+            index += labels[cut] * radix
+            radix *= 4
+        }
+        return index
+    }
+
+    // Fragments write disjoint global bits, so outcomes combine by OR
+    private fun QuasiDistribution.times(other: QuasiDistribution): QuasiDistribution {
+        val product = QuasiDistribution(size * other.size)
+        forEach { a, x ->
+            other.forEach { b, y -> product.add(a or b, x * y) }
+        }
+        return product
+    }
+
+    /**
+     * Tracks which fragment and local qubit currently carries each logical qubit
+     */
+    private class PlanBuilder(qubits: Int, private val maxWidth: Int) {
+        private class Fragment(val index: Int) {
+            var width = 0
+            val gates = mutableListOf<QuantumGate>()
+            val outputs = mutableListOf<Pair<Int, Int>>()
+            val incoming = mutableListOf<Int>()
+            val outgoing = mutableListOf<Int>()
+        }
+
+        private val fragments = mutableListOf<Fragment>()
+        private val cuts = mutableListOf<WireCut>()
+        private val fragmentOf = IntArray(qubits) { -1 }
+        private val localOf = IntArray(qubits) { -1 }
+
+        fun place(gate: QuantumGate) {
+            val qubits = listOfNotNull(gate.controlQubit2, gate.controlQubit, gate.targetQubit).distinct()
+            require(qubits.size <= maxWidth) { "A ${qubits.size}-qubit gate cannot fit in $maxWidth qubits" }
+
+            val target = chooseFragment(qubits)
+            for (qubit in qubits) moveInto(qubit, target)
+            target.gates += gate.copy(
+                targetQubit = localOf[gate.targetQubit],
+                controlQubit = gate.controlQubit?.let { localOf[it] },
+                controlQubit2 = gate.controlQubit2?.let { localOf[it] }
+            )
+        }
+
+        fun measure(qubit: Int, bit: Int) {
+            if (fragmentOf[qubit] < 0) moveInto(qubit, chooseFragment(listOf(qubit)))
+            fragments[fragmentOf[qubit]].outputs += localOf[qubit] to bit
+        }
+
+        fun build(classicalWidth: Int) = CutPlan(
+            fragments = fragments.map {
+                CircuitFragment(it.index, it.width, it.gates.toList(), it.outputs.toList(), it.incoming.toList(), it.outgoing.toList())
+            },
+            cuts = cuts.toList(),
+            classicalWidth = classicalWidth
+        )
+
+        private fun chooseFragment(qubits: List<Int>): Fragment {
+            val assigned = qubits.filter { fragmentOf[it] >= 0 }
+            val unassigned = qubits.size - assigned.size
+
+            val touched = assigned.map { fragmentOf[it] }.distinct().map { fragments[it] }
+            val best = touched
+                .map { fragment -> fragment to assigned.count { fragmentOf[it] != fragment.index } }
+                .filter { (fragment, moves) -> fragment.width + moves + unassigned <= maxWidth }
+                .minByOrNull { (_, moves) -> moves }
+                ?.first
+            if (best != null) return best
+
+            // Fresh wires only: reuse the newest fragment with room to keep fragments dense
+            if (assigned.isEmpty()) {
+                fragments.lastOrNull { it.width + unassigned <= maxWidth }?.let { return it }
+            }
+            return Fragment(fragments.size).also { fragments += it }
+        }
+
+        private fun moveInto(qubit: Int, target: Fragment) {
+            val from = fragmentOf[qubit]
+            if (from == target.index) return
+            val local = target.width++
+            if (from >= 0) {
+                val cut = cuts.size
+                cuts += WireCut(qubit, from, localOf[qubit], target.index, local)
+                fragments[from].outgoing += cut
+                target.incoming += cut
+            }
+            fragmentOf[qubit] = target.index
+            localOf[qubit] = local
+        }
+    }
+}
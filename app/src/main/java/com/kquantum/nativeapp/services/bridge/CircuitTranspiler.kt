@@ -0,0 +1,371 @@
+/**
+ * K-QuantumNative - Circuit Transpiler
+ * Maps circuits onto a backend's coupling graph and native gate set before submission
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlin.math.PI
+
+/**
+ * Outcome of [CircuitTranspiler.transpile]. Layouts map logical qubit `i` to a physical qubit;
+ * [qubitForBit] maps classical bit `i` to the physical qubit it is read from.
+ */
+data class TranspileResult(
+    val circuit: QuantumCircuit,
+    val initialLayout: List<Int>,
+    val finalLayout: List<Int>,
+    val qubitForBit: List<Int>,
+    val swapsInserted: Int,
+    val depth: Int,
+    val originalDepth: Int
+)
+
+/**
+ * Coupling graphs for backends that do not publish one
+ */
+object CouplingMaps {
+    fun line(qubits: Int): List<List<Int>> = (0 until qubits - 1).map { listOf(it, it + 1) }
+
+    /**
+     * Row-major grid with nearest-neighbour links, truncated to [qubits] nodes.
+     */
+    fun grid(rows: Int, columns: Int, qubits: Int = rows * columns): List<List<Int>> {
+        val edges = mutableListOf<List<Int>>()
+        for (q in 0 until minOf(qubits, rows * columns)) {
+            val right = q + 1
+            val down = q + columns
+            if (right % columns != 0 && right < qubits) edges += listOf(q, right)
+            if (down < qubits) edges += listOf(q, down)
+        }
+        return edges
+    }
+}
+
+/**
+ * Rewrites a circuit so it runs as-is on [backend]:
+ *
+ * 1. Toffoli gates are decomposed into CX, H and T/T-dagger.
+ * 2. Logical qubits are placed on a connected region of the coupling graph, busiest first.
+ * 3. Each CX between non-adjacent qubits is routed by swapping both ends towards the middle
+ *    of the shortest path, so the two halves of the SWAP chain can run in parallel.
+ *    Logical SWAP gates only relabel the layout and cost nothing.
+ * 4. Gates outside the backend's basis are lowered to RZ/RX rotations, and SWAPs to 3 CX.
+ *
+ * Measurements keep their logical classical bit, so result bitstrings are unchanged.
+ * A backend without a coupling map is treated as all-to-all, and one without basis gates
+ * as accepting every gate. Coupling links are treated as bidirectional.
+ */
+class CircuitTranspiler(private val backend: QuantumBackend) {
+
+    private val basis: Set<String>? = backend.basisGates?.map { it.lowercase() }?.toSet()
+    private val adjacency: Array<IntArray>? = backend.couplingMap?.let { buildAdjacency(it, backend.numQubits) }
+
+    companion object {
+        /**
+         * Critical-path depth: gates on disjoint qubits share a layer.
+         */
+        fun layeredDepth(gates: List<QuantumGate>, qubits: Int): Int {
+            val layer = IntArray(qubits)
+            var depth = 0
+            for (gate in gates) {
+                val operands = gate.qubits()
+                val next = operands.maxOf { layer[it] } + 1
+                operands.forEach { layer[it] = next }
+                depth = maxOf(depth, next)
+            }
+            return depth
+        }
+
+        private fun QuantumGate.qubits(): List<Int> = listOfNotNull(controlQubit2, controlQubit, targetQubit)
+
+        private fun qasmName(type: QuantumGateType): String = when (type) {
+            QuantumGateType.HADAMARD -> "h"
+            QuantumGateType.PAULI_X -> "x"
+            QuantumGateType.PAULI_Y -> "y"
+            QuantumGateType.PAULI_Z -> "z"
+            QuantumGateType.PHASE -> "s"
+            QuantumGateType.T_GATE -> "t"
+            QuantumGateType.CNOT -> "cx"
+            QuantumGateType.SWAP -> "swap"
+            QuantumGateType.TOFFOLI -> "ccx"
+            QuantumGateType.MEASURE -> "measure"
+            QuantumGateType.ROTATION_X -> "rx"
+            QuantumGateType.ROTATION_Y -> "ry"
+            QuantumGateType.ROTATION_Z -> "rz"
+        }
+
+        private fun buildAdjacency(edges: List<List<Int>>, qubits: Int): Array<IntArray> {
+            val neighbours = Array(qubits) { mutableSetOf<Int>() }
+            for (edge in edges) {
+                if (edge.size != 2) continue
+                val (a, b) = edge
+                if (a == b || a !in 0 until qubits || b !in 0 until qubits) continue
+                neighbours[a] += b
+                neighbours[b] += a
+            }
+            return Array(qubits) { neighbours[it].toIntArray() }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the circuit cannot run on the backend
+     */
+    fun transpile(circuit: QuantumCircuit): TranspileResult {
+        validate(circuit)
+
+        val logicalGates = circuit.gates.flatMap { decomposeToffoli(it) }
+        val layout = initialLayout(circuit.numberOfQubits, logicalGates)
+        val physicalToLogical = IntArray(backend.numQubits) { -1 }
+        layout.forEachIndexed { logical, physical -> physicalToLogical[physical] = logical }
+        val initialLayout = layout.toList()
+
+        val out = ArrayList<QuantumGate>(logicalGates.size)
+        var swaps = 0
+
+        fun swapPhysical(a: Int, b: Int) {
+            emitSwap(out, a, b)
+            swaps++
+            val la = physicalToLogical[a]
+            val lb = physicalToLogical[b]
+            physicalToLogical[a] = lb
+            physicalToLogical[b] = la
+            if (la >= 0) layout[la] = b
+            if (lb >= 0) layout[lb] = a
+        }
+
+        for (gate in logicalGates) {
+            when (gate.type) {
+                QuantumGateType.SWAP -> {
+                    // Relabel instead of moving state
+                    val a = gate.controlQubit!!
+                    val b = gate.targetQubit
+                    val pa = layout[a]
+                    layout[a] = layout[b]
+                    layout[b] = pa
+                    physicalToLogical[layout[a]] = a
+                    physicalToLogical[layout[b]] = b
+                }
+                QuantumGateType.CNOT -> {
+                    val control = gate.controlQubit!!
+                    val target = gate.targetQubit
+                    if (!isAdjacent(layout[control], layout[target])) {
+                        val path = shortestPath(layout[control], layout[target])
+                        // Move both ends towards the middle of the path
+                        val last = path.size - 1
+                        val controlSteps = (last - 1) / 2
+                        for (i in 0 until controlSteps) swapPhysical(path[i], path[i + 1])
+                        for (i in 0 until last - 1 - controlSteps) {
+                            swapPhysical(path[last - i], path[last - i - 1])
+                        }
+                    }
+                    out += QuantumGate(
+                        type = QuantumGateType.CNOT,
+                        controlQubit = layout[control],
+                        targetQubit = layout[target]
+                    )
+                }
+                QuantumGateType.MEASURE -> out += gate.copy(
+                    targetQubit = layout[gate.targetQubit],
+                    classicalBit = gate.classicalBit ?: gate.targetQubit
+                )
+                else -> lowerSingleQubit(out, gate.type, layout[gate.targetQubit], gate.parameter)
+            }
+        }
+
+        val physicalQubits = (out.flatMap { it.qubits() }.maxOrNull() ?: -1)
+            .coerceAtLeast(layout.maxOrNull() ?: -1) + 1
+        val classicalBits = circuit.classicalBits ?: circuit.numberOfQubits
+        val transpiled = circuit.copy(
+            numberOfQubits = physicalQubits,
+            gates = out,
+            classicalBits = classicalBits
+        )
+
+        // Unmeasured bits fall back to where their logical qubit ended up
+        val qubitForBit = MutableList(classicalBits) { bit -> layout.getOrElse(bit) { bit } }
+        for (gate in out) {
+            val bit = gate.classicalBit
+            if (gate.type == QuantumGateType.MEASURE && bit != null && bit in qubitForBit.indices) {
+                qubitForBit[bit] = gate.targetQubit
+            }
+        }
+
+        return TranspileResult(
+            circuit = transpiled,
+            initialLayout = initialLayout,
+            finalLayout = layout.toList(),
+            qubitForBit = qubitForBit,
+            swapsInserted = swaps,
+            depth = layeredDepth(out, physicalQubits),
+            originalDepth = layeredDepth(circuit.gates, circuit.numberOfQubits)
+        )
+    }
+
+    private fun validate(circuit: QuantumCircuit) {
+        val n = circuit.numberOfQubits
+        require(n <= backend.numQubits) {
+            "Circuit requires $n qubits but ${backend.displayName} has ${backend.numQubits}"
+        }
+        for (gate in circuit.gates) {
+            val operands = gate.qubits()
+            require(operands.all { it in 0 until n }) {
+                "${gate.type.displayName} gate uses a qubit outside q[0..${n - 1}]"
+            }
+            require(operands.size == operands.toSet().size) { "${gate.type.displayName} gate repeats a qubit" }
+            if (gate.type in listOf(QuantumGateType.ROTATION_X, QuantumGateType.ROTATION_Y, QuantumGateType.ROTATION_Z)) {
+                requireNotNull(gate.parameter) { "${gate.type.displayName} gate is missing its angle" }
+            }
+        }
+        adjacency?.let { graph ->
+            val start = graph.indices.maxByOrNull { graph[it].size } ?: 0
+            require(bfsOrder(start).size >= n) {
+                "${backend.displayName} has no connected region of $n qubits"
+            }
+        }
+    }
+
+    private fun decomposeToffoli(gate: QuantumGate): List<QuantumGate> {
+        if (gate.type != QuantumGateType.TOFFOLI) return listOf(gate)
+
+        val a = gate.controlQubit!!
+        val b = gate.controlQubit2!!
+        val c = gate.targetQubit
+        fun h(q: Int) = QuantumGate(type = QuantumGateType.HADAMARD, targetQubit = q)
+        fun t(q: Int) = QuantumGate(type = QuantumGateType.T_GATE, targetQubit = q)
+        fun tdg(q: Int) = QuantumGate(type = QuantumGateType.ROTATION_Z, targetQubit = q, parameter = -PI / 4)
+        fun cx(control: Int, target: Int) =
+            QuantumGate(type = QuantumGateType.CNOT, controlQubit = control, targetQubit = target)
+
+        // Standard 6-CX decomposition (Nielsen & Chuang, Fig. 4.9)
+        return listOf(
+            h(c), cx(b, c), tdg(c), cx(a, c), t(c), cx(b, c), tdg(c), cx(a, c),
+            t(b), t(c), h(c), cx(a, b), t(a), tdg(b), cx(a, b)
+        )
+    }
+
+    /**
+     * Busiest logical qubits go to the best-connected region, found breadth-first from the
+     * highest-degree physical qubit.
+     */
+    private fun initialLayout(qubits: Int, gates: List<QuantumGate>): IntArray {
+        val graph = adjacency ?: return IntArray(qubits) { it }
+
+        val interactions = IntArray(qubits)
+        for (gate in gates) {
+            if (gate.type == QuantumGateType.CNOT) {
+                interactions[gate.controlQubit!!]++
+                interactions[gate.targetQubit]++
+            }
+        }
+        val logicalOrder = (0 until qubits).sortedByDescending { interactions[it] }
+        val start = graph.indices.maxByOrNull { graph[it].size } ?: 0
+        val physicalOrder = bfsOrder(start)
+
+        val layout = IntArray(qubits)
+        logicalOrder.forEachIndexed { i, logical -> layout[logical] = physicalOrder[i] }
+        return layout
+    }
+
+    private fun isAdjacent(a: Int, b: Int): Boolean {
+        val graph = adjacency ?: return true
+        return graph[a].contains(b)
+    }
+
+    private fun bfsOrder(start: Int): List<Int> {
+        val graph = adjacency ?: return List(backend.numQubits) { it }
+        val seen = BooleanArray(graph.size)
+        val order = ArrayList<Int>()
+        val queue = ArrayDeque<Int>()
+        queue += start
+        seen[start] = true
+        while (queue.isNotEmpty()) {
+            val node = queue.removeFirst()
+            order += node
+            for (next in graph[node]) {
+                if (!seen[next]) {
+                    seen[next] = true
+                    queue += next
+                }
+            }
+        }
+        return order
+    }
+
+    private fun shortestPath(from: Int, to: Int): List<Int> {
+        val graph = adjacency!!
+        val parent = IntArray(graph.size) { -1 }
+        parent[from] = from
+        val queue = ArrayDeque<Int>()
+        queue += from
+        while (queue.isNotEmpty()) {
+            val node = queue.removeFirst()
+            if (node == to) break
+            for (next in graph[node]) {
+                if (parent[next] == -1) {
+                    parent[next] = node
+                    queue += next
+                }
+            }
+        }
+        require(parent[to] != -1) { "Qubits $from and $to are not connected on ${backend.displayName}" }
+
+        val path = ArrayList<Int>()
+        var node = to
+        while (node != from) {
+            path += node
+            node = parent[node]
+        }
+        path += from
+        return path.asReversed()
+    }
+
+    private fun supports(type: QuantumGateType): Boolean = basis == null || qasmName(type) in basis
+
+    private fun emitSwap(out: MutableList<QuantumGate>, a: Int, b: Int) {
+        if (supports(QuantumGateType.SWAP)) {
+            out += QuantumGate(type = QuantumGateType.SWAP, controlQubit = a, targetQubit = b)
+        } else {
+            out += QuantumGate(type = QuantumGateType.CNOT, controlQubit = a, targetQubit = b)
+            out += QuantumGate(type = QuantumGateType.CNOT, controlQubit = b, targetQubit = a)
+            out += QuantumGate(type = QuantumGateType.CNOT, controlQubit = a, targetQubit = b)
+        }
+    }
+
+    /**
+     * Emits a single-qubit gate, rewriting it into RZ/RX rotations (equal up to global phase)
+     * when the backend does not support it natively.
+     */
+    private fun lowerSingleQubit(
+        out: MutableList<QuantumGate>,
+        type: QuantumGateType,
+        qubit: Int,
+        parameter: Double?
+    ) {
+        if (supports(type)) {
+            out += QuantumGate(type = type, targetQubit = qubit, parameter = parameter)
+            return
+        }
+        require(supports(QuantumGateType.ROTATION_Z) && supports(QuantumGateType.ROTATION_X)) {
+            "${backend.displayName} supports neither ${qasmName(type)} nor rz/rx"
+        }
+
+        fun rz(angle: Double) = QuantumGate(type = QuantumGateType.ROTATION_Z, targetQubit = qubit, parameter = angle)
+        fun rx(angle: Double) = QuantumGate(type = QuantumGateType.ROTATION_X, targetQubit = qubit, parameter = angle)
+
+        out += when (type) {
+            QuantumGateType.HADAMARD -> listOf(rz(PI / 2), rx(PI / 2), rz(PI / 2))
+            QuantumGateType.PAULI_X -> listOf(rx(PI))
+            QuantumGateType.PAULI_Y -> listOf(rz(PI), rx(PI))
+            QuantumGateType.PAULI_Z -> listOf(rz(PI))
+            QuantumGateType.PHASE -> listOf(rz(PI / 2))
+            QuantumGateType.T_GATE -> listOf(rz(PI / 4))
+            QuantumGateType.ROTATION_Y -> listOf(rz(-PI / 2), rx(parameter!!), rz(PI / 2))
+            else -> throw IllegalArgumentException("Cannot lower ${qasmName(type)} on ${backend.displayName}")
+        }
+    }
+}
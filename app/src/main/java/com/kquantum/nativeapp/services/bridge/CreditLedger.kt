@@ -0,0 +1,278 @@
+/**
+ * K-QuantumNative - Credit Ledger
+ * Lock-free reserve/commit/refund accounting of QuantumBridge credits
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import android.content.Context
+import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.core.Preferences
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.kquantum.nativeapp.data.models.ExecutionTier
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.stateIn
+import kotlinx.coroutines.launch
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import java.time.YearMonth
+import java.time.ZoneOffset
+import java.util.concurrent.atomic.AtomicReference
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.creditLedgerDataStore by preferencesDataStore(name = "bridge_credits")
+
+@Serializable
+enum class CreditEntryState {
+    HELD,
+    CHARGED,
+    REFUNDED
+}
+
+/**
+ * One submission's claim on the balance, keyed by its idempotency key
+ */
+@Serializable
+data class CreditEntry(
+    val amount: Int,
+    val state: CreditEntryState,
+    val jobId: String? = null,
+    val updatedAt: Long = System.currentTimeMillis()
+)
+
+@Serializable
+data class CreditLedgerState(
+    val tier: ExecutionTier = ExecutionTier.FREE,
+    val period: String = "",
+    val allowance: Int = ExecutionTier.FREE.monthlyCredits,
+    val spent: Int = 0,
+    val entries: Map<String, CreditEntry> = emptyMap()
+) {
+    val held: Int
+        get() = entries.values.sumOf { if (it.state == CreditEntryState.HELD) it.amount else 0 }
+
+    val available: Int
+        get() = (allowance - spent - held).coerceAtLeast(0)
+}
+
+sealed class CreditReservation {
+    data class Reserved(val key: String) : CreditReservation()
+    // Another submission with this key holds the credit; wait with awaitSettled and retry
+    data class InProgress(val key: String) : CreditReservation()
+    // The key was already used by a submission that went through
+    data class AlreadyCharged(val key: String, val jobId: String?) : CreditReservation()
+    object Insufficient : CreditReservation()
+}
+
+/**
+ * Tracks credits as reservations against a monthly allowance. Every mutation is a
+ * compare-and-set on an immutable [CreditLedgerState], so parallel submissions never
+ * double-spend and never block each other. Reserving a key that is already charged returns
+ * that charge, and one that is still held returns [CreditReservation.InProgress], which makes
+ * retried submissions safe. Holds restored from disk have no live holder and are released
+ * on load; if the bridge did accept such a job, the next [reconcile] counts its charge.
+ *
+ * The state is persisted after each change and periodically reconciled against the
+ * server's balance, which is authoritative for charged credits.
+ */
+@Singleton
+class CreditLedger(
+    private val dataStore: DataStore<Preferences>
+) {
+    @Inject
+    constructor(@ApplicationContext context: Context) : this(context.creditLedgerDataStore)
+
+    private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
+    private val scope = CoroutineScope(Dispatchers.IO + SupervisorJob())
+
+    companion object {
+        private val KEY_LEDGER = stringPreferencesKey("ledger")
+        // Settled entries kept for idempotency checks
+        private const val MAX_SETTLED_ENTRIES = 200
+
+        private fun currentPeriod(): String = YearMonth.now(ZoneOffset.UTC).toString()
+    }
+
+    private val state = AtomicReference(CreditLedgerState(period = currentPeriod()))
+    private val published = MutableStateFlow(state.get())
+    private val loaded = CompletableDeferred<Unit>()
+
+    val ledgerState: StateFlow<CreditLedgerState> = published
+
+    val remainingCredits: StateFlow<Int> = published
+        .map { it.available }
+        .stateIn(scope, SharingStarted.Eagerly, state.get().available)
+
+    init {
+        scope.launch {
+            try {
+                val stored = dataStore.data.first()[KEY_LEDGER]
+                    ?.let { runCatching { json.decodeFromString<CreditLedgerState>(it) }.getOrNull() }
+                if (stored != null) mutate { stored.withHoldsReleased().rolledOver() }
+            } finally {
+                loaded.complete(Unit)
+            }
+            // Single writer: StateFlow conflation means only the latest state is written
+            published.collect { persist(it) }
+        }
+    }
+
+    /**
+     * Holds [amount] credits for the submission identified by [key].
+     */
+    suspend fun reserve(key: String, amount: Int = 1): CreditReservation {
+        loaded.await()
+        var outcome: CreditReservation = CreditReservation.Insufficient
+        mutate { current ->
+            val ledger = current.rolledOver()
+            val existing = ledger.entries[key]
+            when {
+                existing?.state == CreditEntryState.HELD -> {
+                    outcome = CreditReservation.InProgress(key)
+                    ledger
+                }
+                existing?.state == CreditEntryState.CHARGED -> {
+                    outcome = CreditReservation.AlreadyCharged(key, existing.jobId)
+                    ledger
+                }
+                ledger.available < amount -> {
+                    outcome = CreditReservation.Insufficient
+                    ledger
+                }
+                else -> {
+                    outcome = CreditReservation.Reserved(key)
+                    ledger.withEntry(key, CreditEntry(amount, CreditEntryState.HELD))
+                }
+            }
+        }
+        return outcome
+    }
+
+    /**
+     * Suspends until the hold for [key] is charged or refunded, and returns its entry.
+     */
+    suspend fun awaitSettled(key: String): CreditEntry? =
+        published.first { it.entries[key]?.state != CreditEntryState.HELD }.entries[key]
+
+    /**
+     * Turns the hold for [key] into a charge once the bridge accepted the job.
+     */
+    suspend fun commit(key: String, jobId: String? = null) {
+        loaded.await()
+        mutate { ledger ->
+            val entry = ledger.entries[key]
+            if (entry?.state != CreditEntryState.HELD) return@mutate ledger
+            ledger.copy(spent = ledger.spent + entry.amount)
+                .withEntry(key, entry.copy(state = CreditEntryState.CHARGED, jobId = jobId))
+        }
+    }
+
+    /**
+     * Releases a hold, or returns a charge for a job that failed on the bridge.
+     */
+    suspend fun refund(key: String) {
+        loaded.await()
+        mutate { ledger ->
+            val entry = ledger.entries[key] ?: return@mutate ledger
+            when (entry.state) {
+                CreditEntryState.HELD -> ledger.withEntry(key, entry.copy(state = CreditEntryState.REFUNDED))
+                CreditEntryState.CHARGED -> ledger.copy(spent = (ledger.spent - entry.amount).coerceAtLeast(0))
+                    .withEntry(key, entry.copy(state = CreditEntryState.REFUNDED))
+                CreditEntryState.REFUNDED -> ledger
+            }
+        }
+    }
+
+    suspend fun refundJob(jobId: String) {
+        val key = state.get().entries.entries.find { it.value.jobId == jobId }?.key ?: return
+        refund(key)
+    }
+
+    /**
+     * Applies [tier]'s allowance. Credits already spent this period are kept; only a new
+     * billing period starts from zero.
+     */
+    suspend fun setTier(tier: ExecutionTier) {
+        loaded.await()
+        mutate { current ->
+            val ledger = current.rolledOver()
+            if (ledger.tier == tier) ledger else ledger.copy(tier = tier, allowance = tier.monthlyCredits)
+        }
+    }
+
+    /**
+     * Adopts the server's view of the remaining balance. Holds still in flight are not yet
+     * known to the server and stay reserved on top of it.
+     */
+    suspend fun reconcile(serverRemaining: Int) {
+        loaded.await()
+        mutate { current ->
+            val ledger = current.rolledOver()
+            ledger.copy(spent = (ledger.allowance - serverRemaining).coerceIn(0, ledger.allowance))
+        }
+    }
+
+    private inline fun mutate(transform: (CreditLedgerState) -> CreditLedgerState) {
+        while (true) {
+            val current = state.get()
+            val next = transform(current)
+            if (next === current || state.compareAndSet(current, next)) break
+        }
+        // Publish whatever is newest, so out-of-order publishers still converge
+        published.value = state.get()
+    }
+
+    private fun CreditLedgerState.rolledOver(): CreditLedgerState {
+        val period = currentPeriod()
+        if (this.period == period) return this
+        return copy(
+            period = period,
+            allowance = tier.monthlyCredits,
+            spent = 0,
+            entries = entries.filterValues { it.state == CreditEntryState.HELD }
+        )
+    }
+
+    // The submissions behind these holds died with the process that made them
+    private fun CreditLedgerState.withHoldsReleased(): CreditLedgerState = copy(
+        entries = entries.mapValues { (_, entry) ->
+            if (entry.state == CreditEntryState.HELD) entry.copy(state = CreditEntryState.REFUNDED) else entry
+        }
+    )
+
+    private fun CreditLedgerState.withEntry(key: String, entry: CreditEntry): CreditLedgerState {
+        val updated = entries + (key to entry.copy(updatedAt = System.currentTimeMillis()))
+        val settled = updated.filterValues { it.state != CreditEntryState.HELD }
+        if (settled.size <= MAX_SETTLED_ENTRIES) return copy(entries = updated)
+
+        val evicted = settled.entries
+            .sortedBy { it.value.updatedAt }
+            .take(settled.size - MAX_SETTLED_ENTRIES)
+            .map { it.key }
+            .toSet()
+        return copy(entries = updated - evicted)
+    }
+
+    private suspend fun persist(ledger: CreditLedgerState) {
+        try {
+            dataStore.edit { prefs ->
+                prefs[KEY_LEDGER] = json.encodeToString(ledger)
+            }
+        } catch (e: Exception) {
+            // Ignore save errors
+        }
+    }
+}
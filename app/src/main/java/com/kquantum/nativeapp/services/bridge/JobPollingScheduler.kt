@@ -0,0 +1,184 @@
+/**
+ * K-QuantumNative - Bridge Job Polling Scheduler
+ * Adaptive status polling for QuantumBridge jobs
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.isActive
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withTimeoutOrNull
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.min
+
+/**
+ * Polls the status of every tracked job from a single loop.
+ *
+ * Each job carries its own next-poll deadline derived from its queue position, ETA and
+ * status transitions. On every tick all jobs that are due are fetched with one batched
+ * request, so N active jobs cost one round-trip instead of N.
+ */
+class JobPollingScheduler(
+    private val scope: CoroutineScope,
+    private val fetchStatuses: suspend (Set<String>) -> Map<String, BridgeJob>,
+    private val clock: () -> Long = System::currentTimeMillis
+) {
+
+    companion object {
+        const val MIN_POLL_INTERVAL_MS = 1_000L
+        const val MAX_QUEUED_POLL_INTERVAL_MS = 60_000L
+        const val MAX_RUNNING_POLL_INTERVAL_MS = 15_000L
+        private const val DEFAULT_JOB_SECONDS = 10
+        private const val MAX_BACKOFF_EXPONENT = 6
+
+        /**
+         * Delay until the next status check for [job].
+         *
+         * @param attempt polls since the job last changed status
+         * @param runningSinceMs when the job was first seen running, if it is running
+         */
+        fun nextPollDelayMs(job: BridgeJob, attempt: Int, runningSinceMs: Long?, now: Long): Long {
+            val backoffMs = MIN_POLL_INTERVAL_MS shl attempt.coerceIn(0, MAX_BACKOFF_EXPONENT)
+
+            return when (job.status) {
+                BridgeJobStatus.QUEUED -> {
+                    // Back off exponentially, but never sleep past half of the expected wait
+                    // so the poll tightens as the job moves up the queue. An unknown or zero
+                    // position says nothing about the wait, so plain backoff applies.
+                    val perJobMs = (job.estimatedTime ?: DEFAULT_JOB_SECONDS) * 1000L
+                    val expectedWaitMs = (job.queuePosition ?: 0).coerceAtLeast(0) * perJobMs
+                    val delayMs = if (expectedWaitMs > 0) min(backoffMs, expectedWaitMs / 2) else backoffMs
+                    delayMs.coerceIn(MIN_POLL_INTERVAL_MS, MAX_QUEUED_POLL_INTERVAL_MS)
+                }
+                BridgeJobStatus.VALIDATING, BridgeJobStatus.RUNNING -> {
+                    val etaMs = job.estimatedTime?.let { it * 1000L }
+                    val startedAt = job.startedAt ?: runningSinceMs
+                    if (etaMs != null && startedAt != null) {
+                        val remainingMs = startedAt + etaMs - now
+                        if (remainingMs > 0) {
+                            // Halve the remaining time so polls tighten towards completion
+                            (remainingMs / 2).coerceIn(MIN_POLL_INTERVAL_MS, MAX_RUNNING_POLL_INTERVAL_MS)
+                        } else {
+                            // Overdue: start fast and back off in case the estimate was wrong
+                            backoffMs.coerceAtMost(MAX_RUNNING_POLL_INTERVAL_MS)
+                        }
+                    } else {
+                        backoffMs.coerceAtMost(MAX_RUNNING_POLL_INTERVAL_MS)
+                    }
+                }
+                else -> MIN_POLL_INTERVAL_MS
+            }
+        }
+    }
+
+    private class TrackedJob(
+        var job: BridgeJob,
+        val onUpdate: (BridgeJob) -> Unit,
+        var nextPollAt: Long,
+        var attempt: Int = 0,
+        var runningSince: Long? = null
+    )
+
+    private val tracked = ConcurrentHashMap<String, TrackedJob>()
+    private val wakeUp = Channel<Unit>(Channel.CONFLATED)
+    private var loopJob: Job? = null
+
+    val activeJobIds: Set<String>
+        get() = tracked.keys.toSet()
+
+    /**
+     * Start tracking [job]. [onUpdate] is invoked with every fetched status, including the
+     * terminal one, after which the job is dropped automatically.
+     */
+    fun track(job: BridgeJob, onUpdate: (BridgeJob) -> Unit) {
+        val now = clock()
+        tracked[job.id] = TrackedJob(
+            job = job,
+            onUpdate = onUpdate,
+            nextPollAt = now + nextPollDelayMs(job, 0, null, now),
+            runningSince = if (job.status == BridgeJobStatus.RUNNING) now else null
+        )
+        ensureLoop()
+        wakeUp.trySend(Unit)
+    }
+
+    fun untrack(jobId: String) {
+        tracked.remove(jobId)
+        wakeUp.trySend(Unit)
+    }
+
+    fun stop() {
+        tracked.clear()
+        loopJob?.cancel()
+        loopJob = null
+    }
+
+    @Synchronized
+    private fun ensureLoop() {
+        if (loopJob?.isActive == true) return
+        loopJob = scope.launch {
+            while (isActive) {
+                if (tracked.isEmpty()) {
+                    wakeUp.receive()
+                    continue
+                }
+                pollDueJobs()
+                val nextDue = tracked.values.minOfOrNull { it.nextPollAt } ?: continue
+                val sleepMs = nextDue - clock()
+                if (sleepMs > 0) {
+                    // A newly tracked job may be due sooner than the current deadline
+                    withTimeoutOrNull(sleepMs) { wakeUp.receive() }
+                }
+            }
+        }
+    }
+
+    private suspend fun pollDueJobs() {
+        val now = clock()
+        val due = tracked.filterValues { it.nextPollAt <= now }.keys
+        if (due.isEmpty()) return
+
+        val statuses = try {
+            fetchStatuses(due)
+        } catch (e: Exception) {
+            // Keep the jobs and retry with backoff on the next tick
+            due.forEach { id ->
+                tracked[id]?.let { entry ->
+                    entry.attempt++
+                    entry.nextPollAt = now + nextPollDelayMs(entry.job, entry.attempt, entry.runningSince, now)
+                }
+            }
+            return
+        }
+
+        for (id in due) {
+            val entry = tracked[id] ?: continue
+            val updated = statuses[id]
+            if (updated == null) {
+                entry.attempt++
+                entry.nextPollAt = now + nextPollDelayMs(entry.job, entry.attempt, entry.runningSince, now)
+                continue
+            }
+
+            if (updated.status != entry.job.status) {
+                entry.attempt = 0
+                if (updated.status == BridgeJobStatus.RUNNING) entry.runningSince = now
+            } else {
+                entry.attempt++
+            }
+            entry.job = updated
+            entry.onUpdate(updated)
+
+            if (updated.status.isTerminal) {
+                tracked.remove(id)
+            } else {
+                entry.nextPollAt = now + nextPollDelayMs(updated, entry.attempt, entry.runningSince, now)
+            }
+        }
+    }
+}
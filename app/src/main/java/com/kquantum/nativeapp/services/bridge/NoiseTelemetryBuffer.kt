@@ -0,0 +1,177 @@
+/**
+ * K-QuantumNative - Noise Telemetry Buffer
+ * Fixed-capacity history of per-qubit noise samples for real-time charts
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * Per-qubit noise metrics kept in the telemetry history
+ */
+enum class NoiseMetric {
+    DEPHASING,
+    RELAXATION,
+    GATE_ERROR,
+    FIDELITY
+}
+
+/**
+ * Read-only view over the telemetry history. Only valid inside [NoiseTelemetryBuffer.read].
+ * Sample index 0 is the oldest retained sample, `sampleCount - 1` the newest.
+ */
+interface NoiseTelemetryView {
+    val qubitCount: Int
+    val sampleCount: Int
+
+    fun timestampAt(sample: Int): Long
+    fun valueAt(qubit: Int, metric: NoiseMetric, sample: Int): Float
+
+    /**
+     * Downsamples the last [windowSamples] samples of one series into [buckets] buckets and
+     * writes per-bucket min, max and average into the caller's arrays. Returns the number of
+     * buckets written, which is smaller than requested when fewer samples exist.
+     */
+    fun downsample(
+        qubit: Int,
+        metric: NoiseMetric,
+        windowSamples: Int,
+        buckets: Int,
+        outMin: FloatArray,
+        outMax: FloatArray,
+        outAvg: FloatArray
+    ): Int
+}
+
+/**
+ * Ring buffer holding [capacity] samples for every qubit and [NoiseMetric] in one primitive
+ * array, so recording a sample never allocates and memory stays constant no matter how long
+ * monitoring runs. At the 500 ms monitoring cadence the default capacity covers ten minutes.
+ */
+class NoiseTelemetryBuffer(
+    val qubitCount: Int,
+    val capacity: Int = DEFAULT_CAPACITY
+) {
+    companion object {
+        const val DEFAULT_CAPACITY = 1200
+        private val METRICS = NoiseMetric.entries.size
+    }
+
+    // Layout: [qubit][metric][slot], each series contiguous for cache-friendly window scans
+    private val values = FloatArray(qubitCount * METRICS * capacity)
+    private val timestamps = LongArray(capacity)
+    private val lock = ReentrantReadWriteLock()
+
+    private var head = 0 // slot of the next write
+    private var count = 0
+    private var pendingSlot = -1
+
+    private val view = object : NoiseTelemetryView {
+        override val qubitCount: Int get() = this@NoiseTelemetryBuffer.qubitCount
+        override val sampleCount: Int get() = visibleCount()
+
+        override fun timestampAt(sample: Int): Long = timestamps[slotOf(sample)]
+
+        override fun valueAt(qubit: Int, metric: NoiseMetric, sample: Int): Float =
+            values[seriesOffset(qubit, metric) + slotOf(sample)]
+
+        override fun downsample(
+            qubit: Int,
+            metric: NoiseMetric,
+            windowSamples: Int,
+            buckets: Int,
+            outMin: FloatArray,
+            outMax: FloatArray,
+            outAvg: FloatArray
+        ): Int {
+            val visible = visibleCount()
+            val window = minOf(windowSamples, visible)
+            val bucketCount = minOf(buckets, window, outMin.size, outMax.size, outAvg.size)
+            if (bucketCount <= 0) return 0
+
+            val offset = seriesOffset(qubit, metric)
+            val first = visible - window
+            for (bucket in 0 until bucketCount) {
+                val start = first + (bucket.toLong() * window / bucketCount).toInt()
+                val end = first + ((bucket + 1).toLong() * window / bucketCount).toInt()
+                var min = Float.MAX_VALUE
+                var max = -Float.MAX_VALUE
+                var sum = 0.0
+                for (sample in start until end) {
+                    val value = values[offset + slotOf(sample)]
+                    if (value < min) min = value
+                    if (value > max) max = value
+                    sum += value
+                }
+                outMin[bucket] = min
+                outMax[bucket] = max
+                outAvg[bucket] = (sum / (end - start)).toFloat()
+            }
+            return bucketCount
+        }
+    }
+
+    /**
+     * Opens a new sample slot at [timestampMs], overwriting the oldest sample once full.
+     * Fill it with [set] and publish it with [commitSample]; until then readers no longer
+     * see the sample being overwritten.
+     */
+    fun beginSample(timestampMs: Long) {
+        lock.write {
+            pendingSlot = head
+            timestamps[head] = timestampMs
+        }
+    }
+
+    fun set(qubit: Int, metric: NoiseMetric, value: Float) {
+        if (qubit !in 0 until qubitCount) return
+        lock.write {
+            if (pendingSlot >= 0) values[seriesOffset(qubit, metric) + pendingSlot] = value
+        }
+    }
+
+    fun commitSample() {
+        lock.write {
+            if (pendingSlot < 0) return
+            head = (head + 1) % capacity
+            if (count < capacity) count++
+            pendingSlot = -1
+        }
+    }
+
+    /**
+     * Runs [block] against the live history without copying it. Writers wait until the block
+     * returns, so keep it short, e.g. downsample into preallocated chart arrays.
+     */
+    fun <R> read(block: (NoiseTelemetryView) -> R): R = lock.read { block(view) }
+
+    fun clear() {
+        lock.write {
+            head = 0
+            count = 0
+            pendingSlot = -1
+        }
+    }
+
+    private fun seriesOffset(qubit: Int, metric: NoiseMetric): Int =
+        (qubit * METRICS + metric.ordinal) * capacity
+
+    // Once full, an open sample reuses the oldest slot, which drops out of view until commit
+    private fun overwriting(): Boolean = pendingSlot >= 0 && count == capacity
+
+    private fun visibleCount(): Int = if (overwriting()) count - 1 else count
+
+    private fun slotOf(sample: Int): Int {
+        // While filling, the oldest sample sits at slot 0; once full it sits at head, or just
+        // after it while head is being rewritten
+        val oldest = when {
+            count < capacity -> 0
+            overwriting() -> head + 1
+            else -> head
+        }
+        return (oldest + sample) % capacity
+    }
+}
@@ -0,0 +1,257 @@
+/**
+ * K-QuantumNative - Noisy Simulator
+ * Local state-vector simulation with stochastic Pauli noise
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.NoiseModel
+import com.kquantum.nativeapp.data.models.OutcomeHistogram
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlin.math.PI
+import kotlin.math.cos
+import kotlin.math.sin
+import kotlin.math.sqrt
+import kotlin.random.Random
+
+/**
+ * Runs circuits on an in-process state vector. Noise is sampled per trajectory: after every
+ * gate each touched qubit suffers a random Pauli with probability
+ * [NoiseModel.gateErrorRate] and a Z flip with probability [NoiseModel.dephasingRate], and
+ * each measured bit flips with probability [NoiseModel.measurementError]. Trajectories are
+ * split across [parallelism] coroutines on [Dispatchers.Default].
+ *
+ * Measurements must come after all other gates. A circuit without any measures every qubit.
+ */
+class NoisySimulator(
+    private val noiseModel: NoiseModel = NoiseModel.NISQ_REALISTIC,
+    private val trajectories: Int = 64,
+    private val parallelism: Int = Runtime.getRuntime().availableProcessors().coerceIn(1, 8),
+    private val seed: Long = 7
+) {
+
+    companion object {
+        // 2^20 amplitudes is 16 MB per trajectory worker
+        const val MAX_QUBITS = 20
+    }
+
+    suspend fun run(circuit: QuantumCircuit, shots: Int): OutcomeHistogram {
+        require(circuit.numberOfQubits in 1..MAX_QUBITS) {
+            "Local simulation supports up to $MAX_QUBITS qubits, got ${circuit.numberOfQubits}"
+        }
+        require(shots > 0) { "Shots must be positive" }
+
+        val firstMeasure = circuit.gates.indexOfFirst { it.type == QuantumGateType.MEASURE }
+        val unitary = if (firstMeasure < 0) circuit.gates else circuit.gates.subList(0, firstMeasure)
+        val measures = if (firstMeasure < 0) emptyList() else circuit.gates.subList(firstMeasure, circuit.gates.size)
+        require(measures.all { it.type == QuantumGateType.MEASURE }) { "Gates after a measurement are not supported" }
+
+        // Physical qubit -> classical bit
+        val readout = if (measures.isEmpty()) {
+            (0 until circuit.numberOfQubits).map { it to it }
+        } else {
+            measures.map { it.targetQubit to (it.classicalBit ?: it.targetQubit) }
+        }
+        val width = circuit.classicalBits ?: circuit.numberOfQubits
+
+        val runs = trajectories.coerceIn(1, shots)
+        val workers = parallelism.coerceAtMost(runs)
+        return coroutineScope {
+            (0 until workers).map { worker ->
+                async(Dispatchers.Default) {
+                    val random = Random(seed * 31 + worker)
+                    val histogram = OutcomeHistogram(width)
+                    val state = StateVectorBuffer(circuit.numberOfQubits)
+                    for (trajectory in worker until runs step workers) {
+                        // Spread the remainder over the first trajectories
+                        val trajectoryShots = shots / runs + if (trajectory < shots % runs) 1 else 0
+                        state.reset()
+                        for (gate in unitary) {
+                            state.apply(gate)
+                            injectNoise(state, gate, random)
+                        }
+                        state.sample(trajectoryShots, readout, random, histogram)
+                    }
+                    histogram
+                }
+            }.awaitAll().reduce { merged, part -> merged.merge(part) }
+        }
+    }
+
+    private fun injectNoise(state: StateVectorBuffer, gate: QuantumGate, random: Random) {
+        for (qubit in listOfNotNull(gate.controlQubit2, gate.controlQubit, gate.targetQubit)) {
+            if (random.nextDouble() < noiseModel.gateErrorRate) {
+                when (random.nextInt(3)) {
+                    0 -> state.pauliX(qubit)
+                    1 -> state.pauliY(qubit)
+                    else -> state.pauliZ(qubit)
+                }
+            }
+            if (random.nextDouble() < noiseModel.dephasingRate) state.pauliZ(qubit)
+        }
+    }
+
+    private fun StateVectorBuffer.sample(
+        shots: Int,
+        readout: List<Pair<Int, Int>>,
+        random: Random,
+        into: OutcomeHistogram
+    ) {
+        val cumulative = cumulativeProbabilities()
+        val total = cumulative.last()
+        repeat(shots) {
+            var index = cumulative.binarySearch(random.nextDouble() * total)
+            if (index < 0) index = -index - 1
+            index = index.coerceAtMost(cumulative.size - 1)
+
+            var outcome = 0L
+            for ((qubit, bit) in readout) {
+                var value = (index shr qubit) and 1
+                if (random.nextDouble() < noiseModel.measurementError) value = value xor 1
+                if (value == 1) outcome = outcome or (1L shl bit)
+            }
+            into.add(outcome)
+        }
+    }
+
+    /**
+     * Dense amplitudes as parallel primitive arrays, reused across trajectories
+     */
+    private class StateVectorBuffer(private val qubits: Int) {
+        private val size = 1 shl qubits
+        private val re = DoubleArray(size)
+        private val im = DoubleArray(size)
+
+        fun reset() {
+            re.fill(0.0)
+            im.fill(0.0)
+            re[0] = 1.0
+        }
+
+        fun apply(gate: QuantumGate) {
+            val q = gate.targetQubit
+            when (gate.type) {
+                QuantumGateType.HADAMARD -> {
+                    val h = 1 / sqrt(2.0)
+                    single(q, h, 0.0, h, 0.0, h, 0.0, -h, 0.0)
+                }
+                QuantumGateType.PAULI_X -> pauliX(q)
+                QuantumGateType.PAULI_Y -> pauliY(q)
+                QuantumGateType.PAULI_Z -> pauliZ(q)
+                QuantumGateType.PHASE -> phase(q, PI / 2)
+                QuantumGateType.T_GATE -> phase(q, PI / 4)
+                QuantumGateType.ROTATION_X -> {
+                    val theta = gate.parameter ?: 0.0
+                    val c = cos(theta / 2)
+                    val s = sin(theta / 2)
+                    single(q, c, 0.0, 0.0, -s, 0.0, -s, c, 0.0)
+                }
+                QuantumGateType.ROTATION_Y -> {
+                    val theta = gate.parameter ?: 0.0
+                    val c = cos(theta / 2)
+                    val s = sin(theta / 2)
+                    single(q, c, 0.0, -s, 0.0, s, 0.0, c, 0.0)
+                }
+                QuantumGateType.ROTATION_Z -> {
+                    val half = (gate.parameter ?: 0.0) / 2
+                    single(q, cos(half), -sin(half), 0.0, 0.0, 0.0, 0.0, cos(half), sin(half))
+                }
+                QuantumGateType.CNOT -> controlledX(requireNotNull(gate.controlQubit), null, q)
+                QuantumGateType.TOFFOLI -> controlledX(
+                    requireNotNull(gate.controlQubit),
+                    requireNotNull(gate.controlQubit2),
+                    q
+                )
+                QuantumGateType.SWAP -> swap(requireNotNull(gate.controlQubit), q)
+                QuantumGateType.MEASURE -> Unit
+            }
+        }
+
+        fun pauliX(q: Int) {
+            val bit = 1 shl q
+            for (i in 0 until size) {
+                if (i and bit != 0) continue
+                swapAmplitudes(i, i or bit)
+            }
+        }
+
+        fun pauliY(q: Int) = single(q, 0.0, 0.0, 0.0, -1.0, 0.0, 1.0, 0.0, 0.0)
+
+        fun pauliZ(q: Int) {
+            val bit = 1 shl q
+            for (i in 0 until size) {
+                if (i and bit == 0) continue
+                re[i] = -re[i]
+                im[i] = -im[i]
+            }
+        }
+
+        fun cumulativeProbabilities(): DoubleArray {
+            val cumulative = DoubleArray(size)
+            var sum = 0.0
+            for (i in 0 until size) {
+                sum += re[i] * re[i] + im[i] * im[i]
+                cumulative[i] = sum
+            }
+            return cumulative
+        }
+
+        private fun phase(q: Int, angle: Double) =
+            single(q, 1.0, 0.0, 0.0, 0.0, 0.0, 0.0, cos(angle), sin(angle))
+
+        // Applies [[a, b], [c, d]] given as (re, im) pairs
+        private fun single(
+            q: Int,
+            aRe: Double, aIm: Double, bRe: Double, bIm: Double,
+            cRe: Double, cIm: Double, dRe: Double, dIm: Double
+        ) {
+            val bit = 1 shl q
+            for (i in 0 until size) {
+                if (i and bit != 0) continue
+                val j = i or bit
+                val r0 = re[i]
+                val i0 = im[i]
+                val r1 = re[j]
+                val i1 = im[j]
+                re[i] = aRe * r0 - aIm * i0 + bRe * r1 - bIm * i1
+                im[i] = aRe * i0 + aIm * r0 + bRe * i1 + bIm * r1
+                re[j] = cRe * r0 - cIm * i0 + dRe * r1 - dIm * i1
+                im[j] = cRe * i0 + cIm * r0 + dRe * i1 + dIm * r1
+            }
+        }
+
+        private fun controlledX(control: Int, control2: Int?, target: Int) {
+            val controls = (1 shl control) or (control2?.let { 1 shl it } ?: 0)
+            val bit = 1 shl target
+            for (i in 0 until size) {
+                if (i and controls != controls || i and bit != 0) continue
+                swapAmplitudes(i, i or bit)
+            }
+        }
+
+        private fun swap(a: Int, b: Int) {
+            val bitA = 1 shl a
+            val bitB = 1 shl b
+            for (i in 0 until size) {
+                // Visit each |..1..0..> / |..0..1..> pair once
+                if (i and bitA == 0 || i and bitB != 0) continue
+                swapAmplitudes(i, i xor bitA xor bitB)
+            }
+        }
+
+        private fun swapAmplitudes(i: Int, j: Int) {
+            val r = re[i]
+            re[i] = re[j]
+            re[j] = r
+            val m = im[i]
+            im[i] = im[j]
+            im[j] = m
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * K-QuantumNative - QASM Parser
+ * Reads OpenQASM 2.0 source back into a QuantumCircuit so it can be transpiled
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlin.math.PI
+
+/**
+ * Parses the OpenQASM 2.0 subset the circuit editor writes: the qelib1 gates that have a
+ * [QuantumGateType], plus sdg/tdg as Z rotations. Registers are flattened in declaration
+ * order, a whole register as an operand applies the gate to each of its qubits, and
+ * barriers are dropped. Angles may use pi with + - * / and parentheses.
+ */
+object QasmParser {
+
+    private val COMMENT = Regex("//[^\\n]*")
+    private val REGISTER = Regex("""(qreg|creg)\s+(\w+)\s*\[\s*(\d+)\s*]""")
+    private val STATEMENT = Regex("""(\w+)\s*(?:\((.*)\))?\s*(.*)""", RegexOption.DOT_MATCHES_ALL)
+    private val OPERAND = Regex("""(\w+)\s*(?:\[\s*(\d+)\s*])?""")
+    private val IGNORED = setOf("OPENQASM", "include", "barrier", "qreg", "creg", "id")
+
+    private val SINGLE_QUBIT = mapOf(
+        "h" to QuantumGateType.HADAMARD,
+        "x" to QuantumGateType.PAULI_X,
+        "y" to QuantumGateType.PAULI_Y,
+        "z" to QuantumGateType.PAULI_Z,
+        "s" to QuantumGateType.PHASE,
+        "t" to QuantumGateType.T_GATE
+    )
+    private val ROTATIONS = mapOf(
+        "rx" to QuantumGateType.ROTATION_X,
+        "ry" to QuantumGateType.ROTATION_Y,
+        "rz" to QuantumGateType.ROTATION_Z
+    )
+
+    private class Register(val offset: Int, val size: Int)
+
+    /**
+     * @throws IllegalArgumentException on syntax this parser does not support
+     */
+    fun parse(qasm: String, name: String = "QASM Circuit"): QuantumCircuit {
+        val source = qasm.replace(COMMENT, "")
+        val qregs = mutableMapOf<String, Register>()
+        val cregs = mutableMapOf<String, Register>()
+        var qubits = 0
+        var clbits = 0
+        for (match in REGISTER.findAll(source)) {
+            val size = match.groupValues[3].toInt()
+            if (match.groupValues[1] == "qreg") {
+                qregs[match.groupValues[2]] = Register(qubits, size)
+                qubits += size
+            } else {
+                cregs[match.groupValues[2]] = Register(clbits, size)
+                clbits += size
+            }
+        }
+        require(qubits > 0) { "QASM declares no qubits" }
+
+        val gates = mutableListOf<QuantumGate>()
+        for (statement in source.split(';')) {
+            val line = statement.trim()
+            if (line.isEmpty()) continue
+            val match = STATEMENT.matchEntire(line) ?: throw IllegalArgumentException("Cannot parse QASM '$line'")
+            val gate = match.groupValues[1]
+            if (gate in IGNORED) continue
+
+            if (gate == "measure") {
+                val (from, to) = line.removePrefix("measure").split("->").map { it.trim() }
+                    .takeIf { it.size == 2 } ?: throw IllegalArgumentException("Cannot parse QASM '$line'")
+                val sources = operand(from, qregs, line)
+                val targets = operand(to, cregs, line)
+                require(sources.size == targets.size) { "Register sizes differ in '$line'" }
+                sources.zip(targets).forEach { (q, c) ->
+                    gates += QuantumGate(type = QuantumGateType.MEASURE, targetQubit = q, classicalBit = c)
+                }
+                continue
+            }
+
+            val operands = match.groupValues[3].split(',').map { operand(it.trim(), qregs, line) }
+            val angle = match.groups[2]?.value?.let { Angle(it).parse() }
+            when {
+                gate in SINGLE_QUBIT -> operands.single().forEach {
+                    gates += QuantumGate(type = SINGLE_QUBIT.getValue(gate), targetQubit = it)
+                }
+                gate in ROTATIONS -> {
+                    requireNotNull(angle) { "$gate needs an angle in '$line'" }
+                    operands.single().forEach {
+                        gates += QuantumGate(type = ROTATIONS.getValue(gate), targetQubit = it, parameter = angle)
+                    }
+                }
+                gate == "sdg" || gate == "tdg" -> operands.single().forEach {
+                    val rz = if (gate == "sdg") -PI / 2 else -PI / 4
+                    gates += QuantumGate(type = QuantumGateType.ROTATION_Z, targetQubit = it, parameter = rz)
+                }
+                gate == "cx" || gate == "CX" || gate == "swap" -> {
+                    val (a, b) = pairwise(operands, 2, line)
+                    a.indices.forEach { i ->
+                        gates += QuantumGate(
+                            type = if (gate == "swap") QuantumGateType.SWAP else QuantumGateType.CNOT,
+                            controlQubit = a[i],
+                            targetQubit = b[i]
+                        )
+                    }
+                }
+                gate == "ccx" -> {
+                    val (a, b, c) = pairwise(operands, 3, line)
+                    a.indices.forEach { i ->
+                        gates += QuantumGate(
+                            type = QuantumGateType.TOFFOLI,
+                            controlQubit = a[i],
+                            controlQubit2 = b[i],
+                            targetQubit = c[i]
+                        )
+                    }
+                }
+                else -> throw IllegalArgumentException("Unsupported QASM gate '$gate'")
+            }
+        }
+
+        return QuantumCircuit(
+            name = name,
+            numberOfQubits = qubits,
+            gates = gates,
+            classicalBits = clbits.takeIf { it > 0 }
+        )
+    }
+
+    private fun operand(text: String, registers: Map<String, Register>, line: String): List<Int> {
+        val match = OPERAND.matchEntire(text) ?: throw IllegalArgumentException("Cannot parse QASM '$line'")
+        val register = registers[match.groupValues[1]]
+            ?: throw IllegalArgumentException("Unknown register '${match.groupValues[1]}' in '$line'")
+        val index = match.groups[2]?.value?.toInt() ?: return List(register.size) { register.offset + it }
+        require(index < register.size) { "Index $index is outside ${match.groupValues[1]} in '$line'" }
+        return listOf(register.offset + index)
+    }
+
+    // Multi-qubit gates broadcast over whole registers of equal size, single qubits repeat
+    private fun pairwise(operands: List<List<Int>>, arity: Int, line: String): List<List<Int>> {
+        require(operands.size == arity) { "Expected $arity operands in '$line'" }
+        val width = operands.maxOf { it.size }
+        require(operands.all { it.size == 1 || it.size == width }) { "Register sizes differ in '$line'" }
+        return operands.map { if (it.size == width) it else List(width) { _ -> it.single() } }
+    }
+
+    /**
+     * Recursive-descent evaluator for angle expressions such as `-pi/4` or `3*pi/2`
+     */
+    private class Angle(private val text: String) {
+        private var pos = 0
+
+        fun parse(): Double {
+            val value = sum()
+            skipSpaces()
+            require(pos == text.length) { "Cannot parse angle '$text'" }
+            return value
+        }
+
+        private fun sum(): Double {
+            var value = product()
+            while (true) {
+                value = when (peek()) {
+                    '+' -> { pos++; value + product() }
+                    '-' -> { pos++; value - product() }
+                    else -> return value
+                }
+            }
+        }
+
+        private fun product(): Double {
+            var value = unary()
+            while (true) {
+                value = when (peek()) {
+                    '*' -> { pos++; value * unary() }
+                    '/' -> { pos++; value / unary() }
+                    else -> return value
+                }
+            }
+        }
+
+        private fun unary(): Double = when (peek()) {
+            '-' -> { pos++; -unary() }
+            '+' -> { pos++; unary() }
+            '(' -> {
+                pos++
+                val value = sum()
+                require(peek() == ')') { "Unbalanced parentheses in angle '$text'" }
+                pos++
+                value
+            }
+            else -> number()
+        }
+
+        private fun number(): Double {
+            skipSpaces()
+            if (text.startsWith("pi", pos)) {
+                pos += 2
+                return PI
+            }
+            val start = pos
+            while (pos < text.length && (text[pos].isDigit() || text[pos] == '.' || text[pos] == 'e' ||
+                    (text[pos] in "+-" && pos > start && text[pos - 1] == 'e'))
+            ) pos++
+            return text.substring(start, pos).toDoubleOrNull()
+                ?: throw IllegalArgumentException("Cannot parse angle '$text'")
+        }
+
+        private fun peek(): Char? {
+            skipSpaces()
+            return text.getOrNull(pos)
+        }
+
+        private fun skipSpaces() {
+            while (pos < text.length && text[pos].isWhitespace()) pos++
+        }
+    }
+}
@@ -9,37 +9,62 @@ package com.kquantum.nativeapp.services.bridge
 import com.kquantum.nativeapp.BuildConfig
 import com.kquantum.nativeapp.data.models.*
 import kotlinx.coroutines.*
-import kotlinx.coroutines.flow.MutableStateFlow
-import kotlinx.coroutines.flow.StateFlow
-import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.channels.BufferOverflow
+import kotlinx.coroutines.flow.*
 import kotlinx.serialization.json.Json
 import okhttp3.*
 import okhttp3.MediaType.Companion.toMediaType
 import okhttp3.RequestBody.Companion.toRequestBody
 import java.io.IOException
-import java.util.concurrent.TimeUnit
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 import javax.inject.Singleton
 import kotlin.random.Random
 
+@OptIn(ExperimentalCoroutinesApi::class)
 @Singleton
-class QuantumBridgeService @Inject constructor() {
+class QuantumBridgeService @Inject constructor(
+    private val jobStore: BridgeJobStore,
+    private val creditLedger: CreditLedger,
+    private val readoutMitigator: ReadoutMitigator,
+    private val jobTracker: BridgeJobTracker,
+    httpClient: OkHttpClient,
+    config: BridgeConfig
+) {
 
     companion object {
         private val HARDWARE_SPECS = HardwareSpecs()
         private const val NOISE_MONITORING_INTERVAL_MS = 500L
+        private const val MIN_NOISE_INTERVAL_MS = 100L
+        private const val NOISE_DELTA_RESOLUTION = 1e-5
+        private const val NOISE_MONITORED_QUBITS = 4
+        private const val MAX_NOISE_RECONNECT_DELAY_MS = 30_000L
+        private const val DEFAULT_SHOTS = 1000
+        private const val ZNE_SHOTS = 4000
+        private const val SIMULATED_QUEUE_MS = 1_000L
+        private const val SIMULATED_RUN_MS = 2_000L
+        private val CLASSICAL_REGISTER = Regex("""creg\s+\w+\s*\[\s*(\d+)\s*]""")
+
+        // Simulated 127-qubit devices: nearest-neighbour lattice with a CX/RZ/RX basis
+        private val IBM_COUPLING_MAP = CouplingMaps.grid(rows = 8, columns = 16, qubits = 127)
+        private val IBM_BASIS_GATES = listOf("cx", "rz", "rx", "x", "measure")
     }
 
     private val scope = CoroutineScope(Dispatchers.IO + SupervisorJob())
     private val json = Json { ignoreUnknownKeys = true; isLenient = true }
 
-    private val httpClient = OkHttpClient.Builder()
-        .connectTimeout(30, TimeUnit.SECONDS)
-        .readTimeout(60, TimeUnit.SECONDS)
-        .build()
+    // Null while the bridge is simulated in-process
+    private val client: BridgeClient? = if (config.simulated) null else BridgeClient(config, httpClient, json)
 
-    private var webSocket: WebSocket? = null
-    private var noiseMonitoringJob: Job? = null
+    // Non-terminal jobs by id; currentJob only mirrors the most recently submitted one
+    private val activeJobs = ConcurrentHashMap<String, BridgeJob>()
+
+    // Jobs the user cancelled; the background worker does not notify about these
+    private val userCancelledJobs = ConcurrentHashMap.newKeySet<String>()
+
+    // Identical submissions share one job while it runs and briefly after it completes
+    private val submissions = SubmissionCoalescer()
 
     private val _isConnected = MutableStateFlow(false)
     val isConnected: StateFlow<Boolean> = _isConnected.asStateFlow()
@@ -50,11 +75,45 @@ class QuantumBridgeService @Inject constructor() {
     private val _jobHistory = MutableStateFlow<List<BridgeJob>>(emptyList())
     val jobHistory: StateFlow<List<BridgeJob>> = _jobHistory.asStateFlow()
 
-    private val _realTimeNoiseData = MutableStateFlow<RealTimeNoiseData?>(null)
-    val realTimeNoiseData: StateFlow<RealTimeNoiseData?> = _realTimeNoiseData.asStateFlow()
+    private val noiseMonitoringActive = MutableStateFlow(false)
+    private val noiseRefreshRequests = MutableSharedFlow<Unit>(
+        extraBufferCapacity = 1,
+        onBufferOverflow = BufferOverflow.DROP_OLDEST
+    )
+    private val requestedNoiseIntervals = MutableStateFlow<List<Long>>(emptyList())
+    private val noiseBackend = MutableStateFlow<String?>(null)
+
+    // Cold pipeline: frames are only generated while someone collects, at the fastest
+    // rate any collector asked for, and frames identical to the previous one are dropped.
+    private val noiseFrames: Flow<RealTimeNoiseData?> = noiseMonitoringActive
+        .flatMapLatest { active ->
+            val intervals = requestedNoiseIntervals
+                .map { intervals -> intervals.minOrNull() ?: NOISE_MONITORING_INTERVAL_MS }
+                .distinctUntilChanged()
+            val remote = client
+            when {
+                !active -> flow {
+                    emit(null)
+                    noiseRefreshRequests.collect { refreshNoiseFrame()?.let { emit(it) } }
+                }
+                remote != null -> combine(noiseBackend.filterNotNull(), intervals, ::Pair)
+                    .flatMapLatest { (backend, intervalMs) -> remoteNoiseFrames(remote, backend, intervalMs) }
+                else -> intervals.flatMapLatest { intervalMs -> noiseTicker(intervalMs) }
+            }
+        }
+        // The generator hands back the previous frame instance when nothing changed
+        .distinctUntilChanged { previous, next -> previous === next }
+
+    // Stops with the last collector; screens keep their own grace period across rotation,
+    // so a second timeout here would only keep the generator running after they leave
+    val realTimeNoiseData: StateFlow<RealTimeNoiseData?> = noiseFrames.stateIn(
+        scope,
+        SharingStarted.WhileSubscribed(),
+        null
+    )
 
     // Alias for noiseData (used by BridgeViewModel)
-    val noiseData: StateFlow<RealTimeNoiseData?> = _realTimeNoiseData.asStateFlow()
+    val noiseData: StateFlow<RealTimeNoiseData?> = realTimeNoiseData
 
     private val _availableBackends = MutableStateFlow<List<QuantumBackend>>(emptyList())
     val availableBackends: StateFlow<List<QuantumBackend>> = _availableBackends.asStateFlow()
@@ -68,17 +127,39 @@ class QuantumBridgeService @Inject constructor() {
     private val _currentTier = MutableStateFlow(ExecutionTier.FREE)
     val currentTier: StateFlow<ExecutionTier> = _currentTier.asStateFlow()
 
-    private val _remainingCredits = MutableStateFlow(10)
-    val remainingCredits: StateFlow<Int> = _remainingCredits.asStateFlow()
+    val remainingCredits: StateFlow<Int> = creditLedger.remainingCredits
 
     private val _hardwareStatus = MutableStateFlow<HardwareStatus?>(null)
     val hardwareStatus: StateFlow<HardwareStatus?> = _hardwareStatus.asStateFlow()
 
     val hardwareSpecs: HardwareSpecs = HARDWARE_SPECS
 
+    /**
+     * Rolling per-qubit noise history recorded alongside [realTimeNoiseData] for charting.
+     */
+    val noiseTelemetry = NoiseTelemetryBuffer(NOISE_MONITORED_QUBITS)
+
+    // Reused by the generator and the decoder for every sample. Collectors get a copy, so a
+    // slow one never sees its frame change while drawing it.
+    private val noiseScratch = NoiseSnapshot()
+    private var lastNoiseFrame: RealTimeNoiseData? = null
+
+    @Volatile
+    private var noiseQubitCount = NOISE_MONITORED_QUBITS
+
+    init {
+        scope.launch {
+            // Jobs finished in earlier sessions; their results stay on disk until asked for
+            val stored = jobStore.completedJobs()
+            if (stored.isNotEmpty()) {
+                _jobHistory.value = (_jobHistory.value + stored).distinctBy { it.id }.take(50)
+            }
+        }
+    }
+
     fun setTier(tier: ExecutionTier) {
         _currentTier.value = tier
-        _remainingCredits.value = tier.monthlyCredits
+        scope.launch { creditLedger.setTier(tier) }
     }
 
     suspend fun connect(apiKey: String? = null): Boolean {
@@ -88,11 +169,10 @@ class QuantumBridgeService @Inject constructor() {
         _error.value = null
 
         return try {
-            // In production, connect to actual WebSocket
-            // For now, simulate connection
-            delay(500)
+            if (client != null) client.connect(apiKey) else delay(500)
             _isConnected.value = true
             checkHardwareStatus()
+            reconcileCredits()
             true
         } catch (e: Exception) {
             _error.value = "Failed to connect: ${e.message}"
@@ -105,38 +185,7 @@ class QuantumBridgeService @Inject constructor() {
     suspend fun loadAvailableBackends() {
         _isLoading.value = true
         try {
-            // Simulate loading backends
-            delay(300)
-            _availableBackends.value = listOf(
-                QuantumBackend(
-                    name = "ibm_brisbane",
-                    displayName = "IBM Brisbane",
-                    numQubits = 127,
-                    status = "online",
-                    queueLength = 5
-                ),
-                QuantumBackend(
-                    name = "ibm_osaka",
-                    displayName = "IBM Osaka",
-                    numQubits = 127,
-                    status = "online",
-                    queueLength = 12
-                ),
-                QuantumBackend(
-                    name = "ibm_kyoto",
-                    displayName = "IBM Kyoto",
-                    numQubits = 127,
-                    status = "maintenance",
-                    queueLength = 0
-                ),
-                QuantumBackend(
-                    name = "simulator",
-                    displayName = "Quantum Simulator",
-                    numQubits = 32,
-                    status = "online",
-                    queueLength = 0
-                )
-            )
+            _availableBackends.value = client?.backends() ?: simulatedBackends()
         } catch (e: Exception) {
             _error.value = "Failed to load backends: ${e.message}"
         } finally {
@@ -144,7 +193,72 @@ class QuantumBridgeService @Inject constructor() {
         }
     }
 
-    suspend fun submitJob(circuit: String, backend: String, shots: Int): BridgeJob? {
+    private suspend fun simulatedBackends(): List<QuantumBackend> {
+        delay(300)
+        return listOf(
+            QuantumBackend(
+                name = "ibm_brisbane",
+                displayName = "IBM Brisbane",
+                numQubits = 127,
+                status = "online",
+                queueLength = 5,
+                averageGateFidelity = 0.9975,
+                averageJobSeconds = 12,
+                couplingMap = IBM_COUPLING_MAP,
+                basisGates = IBM_BASIS_GATES
+            ),
+            QuantumBackend(
+                name = "ibm_osaka",
+                displayName = "IBM Osaka",
+                numQubits = 127,
+                status = "online",
+                queueLength = 12,
+                averageGateFidelity = 0.9981,
+                averageJobSeconds = 12,
+                couplingMap = IBM_COUPLING_MAP,
+                basisGates = IBM_BASIS_GATES
+            ),
+            QuantumBackend(
+                name = "ibm_kyoto",
+                displayName = "IBM Kyoto",
+                numQubits = 127,
+                status = "maintenance",
+                queueLength = 0,
+                averageGateFidelity = 0.9979,
+                averageJobSeconds = 14,
+                couplingMap = IBM_COUPLING_MAP,
+                basisGates = IBM_BASIS_GATES
+            ),
+            QuantumBackend(
+                name = "simulator",
+                displayName = "Quantum Simulator",
+                numQubits = 32,
+                status = "online",
+                queueLength = 0,
+                averageGateFidelity = 1.0,
+                averageJobSeconds = 2,
+                simulator = true
+            )
+        )
+    }
+
+    /**
+     * Submits the QASM source [circuit] to [backend]. When [backend] is one of the loaded
+     * [availableBackends] the circuit is transpiled for it first, like [submitCircuit].
+     * Source using syntax [QasmParser] does not read, such as `u3` or custom `gate`
+     * definitions, is submitted as written and left to the bridge to validate.
+     * Retrying with the same [idempotencyKey] never charges twice; it returns the job
+     * created by the first successful attempt.
+     *
+     * @param errorMitigation whether readout-mitigated probabilities are attached to results
+     */
+    suspend fun submitJob(
+        circuit: String,
+        backend: String,
+        shots: Int,
+        idempotencyKey: String = UUID.randomUUID().toString(),
+        errorMitigation: Boolean = true
+    ): BridgeJob? {
         if (!_isConnected.value) {
             _error.value = "Not connected to QuantumBridge"
             return null
@@ -153,23 +267,27 @@ class QuantumBridgeService @Inject constructor() {
         _isLoading.value = true
 
         return try {
-            val job = BridgeJob(
-                id = "qb-${System.currentTimeMillis()}-${kotlin.random.Random.nextInt(1000)}",
-                circuitData = circuit,
-                status = BridgeJobStatus.QUEUED,
-                estimatedTime = 5 + kotlin.random.Random.nextInt(10),
-                queuePosition = kotlin.random.Random.nextInt(1, 10)
+            val transpiled = _availableBackends.value.find { it.name == backend }?.let { target ->
+                parseQasm(circuit)?.let { CircuitTranspiler(target).transpile(it) }
+            }
+            val qasm = transpiled?.circuit?.toQASM() ?: circuit
+            val request = CircuitSubmissionRequest(
+                circuitQasm = qasm,
+                numShots = shots,
+                errorMitigation = errorMitigation,
+                backend = backend,
+                idempotencyKey = idempotencyKey
             )
-
-            _currentJob.value = job
-            _remainingCredits.value = _remainingCredits.value - 1
-
-            // Simulate job execution in background
-            scope.launch {
-                simulateJobExecution(job)
+            submitCoalesced(request, transpiled?.qubitForBit) {
+                BridgeJob(
+                    id = "qb-${System.currentTimeMillis()}-${kotlin.random.Random.nextInt(1000)}",
+                    circuitData = qasm,
+                    status = BridgeJobStatus.QUEUED,
+                    estimatedTime = 5 + kotlin.random.Random.nextInt(10),
+                    queuePosition = kotlin.random.Random.nextInt(1, 10),
+                    backend = backend
+                )
             }
-
-            job
         } catch (e: Exception) {
             _error.value = "Failed to submit job: ${e.message}"
             null
@@ -178,73 +296,291 @@ class QuantumBridgeService @Inject constructor() {
         }
     }
 
+    private fun parseQasm(qasm: String): QuantumCircuit? = try {
+        QasmParser.parse(qasm)
+    } catch (e: IllegalArgumentException) {
+        null
+    }
+
     suspend fun getJobStatus(jobId: String): BridgeJob? {
-        return _currentJob.value?.takeIf { it.id == jobId }
-            ?: _jobHistory.value.find { it.id == jobId }
+        return findJob(jobId)
+            ?: jobStore.completedJob(jobId)
+            ?: client?.let { getJobStatuses(setOf(jobId))[jobId] }
+    }
+
+    /**
+     * Batched status lookup for several jobs in one request. Jobs the bridge no longer
+     * knows about are absent from the returned map.
+     */
+    suspend fun getJobStatuses(jobIds: Set<String>): Map<String, BridgeJob> {
+        if (client != null) {
+            return client.jobStatuses(jobIds)
+                .map { applyRemoteUpdate(client, it) }
+                .associateBy { it.id }
+        }
+
+        val found = jobIds.mapNotNull { findJob(it) }.associateBy { it.id }
+        val missing = jobIds - found.keys
+        if (missing.isEmpty()) return found
+
+        val stored = missing.mapNotNull { jobStore.completedJob(it) }.associateBy { it.id }
+        return found + stored
     }
 
     suspend fun getJobResults(jobId: String): BridgeJobResults? {
+        // Jobs restored from disk into the history carry no results until asked for
         return getJobStatus(jobId)?.results
+            ?: jobStore.completedResults(jobId)
+            ?: client?.results(jobId)
+    }
+
+    /**
+     * Re-adopts jobs persisted by an earlier process so they are tracked again after the
+     * app was killed while they were queued or running.
+     */
+    suspend fun resumeTrackedJobs() {
+        for (job in jobStore.trackedJobs()) {
+            if (job.status.isTerminal || findJob(job.id) != null) continue
+            activeJobs[job.id] = job
+            if (client == null) {
+                scope.launch {
+                    simulateJobExecution(job)
+                }
+            }
+        }
+    }
+
+    fun wasCancelledByUser(jobId: String): Boolean = jobId in userCancelledJobs
+
+    private fun findJob(jobId: String): BridgeJob? {
+        return activeJobs[jobId]
+            ?: _currentJob.value?.takeIf { it.id == jobId }
+            ?: _jobHistory.value.find { it.id == jobId }
+    }
+
+    private fun trackDurably(job: BridgeJob) {
+        activeJobs[job.id] = job
+        scope.launch {
+            jobStore.track(job)
+            jobTracker.startTracking()
+        }
+    }
+
+    /**
+     * Folds a status fetched from the bridge into local state. Completed jobs get their
+     * results attached and written to disk; noise monitoring follows the running job.
+     */
+    private suspend fun applyRemoteUpdate(remote: BridgeClient, update: BridgeJob): BridgeJob {
+        val previous = findJob(update.id)
+        if (previous != null && previous.status == update.status && update.status.isTerminal) return previous
+
+        // The bridge does not echo how the job was submitted
+        val local = previous
+            ?.let { update.copy(errorMitigation = it.errorMitigation, qubitForBit = it.qubitForBit) }
+            ?: update
+        val job = if (local.status == BridgeJobStatus.COMPLETED && local.results == null) {
+            local.copy(results = remote.results(local.id))
+        } else {
+            local
+        }
+
+        if (job.status.isTerminal) {
+            finishJob(job)
+            stopNoiseMonitoring()
+        } else {
+            publishJob(job)
+            if (job.status == BridgeJobStatus.RUNNING && previous?.status != BridgeJobStatus.RUNNING) {
+                startNoiseMonitoring(job)
+            }
+        }
+        return job
+    }
+
+    /**
+     * Joins an identical in-flight (or just completed) submission when there is one, so
+     * repeats cost neither a credit nor a bridge job.
+     *
+     * @param qubitForBit physical qubit per classical bit of a transpiled circuit
+     */
+    private suspend fun submitCoalesced(
+        request: CircuitSubmissionRequest,
+        qubitForBit: List<Int>?,
+        simulatedJob: () -> BridgeJob
+    ): BridgeJob {
+        val key = SubmissionKey.of(request.circuitQasm, request.backend, request.numShots)
+        return submissions.submit(key, latest = { getJobStatus(it.id) ?: it }) {
+            submitCharged(request, qubitForBit, simulatedJob)
+        }
+    }
+
+    /**
+     * Reserves a credit under the request's idempotency key, submits, and then charges or
+     * releases the reservation depending on the outcome.
+     */
+    private suspend fun submitCharged(
+        request: CircuitSubmissionRequest,
+        qubitForBit: List<Int>?,
+        simulatedJob: () -> BridgeJob
+    ): BridgeJob {
+        val key = requireNotNull(request.idempotencyKey)
+        reserve@ while (true) {
+            when (val reservation = creditLedger.reserve(key)) {
+                is CreditReservation.Reserved -> break@reserve
+                // Join the attempt holding the key: its job if it went through, else retry
+                is CreditReservation.InProgress -> creditLedger.awaitSettled(key)
+                is CreditReservation.AlreadyCharged -> {
+                    return reservation.jobId?.let { getJobStatus(it) }
+                        ?: throw IllegalStateException("Submission $key was already charged")
+                }
+                CreditReservation.Insufficient -> throw IllegalStateException("No remaining credits")
+            }
+        }
+
+        val job = try {
+            (client?.submit(request) ?: simulatedJob())
+                .copy(errorMitigation = request.errorMitigation, qubitForBit = qubitForBit)
+        } catch (e: Exception) {
+            creditLedger.refund(key)
+            throw e
+        }
+        creditLedger.commit(key, job.id)
+
+        _currentJob.value = job
+        trackDurably(job)
+
+        // Simulate job execution in background
+        if (client == null) {
+            scope.launch {
+                simulateJobExecution(job)
+            }
+        }
+        return job
+    }
+
+    private suspend fun reconcileCredits() {
+        val remote = client ?: return
+        try {
+            creditLedger.reconcile(remote.credits().remaining)
+        } catch (e: Exception) {
+            // Keep the local balance until the next successful sync
+        }
+    }
+
+    private fun publishJob(job: BridgeJob) {
+        if (job.status.isTerminal) activeJobs.remove(job.id) else activeJobs[job.id] = job
+        if (_currentJob.value?.id == job.id) {
+            _currentJob.value = job
+        }
     }
 
     suspend fun getNoiseData(backendName: String) {
-        _realTimeNoiseData.value = generateNoiseData()
+        noiseBackend.value = backendName
+        _availableBackends.value.find { it.name == backendName }?.let {
+            noiseQubitCount = it.numQubits.coerceIn(1, HARDWARE_SPECS.maxQubits)
+        }
+        // Only produces a frame if someone is collecting noise data
+        noiseRefreshRequests.tryEmit(Unit)
+    }
+
+    /**
+     * Noise frames for one collector at its own [sampleIntervalMs]. The generator runs at the
+     * fastest rate requested by active collectors and stops when the last one goes away.
+     */
+    fun noiseData(sampleIntervalMs: Long): Flow<RealTimeNoiseData?> {
+        val intervalMs = sampleIntervalMs.coerceAtLeast(MIN_NOISE_INTERVAL_MS)
+        return flow {
+            requestedNoiseIntervals.update { it + intervalMs }
+            try {
+                var lastTimestamp = Long.MIN_VALUE
+                realTimeNoiseData.collect { frame ->
+                    // Allow 10% jitter so a 1 s collector on a 500 ms feed gets every other frame
+                    if (frame == null || frame.timestamp - lastTimestamp >= intervalMs * 9 / 10) {
+                        lastTimestamp = frame?.timestamp ?: Long.MIN_VALUE
+                        emit(frame)
+                    }
+                }
+            } finally {
+                requestedNoiseIntervals.update { it - intervalMs }
+            }
+        }
     }
 
     fun disconnect() {
-        webSocket?.close(1000, "User disconnected")
-        webSocket = null
         _isConnected.value = false
         stopNoiseMonitoring()
     }
 
-    suspend fun submitCircuit(circuit: QuantumCircuit, tier: ExecutionTier = _currentTier.value): BridgeJob {
+    /**
+     * Submits [circuit], transpiled for [backend] when one is given so connectivity or basis
+     * problems surface here instead of after queueing.
+     *
+     * @throws IllegalArgumentException if the circuit exceeds the tier or cannot run on [backend]
+     */
+    suspend fun submitCircuit(
+        circuit: QuantumCircuit,
+        tier: ExecutionTier = _currentTier.value,
+        backend: QuantumBackend? = null,
+        idempotencyKey: String = UUID.randomUUID().toString(),
+        shots: Int = DEFAULT_SHOTS,
+        errorMitigation: Boolean = true
+    ): BridgeJob {
         if (!_isConnected.value) {
             throw IllegalStateException("Not connected to QuantumBridge")
         }
 
         if (circuit.numberOfQubits > tier.maxQubits) {
             throw IllegalArgumentException(
-                "Circuit requires ${circuit.numberOfQubits} qubits but tier allows max ${tier.maxQubits}"
+                "Circuit requires ${circuit.numberOfQubits} qubits but tier allows max ${tier.maxQubits}; " +
+                    "use runCutCircuit to run it as smaller fragments"
             )
         }
 
-        if (_remainingCredits.value <= 0) {
-            throw IllegalStateException("No remaining credits")
-        }
+        val transpiled = backend?.let { CircuitTranspiler(it).transpile(circuit) }
+        val prepared = transpiled?.circuit ?: circuit
+        val qasm = prepared.toQASM()
 
         _isLoading.value = true
 
-        val job = BridgeJob(
-            id = "qb-${System.currentTimeMillis()}-${Random.nextInt(1000)}",
-            circuitData = circuit.toQASM(),
-            status = BridgeJobStatus.QUEUED,
-            estimatedTime = calculateEstimatedTime(circuit),
-            queuePosition = Random.nextInt(1, 10)
-        )
-
-        _currentJob.value = job
-        _remainingCredits.value = _remainingCredits.value - 1
-
-        // Simulate job execution
-        scope.launch {
-            simulateJobExecution(job)
+        return try {
+            val request = CircuitSubmissionRequest(
+                circuitQasm = qasm,
+                numShots = shots,
+                errorMitigation = errorMitigation,
+                backend = backend?.name,
+                idempotencyKey = idempotencyKey
+            )
+            submitCoalesced(request, transpiled?.qubitForBit) {
+                BridgeJob(
+                    id = "qb-${System.currentTimeMillis()}-${Random.nextInt(1000)}",
+                    circuitData = qasm,
+                    status = BridgeJobStatus.QUEUED,
+                    estimatedTime = calculateEstimatedTime(prepared),
+                    queuePosition = Random.nextInt(1, 10),
+                    backend = backend?.name
+                )
+            }
+        } finally {
+            _isLoading.value = false
         }
-
-        _isLoading.value = false
-        return job
     }
 
+    /**
+     * Drives a simulated job to completion from whatever state it is in, so a job resumed
+     * after process death carries on instead of starting over.
+     */
     private suspend fun simulateJobExecution(job: BridgeJob) {
         // Move to running
-        delay(1000)
-        updateJobStatus(job.id, BridgeJobStatus.RUNNING)
+        if (job.status != BridgeJobStatus.RUNNING) {
+            delay(SIMULATED_QUEUE_MS)
+            updateJobStatus(job.id, BridgeJobStatus.RUNNING)
+        }
 
         // Start noise monitoring
         startNoiseMonitoring(job)
 
-        // Simulate execution
-        delay(2000 + Random.nextLong(1000))
+        // Simulate execution, less whatever already ran before a restart
+        val elapsedMs = job.startedAt?.let { System.currentTimeMillis() - it } ?: 0L
+        delay((SIMULATED_RUN_MS + Random.nextLong(1000) - elapsedMs).coerceAtLeast(0))
 
         // Complete with results
         val results = generateMockResults(job)
@@ -254,28 +590,72 @@ class QuantumBridgeService @Inject constructor() {
     }
 
     private fun updateJobStatus(jobId: String, status: BridgeJobStatus) {
-        _currentJob.value = _currentJob.value?.copy(status = status)
+        val job = activeJobs[jobId] ?: return
+        publishJob(
+            job.copy(
+                status = status,
+                startedAt = if (status == BridgeJobStatus.RUNNING) System.currentTimeMillis() else job.startedAt
+            )
+        )
     }
 
-    private fun completeJob(jobId: String, results: BridgeJobResults) {
-        val completedJob = _currentJob.value?.copy(
-            status = BridgeJobStatus.COMPLETED,
-            completedAt = System.currentTimeMillis(),
-            results = results
+    private suspend fun completeJob(jobId: String, results: BridgeJobResults) {
+        // A job cancelled while running is no longer active and keeps its cancelled state
+        val job = activeJobs[jobId] ?: return
+        finishJob(
+            job.copy(
+                status = BridgeJobStatus.COMPLETED,
+                completedAt = System.currentTimeMillis(),
+                results = results
+            )
         )
-        _currentJob.value = completedJob
+    }
+
+    private suspend fun finishJob(finished: BridgeJob) {
+        val job = withMitigatedResults(finished)
+        publishJob(job)
+        submissions.onJobFinished(job)
+        _jobHistory.value = listOf(job) + _jobHistory.value.filterNot { it.id == job.id }.take(49)
+
+        // Write results to disk before anyone asks for them
+        if (job.status == BridgeJobStatus.COMPLETED) jobStore.saveCompleted(job)
+
+        // Jobs that never produced results give their credit back
+        if (job.status == BridgeJobStatus.FAILED ||
+            (job.status == BridgeJobStatus.CANCELLED && job.startedAt == null)
+        ) {
+            creditLedger.refundJob(job.id)
+        }
+    }
+
+    /**
+     * Attaches readout-mitigated probabilities to a completed job's results, using the
+     * latest calibration of the backend it ran on and the qubits its bits were read from.
+     * Jobs submitted without error mitigation keep raw counts only.
+     */
+    private suspend fun withMitigatedResults(job: BridgeJob): BridgeJob {
+        if (!job.errorMitigation) return job
+        val results = job.results ?: return job
+        if (results.mitigatedProbabilities != null) return job
+        val histogram = results.histogram ?: return job
 
-        completedJob?.let { job ->
-            _jobHistory.value = listOf(job) + _jobHistory.value.take(49)
+        return try {
+            val mitigated = withContext(Dispatchers.Default) {
+                readoutMitigator.mitigate(histogram, job.backend, job.qubitForBit?.toIntArray())
+            }
+            job.copy(results = results.copy(mitigatedProbabilities = mitigated))
+        } catch (e: Exception) {
+            // Raw counts are still valid
+            job
         }
     }
 
     private fun generateMockResults(job: BridgeJob): BridgeJobResults {
         // Generate realistic mock measurements
         val measurements = mutableMapOf<String, Int>()
-        val numQubits = job.circuitData?.lines()?.count { it.contains("qreg") }?.let {
-            Regex("\\[(\\d+)\\]").find(job.circuitData)?.groupValues?.get(1)?.toIntOrNull()
-        } ?: 2
+        // Outcomes are as wide as the classical register; a transpiled qreg spans physical qubits
+        val numQubits = job.circuitData?.let { CLASSICAL_REGISTER.find(it) }
+            ?.groupValues?.get(1)?.toIntOrNull() ?: 2
 
         val totalShots = 1000
         val numOutcomes = 1 shl numQubits
@@ -295,6 +675,104 @@ class QuantumBridgeService @Inject constructor() {
         )
     }
 
+    /**
+     * Zero-noise extrapolation of [circuit]'s parity expectation value. The folded variants
+     * run as one concurrent group on the bridge, or on [NoisySimulator] while the bridge is
+     * simulated. Each variant on the bridge is a separate job and costs a credit.
+     */
+    suspend fun runZeroNoiseExtrapolation(
+        circuit: QuantumCircuit,
+        scaleFactors: List<Double> = ZeroNoiseExtrapolator.DEFAULT_SCALE_FACTORS,
+        fit: ZneFit = ZneFit.RICHARDSON,
+        backend: QuantumBackend? = null,
+        shots: Int = ZNE_SHOTS
+    ): ZneResult {
+        if (!hasFeature(PremiumFeature.UNLIMITED_ERROR_CORRECTION)) {
+            throw IllegalStateException("Zero-noise extrapolation requires the Premium tier")
+        }
+
+        val extrapolator = ZeroNoiseExtrapolator { variants ->
+            if (client == null) {
+                val simulator = NoisySimulator()
+                coroutineScope {
+                    variants.map { async { simulator.run(it, shots) } }.awaitAll()
+                }
+            } else {
+                runJobGroup(variants, backend, shots)
+            }
+        }
+        return extrapolator.run(circuit, scaleFactors, fit)
+    }
+
+    /**
+     * Runs a circuit wider than [tier] allows by cutting it into fragments that fit, and
+     * reconstructs the full outcome distribution. Fragments run on the bridge as one
+     * concurrent group, where every fragment variant is a job and costs a credit, or on
+     * [NoisySimulator] while the bridge is simulated.
+     */
+    suspend fun runCutCircuit(
+        circuit: QuantumCircuit,
+        tier: ExecutionTier = _currentTier.value,
+        backend: QuantumBackend? = null,
+        shots: Int = DEFAULT_SHOTS
+    ): CutResult {
+        if (!_isConnected.value) {
+            throw IllegalStateException("Not connected to QuantumBridge")
+        }
+
+        val maxWidth = listOfNotNull(
+            tier.maxQubits,
+            backend?.numQubits,
+            NoisySimulator.MAX_QUBITS.takeIf { client == null }
+        ).min()
+        val cutter = CircuitCutter { fragments ->
+            if (client == null) {
+                val simulator = NoisySimulator(noiseModel = NoiseModel.HARVARD_MIT_2025)
+                coroutineScope {
+                    fragments.map { async { simulator.run(it, shots) } }.awaitAll()
+                }
+            } else {
+                runJobGroup(fragments, backend, shots)
+            }
+        }
+        return cutter.run(circuit, maxWidth)
+    }
+
+    /**
+     * Submits [circuits] concurrently and waits for all of them with batched status polls.
+     */
+    private suspend fun runJobGroup(
+        circuits: List<QuantumCircuit>,
+        backend: QuantumBackend?,
+        shots: Int
+    ): List<OutcomeHistogram> = coroutineScope {
+        val jobs = circuits.map { async { submitCircuit(it, backend = backend, shots = shots) } }.awaitAll()
+        // Identical circuits are coalesced into one job, so several entries may share an id
+        val jobIds = jobs.map { it.id }.toSet()
+
+        val finished = HashMap<String, BridgeJob>()
+        var attempt = 0
+        while (finished.keys != jobIds) {
+            val statuses = getJobStatuses(jobIds - finished.keys)
+            statuses.values.filter { it.status.isTerminal }.forEach { finished[it.id] = it }
+            val pending = statuses.values.filterNot { it.status.isTerminal }
+            if (finished.keys != jobIds) {
+                val now = System.currentTimeMillis()
+                delay(
+                    pending.minOfOrNull { JobPollingScheduler.nextPollDelayMs(it, attempt, null, now) }
+                        ?: JobPollingScheduler.MIN_POLL_INTERVAL_MS
+                )
+                attempt++
+            }
+        }
+
+        jobs.map { job ->
+            val done = finished.getValue(job.id)
+            done.results?.histogram
+                ?: throw IllegalStateException("Job ${job.id} ended ${done.status} without results")
+        }
+    }
+
     private fun calculateEstimatedTime(circuit: QuantumCircuit): Int {
         // Estimate based on circuit complexity
         val baseTime = 2 // seconds
@@ -304,50 +782,138 @@ class QuantumBridgeService @Inject constructor() {
     }
 
     fun startNoiseMonitoring(job: BridgeJob) {
-        noiseMonitoringJob?.cancel()
-        noiseMonitoringJob = scope.launch {
-            while (isActive) {
-                _realTimeNoiseData.value = generateNoiseData()
-                delay(NOISE_MONITORING_INTERVAL_MS)
-            }
-        }
+        noiseMonitoringActive.value = true
     }
 
     fun stopNoiseMonitoring() {
-        noiseMonitoringJob?.cancel()
-        noiseMonitoringJob = null
-        _realTimeNoiseData.value = null
-    }
-
-    private fun generateNoiseData(): RealTimeNoiseData {
-        val qubitNoiseMap = (0 until 4).associate { qubit ->
-            qubit.toString() to QubitNoiseLevel(
-                dephasing = 0.001 + Random.nextDouble() * 0.002,
-                relaxation = 0.0005 + Random.nextDouble() * 0.001,
-                gateError = 0.003 + Random.nextDouble() * 0.002,
-                status = if (Random.nextDouble() > 0.95) "warning" else "healthy"
-            )
+        noiseMonitoringActive.value = false
+    }
+
+    private fun noiseTicker(intervalMs: Long): Flow<RealTimeNoiseData?> = flow {
+        while (true) {
+            emit(generateNoiseData())
+            delay(intervalMs)
         }
+    }
 
-        return RealTimeNoiseData(
-            qubitNoiseMap = qubitNoiseMap,
-            overallFidelity = 0.995 + Random.nextDouble() * 0.004,
-            coherenceRemaining = 0.8 + Random.nextDouble() * 0.2,
-            atomLossRate = 0.0001 + Random.nextDouble() * 0.0002,
-            replenishmentRate = 20.0 + Random.nextDouble() * 10.0
-        )
+    private fun remoteNoiseFrames(
+        remote: BridgeClient,
+        backend: String,
+        intervalMs: Long
+    ): Flow<RealTimeNoiseData?> = remote.noiseFrames(backend, intervalMs)
+        .mapNotNull { decodeNoiseFrame(it) }
+        .retryWhen { cause, attempt ->
+            // Reconnect with capped backoff; the last frame stays visible meanwhile
+            if (cause !is IOException) return@retryWhen false
+            val backoffMs = NOISE_MONITORING_INTERVAL_MS shl attempt.toInt().coerceAtMost(6)
+            delay(backoffMs.coerceAtMost(MAX_NOISE_RECONNECT_DELAY_MS))
+            true
+        }
+
+    /**
+     * One frame on demand while monitoring is off.
+     */
+    private suspend fun refreshNoiseFrame(): RealTimeNoiseData? {
+        val remote = client ?: return generateNoiseData()
+        val backend = noiseBackend.value ?: return null
+        return try {
+            remote.noiseFrames(backend, NOISE_MONITORING_INTERVAL_MS).mapNotNull { decodeNoiseFrame(it) }.first()
+        } catch (e: Exception) {
+            null
+        }
+    }
+
+    /**
+     * One simulated sample for every qubit of the selected backend.
+     */
+    private fun generateNoiseData(): RealTimeNoiseData = publishNoiseFrame { snapshot ->
+        val qubits = noiseQubitCount
+        snapshot.ensureCapacity(qubits)
+        snapshot.timestamp = System.currentTimeMillis()
+        val dephasing = snapshot.dephasing
+        val relaxation = snapshot.relaxation
+        val gateError = snapshot.gateError
+        val readoutError = snapshot.readoutError
+        val status = snapshot.status
+        for (qubit in 0 until qubits) {
+            dephasing[qubit] = 0.001f + Random.nextFloat() * 0.002f
+            relaxation[qubit] = 0.0005f + Random.nextFloat() * 0.001f
+            gateError[qubit] = 0.003f + Random.nextFloat() * 0.002f
+            readoutError[qubit] = 0.008f + Random.nextFloat() * 0.012f
+            status[qubit] = if (Random.nextDouble() > 0.95) QubitNoiseStatus.WARNING else QubitNoiseStatus.HEALTHY
+        }
+        snapshot.overallFidelity = 0.995 + Random.nextDouble() * 0.004
+        snapshot.coherenceRemaining = 0.8 + Random.nextDouble() * 0.2
+        snapshot.atomLossRate = 0.0001 + Random.nextDouble() * 0.0002
+        snapshot.replenishmentRate = 20.0 + Random.nextDouble() * 10.0
+    }
+
+    /**
+     * Decodes a frame from the bridge into the pool; malformed frames are dropped.
+     */
+    private fun decodeNoiseFrame(bytes: ByteArray): RealTimeNoiseData? = try {
+        publishNoiseFrame { snapshot -> NoiseSnapshotCodec.decodeInto(bytes, snapshot) }
+    } catch (e: IllegalArgumentException) {
+        null
+    }
+
+    /**
+     * Fills the scratch [NoiseSnapshot] through [fill] and publishes a copy of it. A frame
+     * whose delta against the published one is empty at [NOISE_DELTA_RESOLUTION] carries no
+     * information, so the published frame is returned again without copying.
+     */
+    @Synchronized
+    private fun publishNoiseFrame(fill: (NoiseSnapshot) -> Unit): RealTimeNoiseData {
+        val snapshot = noiseScratch
+        fill(snapshot)
+
+        recordTelemetry(snapshot)
+        noiseBackend.value?.let { readoutMitigator.update(it, snapshot) }
+
+        val previous = lastNoiseFrame
+        if (previous?.snapshot != null && snapshot.isSameAs(previous.snapshot, NOISE_DELTA_RESOLUTION)) {
+            return previous
+        }
+
+        return snapshot.copy().toRealTimeNoiseData(NOISE_MONITORED_QUBITS).also { lastNoiseFrame = it }
+    }
+
+    private fun recordTelemetry(snapshot: NoiseSnapshot) {
+        noiseTelemetry.beginSample(snapshot.timestamp)
+        for (qubit in 0 until minOf(NOISE_MONITORED_QUBITS, snapshot.qubitCount)) {
+            val dephasing = snapshot.dephasing[qubit]
+            val relaxation = snapshot.relaxation[qubit]
+            val gateError = snapshot.gateError[qubit]
+            noiseTelemetry.set(qubit, NoiseMetric.DEPHASING, dephasing)
+            noiseTelemetry.set(qubit, NoiseMetric.RELAXATION, relaxation)
+            noiseTelemetry.set(qubit, NoiseMetric.GATE_ERROR, gateError)
+            // Per-qubit fidelity estimate: probability that none of the three error channels fires
+            noiseTelemetry.set(qubit, NoiseMetric.FIDELITY, (1 - dephasing) * (1 - relaxation) * (1 - gateError))
+        }
+        noiseTelemetry.commitSample()
     }
 
     suspend fun cancelJob(jobId: String) {
-        _currentJob.value?.let { job ->
-            if (job.id == jobId && !job.status.isTerminal) {
-                _currentJob.value = job.copy(status = BridgeJobStatus.CANCELLED)
-                stopNoiseMonitoring()
+        val job = activeJobs[jobId] ?: _currentJob.value?.takeIf { it.id == jobId } ?: return
+        if (!job.status.isTerminal) {
+            try {
+                client?.cancel(jobId)
+            } catch (e: Exception) {
+                _error.value = "Failed to cancel job: ${e.message}"
+                return
             }
+            userCancelledJobs.add(jobId)
+            finishJob(job.copy(status = BridgeJobStatus.CANCELLED))
+            stopNoiseMonitoring()
         }
     }
 
     suspend fun checkHardwareStatus() {
+        if (client != null) {
+            _hardwareStatus.value = client.hardwareStatus()
+            return
+        }
+
         // Simulate hardware status check
         _hardwareStatus.value = HardwareStatus(
             isOnline = true,
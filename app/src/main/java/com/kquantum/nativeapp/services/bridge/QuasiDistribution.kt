@@ -0,0 +1,106 @@
+/**
+ * K-QuantumNative - Quasi-Probability Distribution
+ * Sparse outcome -> weight table shared by result post-processing
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import kotlin.math.abs
+
+/**
+ * Outcome bit pattern -> real weight, stored in an open-addressing table of primitive
+ * arrays. Weights may be negative while mitigation or reconstruction is in progress;
+ * [toProbabilities] projects the final table back onto a distribution.
+ */
+internal class QuasiDistribution(expected: Int = 16) {
+    private var keys: LongArray
+    private var values: DoubleArray
+    private var mask: Int
+
+    var size = 0
+        private set
+
+    init {
+        var capacity = 16
+        while (capacity * 3 < expected * 4) capacity = capacity shl 1
+        keys = LongArray(capacity) { EMPTY }
+        values = DoubleArray(capacity)
+        mask = capacity - 1
+    }
+
+    val capacity: Int get() = keys.size
+
+    fun keyAt(slot: Int): Long = keys[slot]
+
+    fun valueAt(slot: Int): Double = values[slot]
+
+    inline fun forEach(action: (outcome: Long, value: Double) -> Unit) {
+        for (slot in 0 until capacity) {
+            val key = keyAt(slot)
+            if (key != EMPTY) action(key, valueAt(slot))
+        }
+    }
+
+    fun add(outcome: Long, value: Double) {
+        var slot = slotFor(outcome)
+        while (true) {
+            if (keys[slot] == outcome) {
+                values[slot] += value
+                return
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = outcome
+                values[slot] = value
+                if (++size * 4 > keys.size * 3) resize()
+                return
+            }
+            slot = (slot + 1) and mask
+        }
+    }
+
+    fun addAll(other: QuasiDistribution) {
+        other.forEach { outcome, value -> add(outcome, value) }
+    }
+
+    /**
+     * Copy without entries whose magnitude is below [threshold]
+     */
+    fun pruned(threshold: Double): QuasiDistribution {
+        val kept = QuasiDistribution(size)
+        forEach { outcome, value -> if (abs(value) >= threshold) kept.add(outcome, value) }
+        return kept
+    }
+
+    /**
+     * Clips negative quasi-probabilities and renormalises, the usual projection back
+     * onto a valid distribution for small negative mass.
+     */
+    fun toProbabilities(width: Int): Map<String, Double> {
+        var positive = 0.0
+        forEach { _, value -> if (value > 0) positive += value }
+        if (positive <= 0.0) return emptyMap()
+
+        val result = LinkedHashMap<String, Double>(size * 2)
+        forEach { outcome, value ->
+            if (value > 0) result[java.lang.Long.toBinaryString(outcome).padStart(width, '0')] = value / positive
+        }
+        return result
+    }
+
+    private fun slotFor(outcome: Long): Int =
+        ((outcome * -0x61c8864680b583ebL) ushr 32).toInt() and mask
+
+    private fun resize() {
+        val oldKeys = keys
+        val oldValues = values
+        keys = LongArray(oldKeys.size * 2) { EMPTY }
+        values = DoubleArray(oldKeys.size * 2)
+        mask = keys.size - 1
+        size = 0
+        for (i in oldKeys.indices) if (oldKeys[i] != EMPTY) add(oldKeys[i], oldValues[i])
+    }
+
+    companion object {
+        const val EMPTY = -1L
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * K-QuantumNative - Readout Mitigator
+ * Tensored readout-error mitigation of measurement histograms
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.NoiseModel
+import com.kquantum.nativeapp.data.models.NoiseSnapshot
+import com.kquantum.nativeapp.data.models.OutcomeHistogram
+import java.util.concurrent.ConcurrentHashMap
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Per-qubit readout confusion: [flip0][q] is P(read 1 | prepared 0) and [flip1][q] is
+ * P(read 0 | prepared 1) for physical qubit `q`.
+ */
+class ReadoutCalibration(
+    val flip0: DoubleArray,
+    val flip1: DoubleArray,
+    val timestamp: Long = System.currentTimeMillis()
+) {
+    init {
+        require(flip0.size == flip1.size) { "Calibration columns differ in length" }
+    }
+
+    val qubitCount: Int get() = flip0.size
+
+    companion object {
+        // Past this the 2x2 confusion matrix is too close to singular to invert usefully
+        private const val MAX_FLIP = 0.45
+
+        /**
+         * Calibration from a noise frame. Decay during readout makes |1> read as 0 more
+         * often than the reverse, so the qubit's relaxation is added to that direction.
+         */
+        fun fromSnapshot(snapshot: NoiseSnapshot): ReadoutCalibration {
+            val n = snapshot.qubitCount
+            return ReadoutCalibration(
+                flip0 = DoubleArray(n) { snapshot.readoutError[it].toDouble().coerceIn(0.0, MAX_FLIP) },
+                flip1 = DoubleArray(n) {
+                    (snapshot.readoutError[it] + snapshot.relaxation[it]).toDouble().coerceIn(0.0, MAX_FLIP)
+                },
+                timestamp = snapshot.timestamp
+            )
+        }
+
+        fun uniform(qubits: Int, noiseModel: NoiseModel): ReadoutCalibration {
+            val flip = noiseModel.measurementError.coerceIn(0.0, MAX_FLIP)
+            return ReadoutCalibration(DoubleArray(qubits) { flip }, DoubleArray(qubits) { flip })
+        }
+    }
+}
+
+/**
+ * Undoes readout errors in measured distributions. Assuming errors are independent per
+ * qubit, the 2^n x 2^n confusion matrix is a tensor product of 2x2 matrices, so its inverse
+ * is applied one qubit at a time to the sparse distribution instead of being formed.
+ * Calibrations are cached per backend and refreshed from the noise stream.
+ */
+@Singleton
+class ReadoutMitigator @Inject constructor() {
+
+    companion object {
+        // A new noise frame replaces the cached calibration at most this often
+        const val CALIBRATION_REFRESH_MS = 60_000L
+        // Quasi-probabilities below this are dropped to keep the support sparse
+        private const val PRUNE_THRESHOLD = 1e-6
+        private val FALLBACK_NOISE_MODEL = NoiseModel.HARVARD_MIT_2025
+    }
+
+    private val calibrations = ConcurrentHashMap<String, ReadoutCalibration>()
+
+    /**
+     * Refreshes [backend]'s calibration from [snapshot] if the cached one is stale. The
+     * snapshot's arrays are copied, so pooled frames may be reused afterwards.
+     */
+    fun update(backend: String, snapshot: NoiseSnapshot) {
+        val cached = calibrations[backend]
+        if (cached != null && cached.qubitCount == snapshot.qubitCount &&
+            snapshot.timestamp - cached.timestamp < CALIBRATION_REFRESH_MS
+        ) {
+            return
+        }
+        calibrations[backend] = ReadoutCalibration.fromSnapshot(snapshot)
+    }
+
+    fun calibration(backend: String?): ReadoutCalibration? = backend?.let { calibrations[it] }
+
+    /**
+     * Mitigated outcome probabilities for [histogram]. Classical bit `i` (the `i`-th
+     * character from the right of a bitstring) is assumed to be read from physical qubit
+     * [qubitForBit]`[i]`, which defaults to qubit `i`. Without a cached calibration for
+     * [backend], the default noise model's measurement error is used.
+     */
+    fun mitigate(
+        histogram: OutcomeHistogram,
+        backend: String?,
+        qubitForBit: IntArray? = null
+    ): Map<String, Double> {
+        if (histogram.total == 0L) return emptyMap()
+        val width = histogram.width
+        val calibration = calibration(backend)
+            ?: ReadoutCalibration.uniform(width, FALLBACK_NOISE_MODEL)
+
+        var distribution = QuasiDistribution(histogram.size * 2)
+        val total = histogram.total.toDouble()
+        histogram.forEach { outcome, count -> distribution.add(outcome, count / total) }
+
+        for (bit in 0 until width) {
+            val qubit = qubitForBit?.getOrNull(bit) ?: bit
+            if (qubit !in 0 until calibration.qubitCount) continue
+            distribution = distribution.applyInverse(bit, calibration.flip0[qubit], calibration.flip1[qubit])
+        }
+
+        return distribution.toProbabilities(width)
+    }
+
+    /**
+     * Applies the inverse of `[[1-f0, f1], [f0, 1-f1]]` on [bit] of every outcome.
+     */
+    private fun QuasiDistribution.applyInverse(bit: Int, f0: Double, f1: Double): QuasiDistribution {
+        if (f0 == 0.0 && f1 == 0.0) return this
+        val det = 1.0 - f0 - f1
+        // Column b of the inverse: where probability measured as b really came from
+        val stay0 = (1.0 - f1) / det
+        val move0 = -f0 / det
+        val stay1 = (1.0 - f0) / det
+        val move1 = -f1 / det
+        val bitMask = 1L shl bit
+
+        val next = QuasiDistribution(size * 2)
+        forEach { outcome, p ->
+            if (outcome and bitMask == 0L) {
+                next.add(outcome, stay0 * p)
+                next.add(outcome or bitMask, move0 * p)
+            } else {
+                next.add(outcome, stay1 * p)
+                next.add(outcome and bitMask.inv(), move1 * p)
+            }
+        }
+        return next.pruned(PRUNE_THRESHOLD)
+    }
+}
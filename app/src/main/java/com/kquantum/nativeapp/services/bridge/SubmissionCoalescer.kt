@@ -0,0 +1,120 @@
+/**
+ * K-QuantumNative - Submission Coalescer
+ * Folds identical in-flight job submissions onto a single bridge job
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import kotlinx.coroutines.CompletableDeferred
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * What makes two submissions interchangeable: the same circuit up to formatting, on the
+ * same backend, with the same number of shots.
+ */
+data class SubmissionKey(
+    val canonicalQasm: String,
+    val backend: String?,
+    val shots: Int
+) {
+    companion object {
+        private val COMMENT = Regex("//[^\\n]*")
+        private val WHITESPACE = Regex("\\s+")
+        private val PUNCTUATION_SPACE = Regex("\\s*([,;()\\[\\]{}]|->)\\s*")
+
+        fun of(qasm: String, backend: String?, shots: Int) = SubmissionKey(canonicalize(qasm), backend, shots)
+
+        /**
+         * Drops comments and insignificant whitespace so reformatted copies of a circuit
+         * compare equal.
+         */
+        fun canonicalize(qasm: String): String = qasm
+            .replace(COMMENT, "")
+            .lineSequence()
+            .map { it.trim().replace(WHITESPACE, " ").replace(PUNCTUATION_SPACE, "$1") }
+            .filter { it.isNotEmpty() }
+            .joinToString("\n")
+    }
+}
+
+/**
+ * Coalesces submissions by [SubmissionKey]. While a job for a key is being submitted or
+ * is still queued or running, further submissions join it instead of creating (and paying
+ * for) another job. A completed job keeps answering repeats for [completedWindowMs].
+ *
+ * The owner reports terminal jobs through [onJobFinished].
+ */
+class SubmissionCoalescer(
+    private val completedWindowMs: Long = DEFAULT_COMPLETED_WINDOW_MS,
+    private val clock: () -> Long = System::currentTimeMillis
+) {
+
+    companion object {
+        const val DEFAULT_COMPLETED_WINDOW_MS = 30_000L
+    }
+
+    private class Recent(val job: BridgeJob, val finishedAt: Long)
+
+    private val inFlight = ConcurrentHashMap<SubmissionKey, CompletableDeferred<BridgeJob>>()
+    private val keyOfJob = ConcurrentHashMap<String, SubmissionKey>()
+    private val recent = ConcurrentHashMap<SubmissionKey, Recent>()
+
+    /**
+     * Returns the job for [key], running [create] only if no submission for it is in
+     * flight and no completed one is recent enough. Joiners receive the shared job as
+     * reported by [latest]; if the leading submission fails, they fail with it.
+     */
+    suspend fun submit(
+        key: SubmissionKey,
+        latest: suspend (BridgeJob) -> BridgeJob = { it },
+        create: suspend () -> BridgeJob
+    ): BridgeJob {
+        recentJob(key)?.let { return it }
+
+        while (true) {
+            inFlight[key]?.let { shared -> return latest(shared.await()) }
+
+            val leader = CompletableDeferred<BridgeJob>()
+            if (inFlight.putIfAbsent(key, leader) != null) continue
+
+            try {
+                val job = create()
+                if (job.status.isTerminal) {
+                    inFlight.remove(key, leader)
+                } else {
+                    keyOfJob[job.id] = key
+                }
+                leader.complete(job)
+                return job
+            } catch (e: Throwable) {
+                inFlight.remove(key, leader)
+                leader.completeExceptionally(e)
+                throw e
+            }
+        }
+    }
+
+    /**
+     * Releases the key of a terminal job; completed jobs stay reusable for a short while.
+     */
+    fun onJobFinished(job: BridgeJob) {
+        val key = keyOfJob.remove(job.id) ?: return
+        inFlight.remove(key)
+        if (job.status == BridgeJobStatus.COMPLETED) recent[key] = Recent(job, clock())
+        pruneRecent()
+    }
+
+    private fun recentJob(key: SubmissionKey): BridgeJob? {
+        val entry = recent[key] ?: return null
+        if (clock() - entry.finishedAt < completedWindowMs) return entry.job
+        recent.remove(key, entry)
+        return null
+    }
+
+    private fun pruneRecent() {
+        val now = clock()
+        recent.entries.removeIf { now - it.value.finishedAt >= completedWindowMs }
+    }
+}
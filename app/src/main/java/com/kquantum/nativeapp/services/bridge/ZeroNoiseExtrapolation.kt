@@ -0,0 +1,191 @@
+/**
+ * K-QuantumNative - Zero-Noise Extrapolation
+ * Gate folding and extrapolation of expectation values to the zero-noise limit
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.OutcomeHistogram
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlin.math.PI
+import kotlin.math.roundToInt
+
+enum class ZneFit {
+    // Least-squares line through all points; robust to shot noise
+    LINEAR,
+    // Polynomial through every point; exact for low-order noise but amplifies shot noise
+    RICHARDSON
+}
+
+/**
+ * Expectation value measured at each achieved noise scale and its zero-noise estimate
+ */
+data class ZneResult(
+    val scaleFactors: List<Double>,
+    val expectationValues: List<Double>,
+    val mitigatedValue: Double,
+    val fit: ZneFit
+) {
+    // Value at the lowest achieved scale, normally the unfolded circuit
+    val unmitigatedValue: Double get() = expectationValues[scaleFactors.indexOf(scaleFactors.min())]
+}
+
+/**
+ * Maps a measured histogram to the expectation value being extrapolated
+ */
+fun interface ZneObservable {
+    fun expectation(histogram: OutcomeHistogram): Double
+
+    companion object {
+        /**
+         * ⟨Z⊗Z⊗…⊗Z⟩ over every classical bit: +1 for even parity, -1 for odd.
+         */
+        val PARITY = ZneObservable { histogram ->
+            if (histogram.total == 0L) return@ZneObservable 0.0
+            var sum = 0L
+            histogram.forEach { outcome, count ->
+                sum += if (java.lang.Long.bitCount(outcome) % 2 == 0) count else -count
+            }
+            sum.toDouble() / histogram.total
+        }
+    }
+}
+
+/**
+ * Unitary folding: each gate G becomes G (G† G)^k, which leaves the circuit's ideal action
+ * unchanged while multiplying the noise it accumulates by roughly 1 + 2k.
+ */
+object GateFolding {
+
+    data class FoldedCircuit(val circuit: QuantumCircuit, val scaleFactor: Double)
+
+    /**
+     * Folds [circuit] to the noise scale closest to [scale] (at least 1). Fractional scales
+     * fold an evenly spread subset of gates once more than the rest. Measurements are kept
+     * at the end and never folded.
+     */
+    fun fold(circuit: QuantumCircuit, scale: Double): FoldedCircuit {
+        require(scale >= 1.0) { "Noise scale must be at least 1, got $scale" }
+        val firstMeasure = circuit.gates.indexOfFirst { it.type == QuantumGateType.MEASURE }
+        val unitary = if (firstMeasure < 0) circuit.gates else circuit.gates.subList(0, firstMeasure)
+        val measures = if (firstMeasure < 0) emptyList() else circuit.gates.subList(firstMeasure, circuit.gates.size)
+        require(measures.all { it.type == QuantumGateType.MEASURE }) { "Cannot fold across a mid-circuit measurement" }
+
+        val d = unitary.size
+        if (d == 0) return FoldedCircuit(circuit, 1.0)
+        val totalFolds = ((scale - 1.0) / 2.0 * d).roundToInt()
+        val fullFolds = totalFolds / d
+        val partialFolds = totalFolds % d
+
+        val out = ArrayList<QuantumGate>(d + 2 * totalFolds + measures.size)
+        unitary.forEachIndexed { index, gate ->
+            // Bresenham spread of the partial folds over the circuit
+            val extra = if ((index + 1) * partialFolds / d > index * partialFolds / d) 1 else 0
+            val inverse = inverse(gate)
+            out += gate
+            repeat(fullFolds + extra) {
+                out += inverse
+                out += gate
+            }
+        }
+        out += measures
+
+        return FoldedCircuit(
+            circuit = circuit.copy(gates = out),
+            scaleFactor = (d + 2.0 * totalFolds) / d
+        )
+    }
+
+    fun inverse(gate: QuantumGate): QuantumGate = when (gate.type) {
+        QuantumGateType.HADAMARD, QuantumGateType.PAULI_X, QuantumGateType.PAULI_Y, QuantumGateType.PAULI_Z,
+        QuantumGateType.CNOT, QuantumGateType.SWAP, QuantumGateType.TOFFOLI -> gate
+        QuantumGateType.PHASE -> gate.copy(type = QuantumGateType.ROTATION_Z, parameter = -PI / 2)
+        QuantumGateType.T_GATE -> gate.copy(type = QuantumGateType.ROTATION_Z, parameter = -PI / 4)
+        QuantumGateType.ROTATION_X, QuantumGateType.ROTATION_Y, QuantumGateType.ROTATION_Z ->
+            gate.copy(parameter = -(gate.parameter ?: 0.0))
+        QuantumGateType.MEASURE -> throw IllegalArgumentException("Measurements cannot be inverted")
+    }
+}
+
+/**
+ * Runs [circuit] at several noise scales and extrapolates to zero noise. The folded
+ * variants are built in parallel and handed to [execute] as one group, so a bridge can run
+ * them concurrently and total latency stays close to that of a single job.
+ */
+class ZeroNoiseExtrapolator(
+    private val execute: suspend (List<QuantumCircuit>) -> List<OutcomeHistogram>
+) {
+
+    companion object {
+        val DEFAULT_SCALE_FACTORS = listOf(1.0, 2.0, 3.0)
+
+        /**
+         * Value at scale zero of [fit] through ([scales], [values]).
+         */
+        fun extrapolate(scales: List<Double>, values: List<Double>, fit: ZneFit): Double {
+            require(scales.size == values.size && scales.isNotEmpty()) { "Need one value per scale" }
+            if (scales.size == 1) return values[0]
+            return when (fit) {
+                ZneFit.LINEAR -> {
+                    val meanX = scales.average()
+                    val meanY = values.average()
+                    var sxy = 0.0
+                    var sxx = 0.0
+                    for (i in scales.indices) {
+                        sxy += (scales[i] - meanX) * (values[i] - meanY)
+                        sxx += (scales[i] - meanX) * (scales[i] - meanX)
+                    }
+                    if (sxx == 0.0) meanY else meanY - sxy / sxx * meanX
+                }
+                ZneFit.RICHARDSON -> {
+                    // Lagrange interpolation evaluated at x = 0
+                    var estimate = 0.0
+                    for (i in scales.indices) {
+                        var weight = 1.0
+                        for (j in scales.indices) {
+                            if (i != j) weight *= scales[j] / (scales[j] - scales[i])
+                        }
+                        estimate += weight * values[i]
+                    }
+                    estimate
+                }
+            }
+        }
+    }
+
+    suspend fun run(
+        circuit: QuantumCircuit,
+        scaleFactors: List<Double> = DEFAULT_SCALE_FACTORS,
+        fit: ZneFit = ZneFit.RICHARDSON,
+        observable: ZneObservable = ZneObservable.PARITY
+    ): ZneResult {
+        require(scaleFactors.isNotEmpty()) { "At least one noise scale is required" }
+
+        val variants = coroutineScope {
+            scaleFactors.map { scale -> async(Dispatchers.Default) { GateFolding.fold(circuit, scale) } }.awaitAll()
+        }
+        // Rounding can map two requested scales onto the same circuit
+        val distinct = variants.distinctBy { it.scaleFactor }
+        require(fit != ZneFit.RICHARDSON || distinct.size == variants.size) {
+            "Noise scales $scaleFactors are too close for a circuit of ${circuit.gates.size} gates"
+        }
+
+        val histograms = execute(distinct.map { it.circuit })
+        require(histograms.size == distinct.size) { "Expected ${distinct.size} results, got ${histograms.size}" }
+
+        val scales = distinct.map { it.scaleFactor }
+        val values = histograms.map { observable.expectation(it) }
+        return ZneResult(
+            scaleFactors = scales,
+            expectationValues = values,
+            mitigatedValue = extrapolate(scales, values, fit),
+            fit = fit
+        )
+    }
+}
@@ -8,19 +8,30 @@ package com.kquantum.nativeapp.services.learning
 import com.kquantum.nativeapp.data.models.*
 import com.kquantum.nativeapp.data.remote.ApiClient
 import com.kquantum.nativeapp.data.remote.ApiResult
+import com.kquantum.nativeapp.data.remote.CachePolicy
 import com.kquantum.nativeapp.data.remote.safeApiCall
+import com.kquantum.nativeapp.data.repository.LearningRepository
+import com.kquantum.nativeapp.di.ApplicationScope
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.stateIn
 import javax.inject.Inject
 import javax.inject.Singleton
 
 @Singleton
 class LearningService @Inject constructor(
-    private val apiClient: ApiClient
+    private val apiClient: ApiClient,
+    private val learningRepository: LearningRepository,
+    @ApplicationScope scope: CoroutineScope
 ) {
-    private val _tracks = MutableStateFlow<List<LearningTrack>>(emptyList())
-    val tracks: StateFlow<List<LearningTrack>> = _tracks.asStateFlow()
+    // Whatever is stored paints first; bundled tracks stand in until a refresh succeeds once
+    val tracks: StateFlow<List<LearningTrack>> = learningRepository.tracks
+        .map { stored -> stored.ifEmpty { getDefaultTracks() } }
+        .stateIn(scope, SharingStarted.Eagerly, emptyList())
 
     private val _isLoading = MutableStateFlow(false)
     val isLoading: StateFlow<Boolean> = _isLoading.asStateFlow()
@@ -28,35 +39,28 @@ class LearningService @Inject constructor(
     private val _error = MutableStateFlow<String?>(null)
     val error: StateFlow<String?> = _error.asStateFlow()
 
-    suspend fun loadTracks() {
+    /**
+     * Refreshes the stored catalog; [tracks] updates only if something changed
+     */
+    suspend fun loadTracks(): ApiResult<List<LearningTrack>> {
         _isLoading.value = true
         _error.value = null
 
-        val result = safeApiCall { apiClient.api.getLearningTracks() }
-
-        when (result) {
-            is ApiResult.Success -> {
-                _tracks.value = result.data
-            }
-            is ApiResult.Error -> {
-                // Use default tracks
-                _tracks.value = getDefaultTracks()
-            }
-            else -> {}
-        }
+        // Failures keep the stored or bundled tracks
+        val result = learningRepository.refresh()
 
         _isLoading.value = false
+        return result
     }
 
     suspend fun loadLevelsForTrack(track: Track): List<LearningLevel> {
-        val result = safeApiCall {
-            apiClient.api.getLevelsForTrack(track.name.lowercase())
-        }
+        val trackName = track.name.lowercase()
+        val result = apiClient.shared(ApiClient.levelsKey(trackName)) { apiClient.api.getLevelsForTrack(trackName) }
+        if (result is ApiResult.Success) return result.data
 
-        return when (result) {
-            is ApiResult.Success -> result.data
-            else -> getDefaultLevels(track)
-        }
+        // Offline: an expired copy on disk still beats the bundled defaults
+        val cached = safeApiCall { apiClient.api.getLevelsForTrack(trackName, CachePolicy.OFFLINE_FROM_CACHE) }
+        return if (cached is ApiResult.Success) cached.data else getDefaultLevels(track)
     }
 
     private fun getDefaultTracks(): List<LearningTrack> {
@@ -10,15 +10,15 @@ import androidx.datastore.core.DataStore
 import androidx.datastore.preferences.core.*
 import androidx.datastore.preferences.preferencesDataStore
 import com.kquantum.nativeapp.data.models.*
-import com.kquantum.nativeapp.data.remote.ApiClient
-import com.kquantum.nativeapp.data.remote.ApiResult
-import com.kquantum.nativeapp.data.remote.safeApiCall
+import com.kquantum.nativeapp.data.repository.ProgressRepository
+import com.kquantum.nativeapp.di.ApplicationScope
 import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.flow.first
-import kotlinx.serialization.encodeToString
+import kotlinx.coroutines.launch
 import kotlinx.serialization.json.Json
 import javax.inject.Inject
 import javax.inject.Singleton
@@ -28,10 +28,14 @@ private val Context.progressDataStore: DataStore<Preferences> by preferencesData
 @Singleton
 class ProgressService @Inject constructor(
     @ApplicationContext private val context: Context,
-    private val apiClient: ApiClient
+    private val progressRepository: ProgressRepository,
+    private val syncQueue: ProgressSyncQueue,
+    @ApplicationScope scope: CoroutineScope
 ) {
     private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
 
+    // Mirrors the database, and is also set directly after local writes so callers
+    // reading .value right after a mutation see it
     private val _userProgress = MutableStateFlow(UserProgress())
     val userProgress: StateFlow<UserProgress> = _userProgress.asStateFlow()
 
@@ -39,137 +43,90 @@ class ProgressService @Inject constructor(
     val isLoading: StateFlow<Boolean> = _isLoading.asStateFlow()
 
     companion object {
+        // Pre-Room storage, imported once
         private val KEY_PROGRESS = stringPreferencesKey("user_progress")
-        private val KEY_LAST_SYNC = longPreferencesKey("last_sync")
     }
 
-    suspend fun loadProgress() {
-        _isLoading.value = true
-
-        // Try to load from server first
-        val serverResult = safeApiCall { apiClient.api.getUserStats() }
-
-        when (serverResult) {
-            is ApiResult.Success -> {
-                val stats = serverResult.data
-                val progress = UserProgress(
-                    totalXp = stats.totalXp,
-                    currentLevel = stats.currentLevel,
-                    currentStreak = stats.currentStreak,
-                    longestStreak = stats.longestStreak,
-                    studyTimeMinutes = stats.totalStudyTimeMinutes
-                )
-                _userProgress.value = progress
-                saveProgressLocally(progress)
-            }
-            is ApiResult.Error -> {
-                // Load from local storage
-                loadProgressLocally()
-            }
-            else -> {}
+    init {
+        scope.launch {
+            importLegacyProgress()
+            syncQueue.schedulePending()
+            progressRepository.progress.collect { _userProgress.value = it }
         }
+    }
 
+    /**
+     * Merges server stats into the stored progress. Offline, the stored progress stands.
+     */
+    suspend fun loadProgress() {
+        _isLoading.value = true
+        progressRepository.refresh()
         _isLoading.value = false
     }
 
-    private suspend fun loadProgressLocally() {
+    private suspend fun importLegacyProgress() {
         try {
-            val prefs = context.progressDataStore.data.first()
-            val progressJson = prefs[KEY_PROGRESS]
-            if (progressJson != null) {
-                _userProgress.value = json.decodeFromString(progressJson)
+            val legacy = context.progressDataStore.data.first()[KEY_PROGRESS] ?: return
+            if (progressRepository.isEmpty()) {
+                val progress = json.decodeFromString<UserProgress>(legacy)
+                progressRepository.update { progress }
             }
+            context.progressDataStore.edit { it.clear() }
         } catch (e: Exception) {
-            // Use default progress
-            _userProgress.value = UserProgress()
+            // Ignore; progress starts from the server stats
         }
     }
 
-    private suspend fun saveProgressLocally(progress: UserProgress) {
-        try {
-            context.progressDataStore.edit { prefs ->
-                prefs[KEY_PROGRESS] = json.encodeToString(progress)
-                prefs[KEY_LAST_SYNC] = System.currentTimeMillis()
-            }
-        } catch (e: Exception) {
-            // Ignore save errors
-        }
-    }
+    private suspend fun updateProgress(transform: (UserProgress) -> UserProgress): UserProgress =
+        progressRepository.update(transform).also { _userProgress.value = it }
 
     suspend fun addXp(amount: Int, reason: String? = null): Boolean {
-        val currentProgress = _userProgress.value
-        val newProgress = currentProgress.copy(
-            totalXp = currentProgress.totalXp + amount
-        )
+        updateProgress { it.copy(totalXp = it.totalXp + amount) }
 
-        _userProgress.value = newProgress
-        saveProgressLocally(newProgress)
-
-        // Sync with server
-        safeApiCall {
-            apiClient.api.addXp(ProgressUpdateRequest(amount, reason))
-        }
+        // Sent by ProgressSyncWorker, together with anything else recorded meanwhile
+        syncQueue.recordXp(amount, reason)
 
         return true
     }
 
     suspend fun completeLevel(levelId: String, xpReward: Int) {
-        val currentProgress = _userProgress.value
-        val newCompletedLevels = currentProgress.completedLevels + levelId
-        val newProgress = currentProgress.copy(
-            totalXp = currentProgress.totalXp + xpReward,
-            completedLevels = newCompletedLevels
-        )
-
-        _userProgress.value = newProgress
-        saveProgressLocally(newProgress)
-
-        // Sync with server
-        safeApiCall {
-            apiClient.api.completeLevel(levelId, LevelCompleteRequest(levelId, xpReward))
+        updateProgress {
+            it.copy(
+                totalXp = it.totalXp + xpReward,
+                completedLevels = it.completedLevels + levelId
+            )
         }
+
+        syncQueue.recordLevelComplete(levelId, xpReward)
     }
 
     suspend fun updateStreak() {
-        val currentProgress = _userProgress.value
         val today = java.time.LocalDate.now().toString()
+        val yesterday = java.time.LocalDate.now().minusDays(1).toString()
 
-        val newStreak = if (currentProgress.lastActiveDate == today) {
-            currentProgress.currentStreak
-        } else {
-            val yesterday = java.time.LocalDate.now().minusDays(1).toString()
-            if (currentProgress.lastActiveDate == yesterday) {
-                currentProgress.currentStreak + 1
-            } else {
-                1
+        updateProgress { currentProgress ->
+            val newStreak = when (currentProgress.lastActiveDate) {
+                today -> currentProgress.currentStreak
+                yesterday -> currentProgress.currentStreak + 1
+                else -> 1
             }
-        }
-
-        val newLongestStreak = maxOf(newStreak, currentProgress.longestStreak)
-
-        val newProgress = currentProgress.copy(
-            currentStreak = newStreak,
-            longestStreak = newLongestStreak,
-            lastActiveDate = today
-        )
 
-        _userProgress.value = newProgress
-        saveProgressLocally(newProgress)
+            currentProgress.copy(
+                currentStreak = newStreak,
+                longestStreak = maxOf(newStreak, currentProgress.longestStreak),
+                lastActiveDate = today
+            )
+        }
     }
 
     suspend fun addStudyTime(minutes: Int) {
-        val currentProgress = _userProgress.value
-        val newProgress = currentProgress.copy(
-            studyTimeMinutes = currentProgress.studyTimeMinutes + minutes
-        )
-
-        _userProgress.value = newProgress
-        saveProgressLocally(newProgress)
+        updateProgress { it.copy(studyTimeMinutes = it.studyTimeMinutes + minutes) }
     }
 
     suspend fun resetProgress() {
+        syncQueue.clear()
+        progressRepository.clear()
         _userProgress.value = UserProgress()
-        context.progressDataStore.edit { it.clear() }
     }
 
     fun isLevelCompleted(levelId: String): Boolean {
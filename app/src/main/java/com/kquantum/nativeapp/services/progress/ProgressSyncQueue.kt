@@ -0,0 +1,222 @@
+/**
+ * K-QuantumNative - Progress Sync Queue
+ * Durable outbox for XP, level completions and achievement unlocks
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.progress
+
+import android.content.Context
+import com.kquantum.nativeapp.data.local.OutboxDao
+import com.kquantum.nativeapp.data.local.OutboxEventEntity
+import com.kquantum.nativeapp.data.local.OutboxEventType
+import com.kquantum.nativeapp.data.models.LevelCompleteRequest
+import com.kquantum.nativeapp.data.models.ProgressUpdateRequest
+import com.kquantum.nativeapp.data.remote.ApiClient
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.serialization.SerializationException
+import retrofit2.Response
+import java.io.IOException
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * The requests one batch of outbox events turns into. XP deltas are summed into a single
+ * request; level completions and unlocks are deduplicated by id. Each request carries the
+ * event ids it stands for, which are deleted once the server accepts it.
+ */
+class SyncBatch private constructor(
+    val xp: XpDelta?,
+    val levels: List<LevelCompletion>,
+    val unlocks: List<Unlock>
+) {
+    class XpDelta(val amount: Int, val reason: String?, val eventIds: List<Long>)
+    class LevelCompletion(val levelId: String, val xp: Int, val eventIds: List<Long>)
+    class Unlock(val achievementId: String, val eventIds: List<Long>)
+
+    val requestCount: Int get() = (if (xp != null) 1 else 0) + levels.size + unlocks.size
+
+    companion object {
+        fun of(events: List<OutboxEventEntity>): SyncBatch {
+            val byType = events.groupBy { it.type }
+
+            val xpEvents = byType[OutboxEventType.XP].orEmpty()
+            val xp = xpEvents.takeIf { it.isNotEmpty() }?.let { group ->
+                // Kept only when every event shares it; a mix says nothing useful
+                val reason = group.map { it.reason }.distinct().singleOrNull()
+                XpDelta(group.sumOf { it.xp }, reason, group.map { it.id })
+            }
+
+            val levels = byType[OutboxEventType.LEVEL_COMPLETE].orEmpty()
+                .filter { it.targetId != null }
+                .groupBy { it.targetId!! }
+                // The server credits a level once, with the XP of its first completion
+                .map { (levelId, group) -> LevelCompletion(levelId, group.first().xp, group.map { it.id }) }
+
+            val unlocks = byType[OutboxEventType.ACHIEVEMENT_UNLOCK].orEmpty()
+                .filter { it.targetId != null }
+                .groupBy { it.targetId!! }
+                .map { (achievementId, group) -> Unlock(achievementId, group.map { it.id }) }
+
+            return SyncBatch(xp, levels, unlocks)
+        }
+    }
+}
+
+data class FlushResult(
+    val sent: Int,
+    val synced: Int,
+    // Events the server rejected outright; retrying would not help
+    val dropped: Int,
+    // Events kept for a later attempt after a network or server error
+    val pending: Int
+) {
+    val shouldRetry: Boolean get() = pending > 0
+}
+
+/**
+ * Progress changes are applied locally first and recorded here; [ProgressSyncWorker] sends
+ * them when the device is online. Events survive process death and offline periods, and
+ * are removed only after the server accepts them or rejects them with a client error.
+ */
+@Singleton
+class ProgressSyncQueue @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val outboxDao: OutboxDao,
+    private val apiClient: ApiClient
+) {
+
+    companion object {
+        private const val BATCH_SIZE = 100
+
+        // Request timeouts and throttling are worth retrying, unlike other client errors
+        private val RETRYABLE_CLIENT_CODES = setOf(408, 429)
+    }
+
+    private val flushLock = Mutex()
+
+    val pendingCount: Flow<Int> = outboxDao.observeCount()
+
+    suspend fun recordXp(amount: Int, reason: String?) {
+        if (amount == 0) return
+        record(OutboxEventEntity(type = OutboxEventType.XP, xp = amount, reason = reason))
+    }
+
+    suspend fun recordLevelComplete(levelId: String, xpReward: Int) {
+        record(OutboxEventEntity(type = OutboxEventType.LEVEL_COMPLETE, targetId = levelId, xp = xpReward))
+    }
+
+    suspend fun recordUnlock(achievementId: String) {
+        record(OutboxEventEntity(type = OutboxEventType.ACHIEVEMENT_UNLOCK, targetId = achievementId))
+    }
+
+    /**
+     * Schedules a flush if anything is waiting, e.g. at startup after an offline session
+     */
+    suspend fun schedulePending() {
+        if (hasPending()) ProgressSyncWorker.enqueue(context)
+    }
+
+    suspend fun hasPending(): Boolean = outboxDao.count() > 0
+
+    /**
+     * Drops every unsent event, e.g. when the user signs out
+     */
+    suspend fun clear() {
+        flushLock.withLock { outboxDao.clear() }
+    }
+
+    private suspend fun record(event: OutboxEventEntity) {
+        outboxDao.insert(event)
+        ProgressSyncWorker.enqueue(context)
+    }
+
+    /**
+     * Sends everything in the outbox, batch by batch. Stops at the first batch that leaves
+     * events behind, so a failing server is not hammered with the rest.
+     */
+    suspend fun flush(): FlushResult = flushLock.withLock {
+        var sent = 0
+        var synced = 0
+        var dropped = 0
+        var stalled = false
+        while (true) {
+            val events = outboxDao.oldest(BATCH_SIZE)
+            if (events.isEmpty()) break
+
+            val batch = SyncBatch.of(events)
+            val outcome = send(batch)
+            sent += batch.requestCount
+            synced += outcome.synced.size
+            dropped += outcome.dropped.size
+            outboxDao.delete(outcome.synced + outcome.dropped)
+
+            if (outcome.synced.isNotEmpty()) invalidateServerState()
+            if (outcome.kept > 0) {
+                stalled = true
+                break
+            }
+        }
+        // Events recorded after the last batch was read are not pending on an error
+        FlushResult(sent, synced, dropped, pending = if (stalled) outboxDao.count() else 0)
+    }
+
+    private class Outcome(val synced: List<Long>, val dropped: List<Long>, val kept: Int)
+
+    private suspend fun send(batch: SyncBatch): Outcome {
+        val synced = mutableListOf<Long>()
+        val dropped = mutableListOf<Long>()
+        var kept = 0
+
+        // Judged on the status alone: these endpoints may answer 204 with no body
+        suspend fun deliver(eventIds: List<Long>, call: suspend () -> Response<*>) {
+            val code = try {
+                call().code()
+            } catch (e: IOException) {
+                null
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: SerializationException) {
+                // Only a successful body is decoded, so the server already applied the
+                // event; sending it again would credit it twice
+                200
+            } catch (e: Exception) {
+                null
+            }
+            when {
+                code != null && code in 200..299 -> synced += eventIds
+                code != null && isPermanent(code) -> dropped += eventIds
+                else -> kept += eventIds.size
+            }
+        }
+
+        batch.xp?.let { xp ->
+            deliver(xp.eventIds) { apiClient.api.addXp(ProgressUpdateRequest(xp.amount, xp.reason)) }
+        }
+        for (level in batch.levels) {
+            deliver(level.eventIds) {
+                apiClient.api.completeLevel(level.levelId, LevelCompleteRequest(level.levelId, level.xp))
+            }
+        }
+        for (unlock in batch.unlocks) {
+            deliver(unlock.eventIds) { apiClient.api.unlockAchievement(unlock.achievementId) }
+        }
+        return Outcome(synced, dropped, kept)
+    }
+
+    private fun isPermanent(code: Int): Boolean {
+        // A 401 here means the refresh could not be reached; a rejected refresh ends the
+        // session, and signing out clears the outbox
+        return code in 400..499 && code != 401 && code !in RETRYABLE_CLIENT_CODES
+    }
+
+    // Reads cached within the single-flight freshness window predate what was just sent
+    private fun invalidateServerState() {
+        apiClient.invalidate(ApiClient.KEY_USER_STATS)
+        apiClient.invalidate(ApiClient.KEY_ACHIEVEMENTS)
+        apiClient.invalidate(ApiClient.KEY_HOME_BOOTSTRAP)
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * K-QuantumNative - Progress Sync Worker
+ * Flushes the progress outbox when the device is online
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.progress
+
+import android.content.Context
+import androidx.hilt.work.HiltWorker
+import androidx.work.BackoffPolicy
+import androidx.work.Constraints
+import androidx.work.CoroutineWorker
+import androidx.work.ExistingWorkPolicy
+import androidx.work.NetworkType
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.WorkManager
+import androidx.work.WorkerParameters
+import dagger.assisted.Assisted
+import dagger.assisted.AssistedInject
+import java.util.concurrent.TimeUnit
+
+/**
+ * Sends whatever [ProgressSyncQueue] holds. Runs only with network, and WorkManager retries
+ * it with exponential backoff while the server keeps failing, including after process death.
+ */
+@HiltWorker
+class ProgressSyncWorker @AssistedInject constructor(
+    @Assisted appContext: Context,
+    @Assisted params: WorkerParameters,
+    private val syncQueue: ProgressSyncQueue
+) : CoroutineWorker(appContext, params) {
+
+    companion object {
+        private const val UNIQUE_WORK_NAME = "progress_sync"
+
+        // Events recorded within this window go out in the same batch
+        private const val FLUSH_DELAY_SECONDS = 10L
+        private const val BACKOFF_DELAY_SECONDS = 30L
+
+        fun enqueue(context: Context) {
+            val request = OneTimeWorkRequestBuilder<ProgressSyncWorker>()
+                .setConstraints(
+                    Constraints.Builder()
+                        .setRequiredNetworkType(NetworkType.CONNECTED)
+                        .build()
+                )
+                .setInitialDelay(FLUSH_DELAY_SECONDS, TimeUnit.SECONDS)
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY_SECONDS, TimeUnit.SECONDS)
+                .build()
+
+            // One pending flush drains the whole outbox, so later events only need one when
+            // none is waiting; a run already in progress picks them up before it finishes
+            WorkManager.getInstance(context).enqueueUniqueWork(
+                UNIQUE_WORK_NAME,
+                ExistingWorkPolicy.KEEP,
+                request
+            )
+        }
+    }
+
+    override suspend fun doWork(): Result {
+        while (true) {
+            val result = try {
+                syncQueue.flush()
+            } catch (e: Exception) {
+                return Result.retry()
+            }
+            if (result.shouldRetry) return Result.retry()
+            // KEEP ignored events recorded while this run was flushing; they go out now
+            if (!syncQueue.hasPending()) return Result.success()
+        }
+    }
+}
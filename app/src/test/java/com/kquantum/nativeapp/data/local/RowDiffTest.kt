@@ -0,0 +1,60 @@
+/**
+ * K-QuantumNative - Row Diff Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.local
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RowDiffTest {
+
+    private data class Row(
+        override val id: String,
+        override val position: Int,
+        override val payload: String
+    ) : CachedRow
+
+    private val current = listOf(Row("a", 0, "A"), Row("b", 1, "B"), Row("c", 2, "C"))
+
+    @Test
+    fun identicalRowsNeedNoWrites() {
+        assertTrue(RowDiff.of(current, current.map { it.copy() }).isEmpty)
+    }
+
+    @Test
+    fun changedPayloadIsUpserted() {
+        val incoming = listOf(Row("a", 0, "A"), Row("b", 1, "B2"), Row("c", 2, "C"))
+
+        val diff = RowDiff.of(current, incoming)
+
+        assertEquals(listOf(Row("b", 1, "B2")), diff.upserts)
+        assertTrue(diff.deletedIds.isEmpty())
+    }
+
+    @Test
+    fun reorderedRowsAreUpserted() {
+        val incoming = listOf(Row("b", 0, "B"), Row("a", 1, "A"), Row("c", 2, "C"))
+
+        assertEquals(listOf("b", "a"), RowDiff.of(current, incoming).upserts.map { it.id })
+    }
+
+    @Test
+    fun newRowsAreUpsertedAndMissingRowsDeleted() {
+        val incoming = listOf(Row("a", 0, "A"), Row("c", 1, "C"), Row("d", 2, "D"))
+
+        val diff = RowDiff.of(current, incoming)
+
+        assertEquals(listOf("c", "d"), diff.upserts.map { it.id })
+        assertEquals(listOf("b"), diff.deletedIds)
+    }
+
+    @Test
+    fun emptyCacheUpsertsEverything() {
+        val diff = RowDiff.of(emptyList(), current)
+
+        assertEquals(current, diff.upserts)
+        assertTrue(diff.deletedIds.isEmpty())
+    }
+}
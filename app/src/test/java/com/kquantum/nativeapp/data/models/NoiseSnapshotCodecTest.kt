@@ -0,0 +1,132 @@
+/**
+ * K-QuantumNative - Noise Snapshot Codec Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertThrows
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import kotlin.math.abs
+
+class NoiseSnapshotCodecTest {
+
+    // Log-scaled 16-bit quantization keeps about 0.03% relative precision
+    private val relativeTolerance = 5e-4
+
+    private fun snapshot(qubits: Int) = NoiseSnapshot().apply {
+        ensureCapacity(qubits)
+        timestamp = 1_700_000_000_123
+        overallFidelity = 0.9975
+        coherenceRemaining = 0.81
+        atomLossRate = 0.00015
+        replenishmentRate = 24.5
+        for (i in 0 until qubits) {
+            dephasing[i] = 0.001f + i * 1e-5f
+            relaxation[i] = 0.0005f + i * 1e-6f
+            gateError[i] = 0.003f * (1 + i % 3)
+            readoutError[i] = 0.01f + i * 1e-4f
+            status[i] = if (i % 7 == 0) QubitNoiseStatus.WARNING else QubitNoiseStatus.HEALTHY
+        }
+    }
+
+    private fun assertClose(expected: Float, actual: Float) {
+        assertTrue("$actual is not within tolerance of $expected", abs(actual - expected) <= expected * relativeTolerance)
+    }
+
+    @Test
+    fun roundTripKeepsEveryColumnWithinQuantizationError() {
+        val original = snapshot(127)
+
+        val bytes = NoiseSnapshotCodec.encode(original)
+        val decoded = NoiseSnapshot()
+        NoiseSnapshotCodec.decodeInto(bytes, decoded)
+
+        assertEquals(NoiseSnapshotCodec.encodedSize(127), bytes.size)
+        assertEquals(127, decoded.qubitCount)
+        assertEquals(original.timestamp, decoded.timestamp)
+        assertEquals(original.overallFidelity, decoded.overallFidelity, 1e-6)
+        assertEquals(original.replenishmentRate, decoded.replenishmentRate, 1e-5)
+        for (i in 0 until 127) {
+            assertClose(original.dephasing[i], decoded.dephasing[i])
+            assertClose(original.relaxation[i], decoded.relaxation[i])
+            assertClose(original.gateError[i], decoded.gateError[i])
+            assertClose(original.readoutError[i], decoded.readoutError[i])
+        }
+        assertArrayEquals(original.status.copyOf(127), decoded.status.copyOf(127))
+        assertTrue(decoded.isSameAs(original, resolution = 1e-5))
+    }
+
+    @Test
+    fun zeroRatesStayZero() {
+        val original = snapshot(2).apply { gateError[1] = 0f }
+
+        val decoded = NoiseSnapshot()
+        NoiseSnapshotCodec.decodeInto(NoiseSnapshotCodec.encode(original), decoded)
+
+        assertEquals(0f, decoded.gateError[1])
+    }
+
+    @Test
+    fun decodingReusesTheTargetArrays() {
+        val target = NoiseSnapshot(initialCapacity = 16)
+        val columns = target.dephasing
+
+        NoiseSnapshotCodec.decodeInto(NoiseSnapshotCodec.encode(snapshot(8)), target)
+
+        assertSame(columns, target.dephasing)
+        assertEquals(8, target.qubitCount)
+    }
+
+    @Test
+    fun copyIsUnaffectedByRefillingTheOriginal() {
+        val original = snapshot(8)
+        val copy = original.copy()
+
+        NoiseSnapshotCodec.decodeInto(NoiseSnapshotCodec.encode(snapshot(3)), original)
+        original.dephasing[0] = 0.5f
+
+        assertEquals(8, copy.qubitCount)
+        assertTrue(copy.isSameAs(snapshot(8), resolution = 1e-9))
+    }
+
+    @Test
+    fun unknownVersionIsRejected() {
+        val frame = NoiseSnapshotCodec.encode(snapshot(4)).also { it[2] = 2 }
+
+        assertThrows(IllegalArgumentException::class.java) {
+            NoiseSnapshotCodec.decodeInto(frame, NoiseSnapshot())
+        }
+    }
+
+    @Test
+    fun foreignOrTruncatedFramesAreRejected() {
+        val bytes = NoiseSnapshotCodec.encode(snapshot(4))
+
+        assertThrows(IllegalArgumentException::class.java) {
+            NoiseSnapshotCodec.decodeInto(bytes.copyOf(bytes.size - 1), NoiseSnapshot())
+        }
+        assertThrows(IllegalArgumentException::class.java) {
+            NoiseSnapshotCodec.decodeInto(bytes.copyOf().also { it[0] = 0 }, NoiseSnapshot())
+        }
+        assertThrows(IllegalArgumentException::class.java) {
+            NoiseSnapshotCodec.decodeInto(bytes.copyOf(10), NoiseSnapshot())
+        }
+    }
+
+    @Test
+    fun qubitCountThatOverflowsTheFrameSizeIsRejected() {
+        // 477218589 * 9 bytes wraps a 32-bit size around to a few bytes
+        val frame = NoiseSnapshotCodec.encode(snapshot(4))
+        ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 477_218_589)
+
+        assertThrows(IllegalArgumentException::class.java) {
+            NoiseSnapshotCodec.decodeInto(frame, NoiseSnapshot())
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * K-QuantumNative - Outcome Histogram Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class OutcomeHistogramTest {
+
+    private fun histogram(bins: Int) = OutcomeHistogram(width = 12).apply {
+        for (outcome in 0L until bins) add(outcome, (outcome % 97).toInt() + 1)
+    }
+
+    private fun expectedTop(bins: Int, k: Int) = (0L until bins)
+        .map { OutcomeCount(it, (it % 97).toInt() + 1) }
+        .sortedWith(compareByDescending<OutcomeCount> { it.count }.thenBy { it.outcome })
+        .take(k)
+
+    @Test
+    fun topKIsOrderedByCountThenOutcome() {
+        assertEquals(expectedTop(1_000, 10), histogram(1_000).topK(10))
+    }
+
+    @Test
+    fun smallerRequestDoesNotShrinkTheCachedRanking() {
+        val histogram = histogram(1_000)
+
+        val top10 = histogram.topK(10)
+        histogram.topK(1)
+
+        assertEquals(top10, histogram.topK(10))
+        assertEquals(top10.take(3), histogram.topK(3))
+    }
+
+    @Test
+    fun addInvalidatesTheRanking() {
+        val histogram = histogram(100)
+        histogram.topK(5)
+
+        histogram.add(42, 1_000)
+
+        assertEquals(OutcomeCount(42, 1_000 + 43), histogram.mostLikely())
+    }
+
+    @Test
+    fun concurrentReadersAgree() {
+        val histogram = histogram(4_000)
+        val pool = Executors.newFixedThreadPool(8)
+        val start = CountDownLatch(1)
+
+        val results = (1..64).map { i ->
+            pool.submit(Callable {
+                start.await()
+                val k = 1 + i % 20
+                k to histogram.topK(k)
+            })
+        }
+        start.countDown()
+        val answers = results.map { it.get(10, TimeUnit.SECONDS) }
+        pool.shutdown()
+
+        answers.forEach { (k, top) -> assertEquals(expectedTop(4_000, k), top) }
+        assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS))
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * K-QuantumNative - Result Attachment Codec Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.models
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import kotlin.math.sqrt
+
+class ResultAttachmentCodecTest {
+
+    private fun header(magic: Int, flags: Int, length: Int, payload: ByteArray = ByteArray(0)): ByteArray =
+        ByteBuffer.allocate(8 + payload.size).order(ByteOrder.LITTLE_ENDIAN)
+            .putShort(magic.toShort())
+            .put(1)
+            .put(flags.toByte())
+            .putInt(length)
+            .put(payload)
+            .array()
+
+    @Test
+    fun countsRoundTrip() {
+        val counts = (0 until 300).associate { it.toString(2).padStart(9, '0') to it + 1 }
+
+        assertEquals(counts, ResultAttachmentCodec.decodeCounts(ResultAttachmentCodec.encodeCounts(counts)))
+    }
+
+    @Test
+    fun sparseStateVectorRoundTrips() {
+        val amplitude = sqrt(0.5)
+        val ghz = StateVector(3, doubleArrayOf(amplitude, 0.0, amplitude, 0.0), intArrayOf(0, 7))
+
+        val decoded = ResultAttachmentCodec.decodeStateVector(ResultAttachmentCodec.encodeStateVector(ghz))
+
+        assertEquals(0.5, decoded.probability(0), 1e-12)
+        assertEquals(7, decoded.basisState(1))
+    }
+
+    @Test
+    fun compressedLengthBeyondTheCapIsRejectedBeforeInflating() {
+        val bytes = header(0x4348, flags = 0x02, length = Int.MAX_VALUE, payload = ByteArray(16))
+
+        assertThrows(IllegalArgumentException::class.java) { ResultAttachmentCodec.decodeHistogram(bytes) }
+    }
+
+    @Test
+    fun compressedLengthBeyondWhatTheInputCanInflateToIsRejected() {
+        // 16 compressed bytes cannot inflate to 1 MiB
+        val bytes = header(0x4348, flags = 0x02, length = 1 shl 20, payload = ByteArray(16))
+
+        assertThrows(IllegalArgumentException::class.java) { ResultAttachmentCodec.decodeHistogram(bytes) }
+    }
+
+    @Test
+    fun countsTableLargerThanItsPayloadIsRejected() {
+        // width 3, then a varint claiming 2^28 entries, and nothing after it
+        val payload = byteArrayOf(3, 0x80.toByte(), 0x80.toByte(), 0x80.toByte(), 0x80.toByte(), 0x01)
+        val bytes = header(0x4348, flags = 0, length = payload.size, payload = payload)
+
+        assertThrows(IllegalArgumentException::class.java) { ResultAttachmentCodec.decodeHistogram(bytes) }
+    }
+
+    @Test
+    fun denseVectorWhoseSizeOverflowsIsRejected() {
+        // 29 qubits dense: count * 16 overflows an Int
+        val payload = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(29).putInt(1 shl 29).array()
+        val bytes = header(0x5653, flags = 0, length = payload.size, payload = payload)
+
+        assertThrows(IllegalArgumentException::class.java) { ResultAttachmentCodec.decodeStateVector(bytes) }
+    }
+}
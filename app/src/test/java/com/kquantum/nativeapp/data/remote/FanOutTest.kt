@@ -0,0 +1,40 @@
+/**
+ * K-QuantumNative - Fan-Out Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class FanOutTest {
+
+    @Test
+    fun slowAndFailingCallsDoNotHoldBackTheRest() = runBlocking {
+        val fanOut = FanOut(defaultTimeoutMs = 1_000)
+        val fast = fanOut.call("fast") { ApiResult.Success(1) }
+        fanOut.call("failing") { ApiResult.Error("boom") }
+        fanOut.call("slow", timeoutMs = 50) { delay(5_000); ApiResult.Success(2) }
+
+        val result = fanOut.run()
+
+        assertEquals(ApiResult.Success(1), result[fast])
+        assertEquals(listOf("failing", "slow"), result.failed)
+        assertTrue(result.wallTimeMs < 1_000)
+    }
+
+    @Test
+    fun breakdownNamesEveryCallAndItsOutcome() = runBlocking {
+        val fanOut = FanOut()
+        fanOut.call("stats") { ApiResult.Success(Unit) }
+        fanOut.call("tracks", timeoutMs = 10) { delay(1_000); ApiResult.Success(Unit) }
+
+        val breakdown = fanOut.run().latencyBreakdown()
+
+        assertTrue(breakdown, breakdown.startsWith("wall "))
+        assertTrue(breakdown, Regex("""stats \d+ ms, tracks \d+ ms TIMEOUT""").containsMatchIn(breakdown))
+    }
+}
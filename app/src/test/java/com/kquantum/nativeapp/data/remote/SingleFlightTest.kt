@@ -0,0 +1,110 @@
+/**
+ * K-QuantumNative - Single Flight Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.util.concurrent.atomic.AtomicInteger
+
+class SingleFlightTest {
+
+    private var now = 0L
+    private val calls = AtomicInteger()
+    private val singleFlight = SingleFlight(freshForMs = 1_000, clock = { now })
+
+    private suspend fun fetch(key: String = "tracks", result: ApiResult<Int> = ApiResult.Success(1)) =
+        singleFlight.run(key) {
+            calls.incrementAndGet()
+            delay(50)
+            result
+        }
+
+    @Test
+    fun concurrentCallersShareOneRequest() = runBlocking {
+        val results = (1..5).map { async { fetch() } }.awaitAll()
+
+        assertEquals(1, calls.get())
+        assertEquals(List(5) { ApiResult.Success(1) }, results)
+    }
+
+    @Test
+    fun freshResultIsServedWithoutARequest() = runBlocking {
+        fetch()
+        now += 999
+        fetch()
+
+        assertEquals(1, calls.get())
+    }
+
+    @Test
+    fun staleResultIsFetchedAgain() = runBlocking {
+        fetch()
+        now += 1_000
+        fetch()
+
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun errorsAreNotReused() = runBlocking {
+        fetch(result = ApiResult.Error("offline"))
+        fetch()
+
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun differentKeysDoNotShare() = runBlocking {
+        listOf(async { fetch("a") }, async { fetch("b") }).awaitAll()
+
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun invalidatedResultIsFetchedAgain() = runBlocking {
+        fetch()
+        singleFlight.invalidate("tracks")
+        fetch()
+
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun requestInFlightDuringInvalidateIsNeitherJoinedNorCached() = runBlocking {
+        val gate = CompletableDeferred<Unit>()
+        val beforeWrite = async {
+            singleFlight.run("k") { gate.await(); calls.incrementAndGet(); ApiResult.Success("old") }
+        }
+        delay(20)
+
+        singleFlight.invalidate("k")
+        val afterWrite = async { singleFlight.run("k") { calls.incrementAndGet(); ApiResult.Success("new") } }
+        assertEquals(ApiResult.Success("new"), afterWrite.await())
+        gate.complete(Unit)
+
+        assertEquals(ApiResult.Success("old"), beforeWrite.await())
+        assertEquals(ApiResult.Success("new"), singleFlight.run("k") { ApiResult.Success("unexpected") })
+        assertEquals(2, calls.get())
+    }
+
+    @Test
+    fun requestOutlivesACallerThatGivesUp() = runBlocking {
+        val gate = CompletableDeferred<Unit>()
+        val first = async { singleFlight.run("k") { gate.await(); calls.incrementAndGet(); ApiResult.Success(7) } }
+        delay(20)
+        val second = async { singleFlight.run("k") { ApiResult.Success(0) } }
+        delay(20)
+        first.cancel()
+        gate.complete(Unit)
+
+        assertEquals(ApiResult.Success(7), second.await())
+        assertEquals(1, calls.get())
+    }
+}
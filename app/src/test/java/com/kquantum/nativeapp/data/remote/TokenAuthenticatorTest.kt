@@ -0,0 +1,141 @@
+/**
+ * K-QuantumNative - Token Authenticator Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TokenAuthenticatorTest {
+
+    private class FakeTokenStore(
+        @Volatile var token: String? = "expired",
+        @Volatile var refreshToken: String? = "refresh-1"
+    ) : SessionTokenStore {
+        @Volatile var expired = false
+
+        override fun getToken() = token
+        override fun saveToken(token: String) { this.token = token }
+        override fun getRefreshToken() = refreshToken
+        override fun saveRefreshToken(token: String) { refreshToken = token }
+        override fun expireSession() {
+            expired = true
+            token = null
+            refreshToken = null
+        }
+    }
+
+    private val server = MockWebServer()
+    private val store = FakeTokenStore()
+    private val refreshCalls = AtomicInteger()
+
+    // Status the refresh endpoint answers with; 200 issues "fresh"
+    @Volatile private var refreshStatus = 200
+
+    private lateinit var client: OkHttpClient
+
+    @Before
+    fun setUp() {
+        server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse = when (request.path) {
+                "/api/v1/auth/refresh" -> {
+                    refreshCalls.incrementAndGet()
+                    // Slow enough for concurrent 401s to queue behind the refresh
+                    Thread.sleep(100)
+                    if (refreshStatus == 200) {
+                        MockResponse().setBody(
+                            """{"access_token":"fresh","token_type":"bearer","user_id":"u1",""" +
+                                """"username":"eunmin","email":"e@example.com","refresh_token":"refresh-2"}"""
+                        )
+                    } else {
+                        MockResponse().setResponseCode(refreshStatus)
+                    }
+                }
+                else ->
+                    if (request.getHeader("Authorization") == "Bearer fresh") MockResponse().setBody("ok")
+                    else MockResponse().setResponseCode(401)
+            }
+        }
+        server.start()
+
+        val baseUrl = server.url("/")
+        client = OkHttpClient.Builder()
+            .authenticator(TokenAuthenticator(store, OkHttpClient(), TokenAuthenticator.refreshUrl(baseUrl)))
+            .build()
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    private fun get(token: String? = store.token): Int {
+        val request = Request.Builder()
+            .url(server.url("/api/v1/progress"))
+            .apply { token?.let { header("Authorization", "Bearer $it") } }
+            .build()
+        return client.newCall(request).execute().use { it.code }
+    }
+
+    @Test
+    fun expiredTokenIsRefreshedAndTheRequestReplayed() {
+        assertEquals(200, get())
+
+        assertEquals(1, refreshCalls.get())
+        assertEquals("fresh", store.token)
+        assertEquals("refresh-2", store.refreshToken)
+    }
+
+    @Test
+    fun concurrentUnauthorizedRequestsShareOneRefresh() {
+        val pool = Executors.newFixedThreadPool(6)
+        val codes = (1..6).map { pool.submit<Int> { get("expired") } }.map { it.get(10, TimeUnit.SECONDS) }
+        pool.shutdown()
+
+        assertEquals(List(6) { 200 }, codes)
+        assertEquals(1, refreshCalls.get())
+    }
+
+    @Test
+    fun rejectedRefreshEndsTheSession() {
+        refreshStatus = 401
+
+        assertEquals(401, get())
+
+        assertTrue(store.expired)
+        assertNull(store.token)
+    }
+
+    @Test
+    fun unreachableRefreshKeepsTheSession() {
+        refreshStatus = 503
+
+        assertEquals(401, get())
+
+        assertFalse(store.expired)
+        assertEquals("expired", store.token)
+        assertEquals("refresh-1", store.refreshToken)
+    }
+
+    @Test
+    fun requestWithoutCredentialsIsNotRefreshed() {
+        assertEquals(401, get(token = null))
+
+        assertEquals(0, refreshCalls.get())
+    }
+}
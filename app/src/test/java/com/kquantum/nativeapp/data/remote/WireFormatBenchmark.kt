@@ -0,0 +1,104 @@
+/**
+ * K-QuantumNative - Wire Format Benchmark
+ * Payload size and decode time of JSON versus CBOR for the high-volume models
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.data.remote
+
+import com.kquantum.nativeapp.data.models.AchievementResponse
+import com.kquantum.nativeapp.data.models.BridgeJobResults
+import com.kquantum.nativeapp.data.models.ComplexNumber
+import com.kquantum.nativeapp.data.models.NoiseEventData
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.KSerializer
+import kotlinx.serialization.builtins.ListSerializer
+import kotlinx.serialization.json.decodeFromStream
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.util.zip.GZIPOutputStream
+import kotlin.random.Random
+
+/**
+ * Encodes representative [BridgeJobResults] and achievement lists in both formats and
+ * prints raw and gzipped sizes plus median decode times. JSON is decoded the way
+ * [StreamingJsonConverterFactory] does it and CBOR the way [NegotiatingConverterFactory]
+ * does. Run from the IDE.
+ */
+fun main() {
+    val random = Random(7)
+    val qubits = 10
+    val results = BridgeJobResults(
+        measurements = (0 until (1 shl qubits)).associate { index ->
+            index.toString(2).padStart(qubits, '0') to random.nextInt(0, 64)
+        },
+        finalStateVector = List(1 shl qubits) { ComplexNumber(random.nextDouble(-1.0, 1.0), random.nextDouble(-1.0, 1.0)) },
+        fidelity = 0.987,
+        executionTimeMs = 1_840,
+        noiseEvents = List(500) {
+            NoiseEventData(timestamp = 1_700_000_000_000 + it * 37L, qubit = it % qubits, type = "dephasing", magnitude = random.nextDouble())
+        },
+        coherenceTimeSeconds = 1.2
+    )
+    val achievements = List(200) {
+        AchievementResponse(
+            id = "achievement_$it",
+            title = "Achievement $it",
+            description = "Complete challenge number $it in the learning path",
+            emoji = "⭐",
+            iconName = "star",
+            xpReward = 50 + it,
+            category = "learning",
+            rarity = if (it % 10 == 0) "rare" else "common",
+            unlockedAt = if (it % 3 == 0) "2025-01-${(it % 28 + 1).toString().padStart(2, '0')}T12:00:00Z" else null
+        )
+    }
+
+    println("%-22s %10s %10s %10s %10s %10s".format("payload", "json B", "json gz", "cbor B", "cbor gz", "json/cbor"))
+    report("BridgeJobResults", BridgeJobResults.serializer(), results)
+    report("List<Achievement>", ListSerializer(AchievementResponse.serializer()), achievements)
+}
+
+@OptIn(ExperimentalSerializationApi::class)
+private fun <T> report(name: String, serializer: KSerializer<T>, value: T) {
+    val jsonBytes = NetworkJson.encodeToString(serializer, value).toByteArray()
+    val cborBytes = NetworkCbor.encodeToByteArray(serializer, value)
+
+    check(NetworkJson.decodeFromStream(serializer, ByteArrayInputStream(jsonBytes)) == value)
+    check(NetworkCbor.decodeFromByteArray(serializer, cborBytes) == value)
+
+    val jsonNanos = medianNanos { NetworkJson.decodeFromStream(serializer, ByteArrayInputStream(jsonBytes)) }
+    val cborNanos = medianNanos { NetworkCbor.decodeFromByteArray(serializer, cborBytes) }
+
+    println(
+        "%-22s %10d %10d %10d %10d %9.2fx".format(
+            name, jsonBytes.size, gzipSize(jsonBytes), cborBytes.size, gzipSize(cborBytes),
+            jsonBytes.size.toDouble() / cborBytes.size
+        )
+    )
+    println(
+        "%-22s decode json %.3f ms, cbor %.3f ms (%.2fx)".format(
+            "", jsonNanos / 1e6, cborNanos / 1e6, jsonNanos.toDouble() / cborNanos
+        )
+    )
+}
+
+// Bytes on the wire when the server compresses; OkHttp negotiates gzip transparently
+private fun gzipSize(bytes: ByteArray): Int {
+    val out = ByteArrayOutputStream()
+    GZIPOutputStream(out).use { it.write(bytes) }
+    return out.size()
+}
+
+private inline fun medianNanos(block: () -> Unit): Long {
+    repeat(WARMUP_ITERATIONS) { block() }
+    val samples = LongArray(MEASURED_ITERATIONS) {
+        val start = System.nanoTime()
+        block()
+        System.nanoTime() - start
+    }
+    samples.sort()
+    return samples[samples.size / 2]
+}
+
+private const val WARMUP_ITERATIONS = 500
+private const val MEASURED_ITERATIONS = 200
@@ -0,0 +1,56 @@
+/**
+ * K-QuantumNative - Backend Router Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class BackendRouterTest {
+
+    private val brisbane = QuantumBackend(
+        name = "ibm_brisbane",
+        displayName = "IBM Brisbane",
+        numQubits = 127,
+        queueLength = 5,
+        averageGateFidelity = 0.9975,
+        averageJobSeconds = 12
+    )
+    private val osaka = brisbane.copy(name = "ibm_osaka", displayName = "IBM Osaka", queueLength = 12)
+    private val simulator = QuantumBackend(
+        name = "simulator",
+        displayName = "Quantum Simulator",
+        numQubits = 32,
+        averageGateFidelity = 1.0,
+        averageJobSeconds = 2,
+        simulator = true
+    )
+
+    private val bell = CircuitProfile(width = 2, depth = 3, twoQubitGates = 1)
+
+    @Test
+    fun hardwareIsPickedOverAFasterSimulator() {
+        val picked = BackendRouter().route(listOf(simulator, osaka, brisbane), bell)
+
+        assertEquals("ibm_brisbane", picked?.backend?.name)
+    }
+
+    @Test
+    fun simulatorIsPickedWhenTheUserOptsIn() {
+        val picked = BackendRouter().route(listOf(simulator, brisbane), bell, includeSimulators = true)
+
+        assertEquals("simulator", picked?.backend?.name)
+    }
+
+    @Test
+    fun offlineOrTooSmallBackendsAreSkipped() {
+        val wide = bell.copy(width = 200)
+        val backends = listOf(brisbane.copy(status = "maintenance"), simulator)
+
+        assertNull(BackendRouter().route(backends, bell))
+        assertNull(BackendRouter().route(listOf(brisbane), wide))
+    }
+}
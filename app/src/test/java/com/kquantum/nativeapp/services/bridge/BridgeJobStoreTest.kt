@@ -0,0 +1,75 @@
+/**
+ * K-QuantumNative - Bridge Job Store Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import androidx.datastore.preferences.core.PreferenceDataStoreFactory
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobResults
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.job
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+
+class BridgeJobStoreTest {
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private val resultsDir get() = File(folder.root, "bridge_results")
+
+    private fun <T> withStore(block: suspend (BridgeJobStore) -> T): T = runBlocking {
+        val scope = CoroutineScope(Dispatchers.IO + SupervisorJob())
+        try {
+            val dataStore = PreferenceDataStoreFactory.create(
+                scope = scope,
+                produceFile = { File(folder.root, "bridge_jobs.preferences_pb") }
+            )
+            block(BridgeJobStore(dataStore, resultsDir))
+        } finally {
+            scope.coroutineContext.job.cancelAndJoin()
+        }
+    }
+
+    private fun completed(id: String) = BridgeJob(
+        id = id,
+        status = BridgeJobStatus.COMPLETED,
+        results = BridgeJobResults(measurements = mapOf("00" to 512, "11" to 488))
+    )
+
+    @Test
+    fun resultsAreKeptOutOfTheJobList() = withStore { store ->
+        store.saveCompleted(completed("job-1"))
+
+        assertNull(store.completedJobs().single().results)
+        assertEquals(mapOf("00" to 512, "11" to 488), store.completedJob("job-1")?.results?.measurements)
+    }
+
+    @Test
+    fun resultsSurviveARestart() {
+        withStore { it.saveCompleted(completed("job-1")) }
+
+        withStore { restarted ->
+            assertEquals(488, restarted.completedResults("job-1")?.measurements?.get("11"))
+        }
+    }
+
+    @Test
+    fun evictedJobsLoseTheirResultFiles() = withStore { store ->
+        repeat(51) { store.saveCompleted(completed("job-$it")) }
+
+        assertEquals(50, store.completedJobs().size)
+        assertNull(store.completedJob("job-0"))
+        assertEquals(50, resultsDir.listFiles()?.size)
+    }
+}
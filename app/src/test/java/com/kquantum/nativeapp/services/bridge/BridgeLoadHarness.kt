@@ -0,0 +1,125 @@
+/**
+ * K-QuantumNative - Bridge Load Harness
+ * Throughput and tail latency of BridgeClient against LocalBridgeServer
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.CircuitSubmissionRequest
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+import kotlinx.coroutines.withTimeout
+import kotlinx.serialization.json.Json
+import okhttp3.OkHttpClient
+import java.util.concurrent.TimeUnit
+
+/**
+ * Submits [JOBS] circuits with [CONCURRENCY] callers through the real Retrofit/OkHttp stack,
+ * polls them to completion with batched status calls and prints request latency
+ * percentiles. Run from the IDE; tweak [LocalBridgeConfig] to model a slow or flaky bridge.
+ */
+fun main() = runBlocking(Dispatchers.IO) {
+    val serverConfig = LocalBridgeConfig(
+        latencyMs = 20,
+        latencyJitterMs = 80,
+        failureRate = 0.02,
+        workers = 8,
+        executionMs = 500
+    )
+
+    LocalBridgeServer(serverConfig).start().use { server ->
+        val json = Json { ignoreUnknownKeys = true; isLenient = true }
+        val httpClient = OkHttpClient.Builder()
+            .connectTimeout(5, TimeUnit.SECONDS)
+            .readTimeout(10, TimeUnit.SECONDS)
+            .build()
+        val client = BridgeClient(server.bridgeConfig(), httpClient, json)
+        client.connect(apiKey = null)
+
+        val latencies = LatencyRecorder()
+        val gate = Semaphore(CONCURRENCY)
+        val circuit = """
+            OPENQASM 2.0;
+            include "qelib1.inc";
+            qreg q[2];
+            creg c[2];
+            h q[0];
+            cx q[0], q[1];
+            measure q -> c;
+        """.trimIndent()
+
+        val started = System.nanoTime()
+        val jobIds = (0 until JOBS).map {
+            async {
+                gate.withPermit {
+                    retrying(latencies) {
+                        client.submit(CircuitSubmissionRequest(circuitQasm = circuit, numShots = 1024, backend = "local_sim"))
+                    }.id
+                }
+            }
+        }.awaitAll()
+
+        val pending = jobIds.toMutableSet()
+        while (pending.isNotEmpty()) {
+            val statuses = retrying(latencies) { client.jobStatuses(pending) }
+            statuses.filter { it.status.isTerminal }.forEach { pending.remove(it.id) }
+            if (pending.isNotEmpty()) delay(POLL_INTERVAL_MS)
+        }
+        val elapsedMs = (System.nanoTime() - started) / 1_000_000
+
+        val frames = withTimeout(5_000) {
+            client.noiseFrames("local_sim", 100).take(10).toList()
+        }
+
+        println("jobs=$JOBS concurrency=$CONCURRENCY elapsed=${elapsedMs}ms")
+        println("throughput=${"%.1f".format(JOBS * 1000.0 / elapsedMs)} jobs/s")
+        println("requests=${server.requestCount.get()} failed=${server.failedRequestCount.get()}")
+        println(latencies.summary())
+        println("noise frames=${frames.size} bytes/frame=${frames.first().size}")
+    }
+}
+
+private const val JOBS = 500
+private const val CONCURRENCY = 32
+private const val POLL_INTERVAL_MS = 100L
+private const val MAX_ATTEMPTS = 5
+
+private suspend fun <T> retrying(latencies: LatencyRecorder, call: suspend () -> T): T {
+    var attempt = 0
+    while (true) {
+        val start = System.nanoTime()
+        try {
+            return call().also { latencies.record(System.nanoTime() - start) }
+        } catch (e: BridgeApiException) {
+            latencies.record(System.nanoTime() - start)
+            if (++attempt >= MAX_ATTEMPTS) throw e
+            delay(50L shl attempt)
+        }
+    }
+}
+
+private class LatencyRecorder {
+    private val samples = mutableListOf<Long>()
+
+    @Synchronized
+    fun record(nanos: Long) {
+        samples += nanos
+    }
+
+    @Synchronized
+    fun summary(): String {
+        if (samples.isEmpty()) return "latency: no samples"
+        val sorted = samples.sorted()
+        fun percentile(p: Double) = sorted[((sorted.size - 1) * p).toInt()] / 1_000_000.0
+        return "latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f (n=%d)".format(
+            percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0), sorted.size
+        )
+    }
+}
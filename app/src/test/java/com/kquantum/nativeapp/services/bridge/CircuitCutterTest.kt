@@ -0,0 +1,98 @@
+/**
+ * K-QuantumNative - Circuit Cutter Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.NoiseModel
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class CircuitCutterTest {
+
+    private val simulator = NoisySimulator(noiseModel = NoiseModel.IDEAL, trajectories = 1)
+    private val cutter = CircuitCutter { fragments -> fragments.map { simulator.run(it, SHOTS) } }
+
+    private companion object {
+        const val SHOTS = 20_000
+        const val TOLERANCE = 0.03
+    }
+
+    private fun h(q: Int) = QuantumGate(type = QuantumGateType.HADAMARD, targetQubit = q)
+    private fun x(q: Int) = QuantumGate(type = QuantumGateType.PAULI_X, targetQubit = q)
+    private fun cx(control: Int, target: Int) =
+        QuantumGate(type = QuantumGateType.CNOT, controlQubit = control, targetQubit = target)
+
+    @Test
+    fun planKeepsEveryFragmentWithinTheBudget() {
+        val circuit = QuantumCircuit(numberOfQubits = 4, gates = listOf(h(0), cx(0, 1), cx(1, 2), cx(2, 3)))
+
+        val plan = CircuitCutter.plan(circuit, maxWidth = 2)
+
+        assertTrue(plan.fragments.all { it.width <= 2 })
+        assertTrue(plan.cuts.isNotEmpty())
+        assertEquals(4, plan.classicalWidth)
+    }
+
+    @Test
+    fun reconstructsAGhzStateAcrossACut() = runBlocking {
+        val circuit = QuantumCircuit(numberOfQubits = 3, gates = listOf(h(0), cx(0, 1), cx(1, 2)))
+
+        val result = cutter.run(circuit, maxWidth = 2)
+
+        assertTrue(result.cutCount >= 1)
+        assertEquals(0.5, result.probabilities["000"] ?: 0.0, TOLERANCE)
+        assertEquals(0.5, result.probabilities["111"] ?: 0.0, TOLERANCE)
+        assertTrue(result.probabilities.filterKeys { it != "000" && it != "111" }.values.sum() < TOLERANCE)
+    }
+
+    @Test
+    fun reconstructsADeterministicCircuitExactly() = runBlocking {
+        val circuit = QuantumCircuit(numberOfQubits = 3, gates = listOf(x(0), cx(0, 1), cx(1, 2), x(1)))
+
+        val result = cutter.run(circuit, maxWidth = 2)
+
+        assertEquals(1.0, result.probabilities["101"] ?: 0.0, TOLERANCE)
+    }
+
+    @Test
+    fun independentBlocksNeedNoCuts() = runBlocking {
+        val circuit = QuantumCircuit(numberOfQubits = 4, gates = listOf(x(0), cx(0, 1), x(2)))
+
+        val result = cutter.run(circuit, maxWidth = 2)
+
+        assertEquals(0, result.cutCount)
+        assertEquals(2, result.fragmentCount)
+        assertEquals(1.0, result.probabilities["0111"] ?: 0.0, 1e-12)
+    }
+
+    @Test
+    fun identicalBlocksProduceIdenticalFragments() = runBlocking {
+        val circuit = QuantumCircuit(numberOfQubits = 4, gates = listOf(x(0), cx(0, 1), x(2), cx(2, 3)))
+        var submitted = emptyList<String>()
+
+        val result = CircuitCutter { fragments ->
+            submitted = fragments.map { it.toQASM() }
+            fragments.map { simulator.run(it, SHOTS) }
+        }.run(circuit, maxWidth = 2)
+
+        // Submitted together, these coalesce into one bridge job
+        assertEquals(1, submitted.toSet().size)
+        assertEquals(1.0, result.probabilities["1111"] ?: 0.0, 1e-12)
+    }
+
+    @Test
+    fun tooManyCutsAreRejected() {
+        val circuit = QuantumCircuit(numberOfQubits = 6, gates = (0 until 5).map { cx(it, it + 1) } + (4 downTo 0).map { cx(it + 1, it) })
+
+        assertThrows(IllegalArgumentException::class.java) {
+            runBlocking { CircuitCutter(maxCuts = 1) { emptyList() }.run(circuit, maxWidth = 2) }
+        }
+    }
+}
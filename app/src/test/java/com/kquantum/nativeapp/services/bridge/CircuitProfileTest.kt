@@ -0,0 +1,76 @@
+/**
+ * K-QuantumNative - Circuit Profile Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class CircuitProfileTest {
+
+    @Test
+    fun gatesOnDisjointQubitsShareALayer() {
+        val qasm = """
+            OPENQASM 2.0;
+            include "qelib1.inc";
+            qreg q[3];
+            creg c[3];
+            h q[0];
+            h q[1];
+            cx q[0],q[1];
+            x q[2];
+            measure q -> c;
+        """.trimIndent()
+
+        val profile = CircuitProfile.fromQasm(qasm, shots = 100)
+
+        assertEquals(3, profile.width)
+        assertEquals(2, profile.depth)
+        assertEquals(1, profile.twoQubitGates)
+        assertEquals(100, profile.shots)
+    }
+
+    @Test
+    fun commentLineDoesNotSwallowTheNextGate() {
+        val qasm = """
+            OPENQASM 2.0;
+            qreg q[2];
+            // entangle
+            h q[0];
+            cx q[0],q[1]; // then measure
+            x q[1];
+        """.trimIndent()
+
+        val profile = CircuitProfile.fromQasm(qasm, shots = 1024)
+
+        assertEquals(3, profile.depth)
+        assertEquals(1, profile.twoQubitGates)
+    }
+
+    @Test
+    fun commentedOutRegisterIsIgnored() {
+        val qasm = """
+            qreg q[2];
+            // qreg spare[5];
+            h q[0];
+        """.trimIndent()
+
+        assertEquals(2, CircuitProfile.fromQasm(qasm, shots = 1).width)
+    }
+
+    @Test
+    fun multipleRegistersAreLaidOutBackToBack() {
+        val qasm = """
+            qreg a[1];
+            qreg b[2];
+            cx a[0],b[1];
+            h b[0];
+        """.trimIndent()
+
+        val profile = CircuitProfile.fromQasm(qasm, shots = 1)
+
+        assertEquals(3, profile.width)
+        assertEquals(1, profile.depth)
+    }
+}
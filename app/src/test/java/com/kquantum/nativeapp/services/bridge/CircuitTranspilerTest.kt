@@ -0,0 +1,156 @@
+/**
+ * K-QuantumNative - Circuit Transpiler Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.NoiseModel
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class CircuitTranspilerTest {
+
+    private val lineBackend = QuantumBackend(
+        name = "line",
+        displayName = "Line",
+        numQubits = 5,
+        couplingMap = CouplingMaps.line(5),
+        basisGates = listOf("cx", "rz", "rx", "measure")
+    )
+
+    private fun gate(type: QuantumGateType, target: Int, control: Int? = null, control2: Int? = null) =
+        QuantumGate(type = type, targetQubit = target, controlQubit = control, controlQubit2 = control2)
+
+    private fun measureAll(qubits: Int) = (0 until qubits).map { gate(QuantumGateType.MEASURE, it) }
+
+    private fun ideal(circuit: QuantumCircuit) = runBlocking {
+        NoisySimulator(noiseModel = NoiseModel.IDEAL, trajectories = 1).run(circuit, shots = 200).toCountMap()
+    }
+
+    @Test
+    fun everyTwoQubitGateLandsOnACoupledPair() {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 5,
+            gates = listOf(
+                gate(QuantumGateType.CNOT, target = 4, control = 0),
+                gate(QuantumGateType.CNOT, target = 3, control = 1),
+                gate(QuantumGateType.CNOT, target = 0, control = 2)
+            )
+        )
+
+        val result = CircuitTranspiler(lineBackend).transpile(circuit)
+
+        val edges = lineBackend.couplingMap!!.map { it.toSet() }.toSet()
+        result.circuit.gates.filter { it.type == QuantumGateType.CNOT }.forEach {
+            assertTrue("${it.controlQubit}-${it.targetQubit} is not coupled", setOf(it.controlQubit, it.targetQubit) in edges)
+        }
+        assertTrue(result.swapsInserted > 0)
+    }
+
+    @Test
+    fun gatesOutsideTheBasisAreLowered() {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 3,
+            gates = listOf(
+                gate(QuantumGateType.HADAMARD, 0),
+                gate(QuantumGateType.TOFFOLI, target = 2, control = 0, control2 = 1),
+                gate(QuantumGateType.PAULI_Y, 1)
+            ) + measureAll(3)
+        )
+
+        val result = CircuitTranspiler(lineBackend).transpile(circuit)
+
+        val allowed = setOf(
+            QuantumGateType.CNOT, QuantumGateType.ROTATION_Z, QuantumGateType.ROTATION_X, QuantumGateType.MEASURE
+        )
+        assertTrue(result.circuit.gates.all { it.type in allowed })
+    }
+
+    @Test
+    fun transpiledCircuitKeepsItsOutcomes() {
+        // X on q0, then q0 controls the far end of the line: always reads 1001
+        val circuit = QuantumCircuit(
+            numberOfQubits = 4,
+            gates = listOf(
+                gate(QuantumGateType.PAULI_X, 0),
+                gate(QuantumGateType.CNOT, target = 3, control = 0)
+            ) + measureAll(4)
+        )
+
+        val result = CircuitTranspiler(lineBackend).transpile(circuit)
+
+        assertEquals(mapOf("1001" to 200), ideal(circuit))
+        assertEquals(mapOf("1001" to 200), ideal(result.circuit))
+    }
+
+    @Test
+    fun everyClassicalBitMapsToTheQubitItWasReadFrom() {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 4,
+            gates = listOf(
+                gate(QuantumGateType.CNOT, target = 3, control = 0),
+                gate(QuantumGateType.SWAP, target = 2, control = 1),
+                QuantumGate(type = QuantumGateType.MEASURE, targetQubit = 1, classicalBit = 0),
+                QuantumGate(type = QuantumGateType.MEASURE, targetQubit = 3, classicalBit = 1)
+            )
+        )
+
+        val result = CircuitTranspiler(lineBackend).transpile(circuit)
+
+        assertEquals(4, result.qubitForBit.size)
+        assertEquals(result.finalLayout[1], result.qubitForBit[0])
+        assertEquals(result.finalLayout[3], result.qubitForBit[1])
+        // Unmeasured bits follow their logical qubit
+        assertEquals(result.finalLayout[2], result.qubitForBit[2])
+    }
+
+    @Test
+    fun logicalSwapOnlyRelabelsTheLayout() {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 2,
+            gates = listOf(gate(QuantumGateType.SWAP, target = 1, control = 0))
+        )
+
+        val result = CircuitTranspiler(lineBackend).transpile(circuit)
+
+        assertTrue(result.circuit.gates.isEmpty())
+        assertEquals(result.initialLayout.reversed(), result.finalLayout)
+    }
+
+    @Test
+    fun circuitWiderThanTheBackendIsRejected() {
+        val circuit = QuantumCircuit(numberOfQubits = 6, gates = listOf(gate(QuantumGateType.HADAMARD, 5)))
+
+        assertThrows(IllegalArgumentException::class.java) {
+            CircuitTranspiler(lineBackend).transpile(circuit)
+        }
+    }
+
+    @Test
+    fun disconnectedCouplingMapIsRejected() {
+        val islands = lineBackend.copy(couplingMap = listOf(listOf(0, 1), listOf(2, 3)))
+        val circuit = QuantumCircuit(numberOfQubits = 3, gates = listOf(gate(QuantumGateType.CNOT, target = 2, control = 0)))
+
+        assertThrows(IllegalArgumentException::class.java) {
+            CircuitTranspiler(islands).transpile(circuit)
+        }
+    }
+
+    @Test
+    fun allToAllBackendNeedsNoSwaps() {
+        val backend = QuantumBackend(name = "sim", displayName = "Simulator", numQubits = 5)
+        val circuit = QuantumCircuit(numberOfQubits = 5, gates = listOf(gate(QuantumGateType.CNOT, target = 4, control = 0)))
+
+        val result = CircuitTranspiler(backend).transpile(circuit)
+
+        assertEquals(0, result.swapsInserted)
+        assertEquals(List(5) { it }, result.initialLayout)
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * K-QuantumNative - Credit Ledger Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import androidx.datastore.preferences.core.PreferenceDataStoreFactory
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.job
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+
+class CreditLedgerTest {
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private fun ledger(scope: CoroutineScope) = CreditLedger(
+        PreferenceDataStoreFactory.create(
+            scope = scope,
+            produceFile = { File(folder.root, "bridge_credits.preferences_pb") }
+        )
+    )
+
+    private fun <T> withLedger(block: suspend (CreditLedger) -> T): T = runBlocking {
+        val scope = CoroutineScope(Dispatchers.IO + SupervisorJob())
+        try {
+            block(ledger(scope))
+        } finally {
+            scope.coroutineContext.job.cancelAndJoin()
+        }
+    }
+
+    @Test
+    fun heldKeyIsReportedAsInProgress() = withLedger { ledger ->
+        assertEquals(CreditReservation.Reserved("k"), ledger.reserve("k"))
+
+        assertEquals(CreditReservation.InProgress("k"), ledger.reserve("k"))
+    }
+
+    @Test
+    fun waiterJoinsTheHoldersCharge() = withLedger { ledger ->
+        ledger.reserve("k")
+        val settled = async { ledger.awaitSettled("k") }
+        delay(50)
+        assertFalse(settled.isCompleted)
+
+        ledger.commit("k", jobId = "job-1")
+
+        assertEquals("job-1", withTimeout(1_000) { settled.await() }?.jobId)
+        assertEquals(CreditReservation.AlreadyCharged("k", "job-1"), ledger.reserve("k"))
+    }
+
+    @Test
+    fun refundedKeyCanBeReservedAgain() = withLedger { ledger ->
+        ledger.reserve("k")
+        ledger.refund("k")
+
+        assertEquals(CreditEntryState.REFUNDED, ledger.awaitSettled("k")?.state)
+        assertEquals(CreditReservation.Reserved("k"), ledger.reserve("k"))
+    }
+
+    @Test
+    fun holdRestoredFromDiskIsReleased() {
+        val allowance = withLedger { ledger ->
+            ledger.reserve("k")
+            // Wait for the hold to be written
+            ledger.ledgerState.first { it.entries["k"] != null }
+            delay(200)
+            ledger.ledgerState.value.allowance
+        }
+
+        withLedger { restarted ->
+            restarted.reserve("other")
+            val restored = restarted.ledgerState.value
+            assertEquals(CreditEntryState.REFUNDED, restored.entries["k"]?.state)
+            assertEquals(allowance - 1, restored.available)
+            // The key can be submitted again, once
+            assertEquals(CreditReservation.Reserved("k"), restarted.reserve("k"))
+            assertEquals(CreditReservation.InProgress("k"), restarted.reserve("k"))
+        }
+    }
+
+    @Test
+    fun reservationsStopAtTheAllowance() = withLedger { ledger ->
+        val allowance = ledger.ledgerState.value.available
+
+        repeat(allowance) { assertEquals(CreditReservation.Reserved("k$it"), ledger.reserve("k$it")) }
+
+        assertEquals(CreditReservation.Insufficient, ledger.reserve("one-more"))
+    }
+}
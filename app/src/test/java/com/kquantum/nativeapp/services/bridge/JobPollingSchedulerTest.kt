@@ -0,0 +1,63 @@
+/**
+ * K-QuantumNative - Job Polling Scheduler Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class JobPollingSchedulerTest {
+
+    private val now = 1_000_000L
+
+    private fun queued(position: Int?, estimatedSeconds: Int? = 10) =
+        BridgeJob(id = "job", status = BridgeJobStatus.QUEUED, queuePosition = position, estimatedTime = estimatedSeconds)
+
+    @Test
+    fun queuedJobWithUnknownPositionBacksOff() {
+        val delays = (0..6).map { JobPollingScheduler.nextPollDelayMs(queued(position = null), it, null, now) }
+
+        assertEquals(JobPollingScheduler.MIN_POLL_INTERVAL_MS, delays.first())
+        assertTrue("delays should grow: $delays", delays.zipWithNext().all { (a, b) -> b >= a })
+        assertEquals(JobPollingScheduler.MAX_QUEUED_POLL_INTERVAL_MS, delays.last())
+    }
+
+    @Test
+    fun queuedJobAtPositionZeroBacksOff() {
+        val delay = JobPollingScheduler.nextPollDelayMs(queued(position = 0), attempt = 4, runningSinceMs = null, now = now)
+
+        assertEquals(16_000L, delay)
+    }
+
+    @Test
+    fun queuedJobNeverSleepsPastHalfTheExpectedWait() {
+        // Two jobs ahead at 10 s each: 20 s expected, so at most 10 s between polls
+        val delay = JobPollingScheduler.nextPollDelayMs(queued(position = 2), attempt = 6, runningSinceMs = null, now = now)
+
+        assertEquals(10_000L, delay)
+    }
+
+    @Test
+    fun runningJobTightensTowardsItsEta() {
+        val job = BridgeJob(id = "job", status = BridgeJobStatus.RUNNING, startedAt = now - 2_000, estimatedTime = 10)
+
+        val delay = JobPollingScheduler.nextPollDelayMs(job, attempt = 0, runningSinceMs = null, now = now)
+
+        assertEquals(4_000L, delay)
+    }
+
+    @Test
+    fun overdueRunningJobBacksOffUpToTheRunningCap() {
+        val job = BridgeJob(id = "job", status = BridgeJobStatus.RUNNING, startedAt = now - 60_000, estimatedTime = 10)
+
+        assertEquals(1_000L, JobPollingScheduler.nextPollDelayMs(job, 0, null, now))
+        assertEquals(
+            JobPollingScheduler.MAX_RUNNING_POLL_INTERVAL_MS,
+            JobPollingScheduler.nextPollDelayMs(job, 6, null, now)
+        )
+    }
+}
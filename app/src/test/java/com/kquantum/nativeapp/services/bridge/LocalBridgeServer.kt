@@ -0,0 +1,398 @@
+/**
+ * K-QuantumNative - Local QuantumBridge Server
+ * Deterministic in-process stand-in for the QuantumBridge API
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.AchievementResponse
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobResults
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import com.kquantum.nativeapp.data.models.CircuitSubmissionRequest
+import com.kquantum.nativeapp.data.models.CreditBalance
+import com.kquantum.nativeapp.data.models.HardwareStatus
+import com.kquantum.nativeapp.data.models.LearningLevel
+import com.kquantum.nativeapp.data.models.LearningTrack
+import com.kquantum.nativeapp.data.models.NoiseSnapshot
+import com.kquantum.nativeapp.data.models.NoiseSnapshotCodec
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QubitNoiseStatus
+import com.kquantum.nativeapp.data.models.ResultAttachmentCodec
+import com.kquantum.nativeapp.data.models.StateVector
+import com.kquantum.nativeapp.data.models.StateVectorLimits
+import com.kquantum.nativeapp.data.remote.NetworkCbor
+import com.kquantum.nativeapp.data.remote.WireFormat
+import kotlinx.serialization.ExperimentalSerializationApi
+import kotlinx.serialization.encodeToByteArray
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import okhttp3.Response
+import okhttp3.WebSocket
+import okhttp3.WebSocketListener
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import okio.Buffer
+import okio.ByteString.Companion.toByteString
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.math.sqrt
+import kotlin.random.Random
+
+/**
+ * Behaviour knobs for [LocalBridgeServer]. All randomness comes from [seed], so two runs
+ * with the same config see the same latencies, failures and results.
+ */
+data class LocalBridgeConfig(
+    val latencyMs: Long = 0,
+    val latencyJitterMs: Long = 0,
+    // Fraction of REST calls answered with 503
+    val failureRate: Double = 0.0,
+    // Jobs executed at once; the rest wait in a FIFO queue
+    val workers: Int = 2,
+    val executionMs: Long = 2_000,
+    val maxQueueLength: Int = Int.MAX_VALUE,
+    // Credits per billing period; each accepted submission costs one
+    val credits: Int = Int.MAX_VALUE,
+    // Cache-Control max-age sent with catalog responses; null sends no Cache-Control
+    val catalogMaxAgeSeconds: Int? = 60,
+    // Answer clients that prefer CBOR in CBOR; off models a JSON-only server
+    val cborEnabled: Boolean = true,
+    val backends: List<QuantumBackend> = listOf(
+        QuantumBackend(
+            name = "local_sim",
+            displayName = "Local Simulator",
+            numQubits = 127,
+            queueLength = 0,
+            averageGateFidelity = 0.999,
+            averageJobSeconds = 2
+        )
+    ),
+    val seed: Long = 42
+)
+
+/**
+ * Implements the submit, status, results, backends, credits and noise-stream endpoints used by
+ * [BridgeClient] on top of [MockWebServer]. Point a [BridgeConfig] at [apiUrl] / [wsUrl].
+ *
+ * The learning and achievement catalogs of the main API are served under [catalogBaseUrl]
+ * with ETags, answering If-None-Match with 304 until [publishCatalogUpdate] is called.
+ * Catalogs and job results are sent as CBOR to clients whose Accept prefers it.
+ *
+ * Job timing is computed from a virtual schedule rather than background threads: a job
+ * starts when one of [LocalBridgeConfig.workers] frees up and completes
+ * [LocalBridgeConfig.executionMs] later, so status answers are exact for any poll cadence.
+ */
+class LocalBridgeServer(
+    val config: LocalBridgeConfig = LocalBridgeConfig(),
+    private val clock: () -> Long = System::currentTimeMillis
+) : AutoCloseable {
+
+    private class ServerJob(
+        val id: String,
+        val request: CircuitSubmissionRequest,
+        val createdAt: Long,
+        val startAt: Long,
+        val completeAt: Long,
+        @Volatile var cancelled: Boolean = false
+    )
+
+    private val json = Json { ignoreUnknownKeys = true; encodeDefaults = true }
+    private val server = MockWebServer()
+    private val random = Random(config.seed)
+    private val jobs = ConcurrentHashMap<String, ServerJob>()
+    private val jobsByIdempotencyKey = ConcurrentHashMap<String, String>()
+    private var creditsSpent = 0
+    private val workerFreeAt = LongArray(config.workers.coerceAtLeast(1))
+    private val nextJobId = AtomicInteger()
+    private val noiseExecutor = Executors.newScheduledThreadPool(1)
+
+    private val catalogVersion = AtomicInteger(1)
+
+    val requestCount = AtomicInteger()
+    val failedRequestCount = AtomicInteger()
+    val catalogRequestCount = AtomicInteger()
+    val notModifiedCount = AtomicInteger()
+
+    val apiUrl: String get() = server.url("/v1").toString()
+    val catalogBaseUrl: String get() = server.url("/").toString()
+    val wsUrl: String get() = apiUrl.replaceFirst("http", "ws")
+
+    fun start(): LocalBridgeServer {
+        server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse = handle(request)
+        }
+        server.start()
+        return this
+    }
+
+    fun bridgeConfig(): BridgeConfig = BridgeConfig(apiUrl = apiUrl, wsUrl = wsUrl, simulated = false)
+
+    /**
+     * Changes every catalog payload, and so its ETag
+     */
+    fun publishCatalogUpdate() {
+        catalogVersion.incrementAndGet()
+    }
+
+    override fun close() {
+        noiseExecutor.shutdownNow()
+        server.shutdown()
+    }
+
+    private fun handle(request: RecordedRequest): MockResponse {
+        requestCount.incrementAndGet()
+        val url = request.requestUrl ?: return MockResponse().setResponseCode(400)
+        val segments = url.pathSegments.drop(1) // strip "v1"
+
+        // The noise stream is a WebSocket upgrade and is not subject to REST failures
+        if (segments == listOf("noise")) return noiseStream(url.queryParameter("backend"), url.queryParameter("interval_ms"))
+
+        val (delayMs, fail) = synchronized(random) {
+            val jitter = if (config.latencyJitterMs > 0) random.nextLong(config.latencyJitterMs + 1) else 0L
+            (config.latencyMs + jitter) to (random.nextDouble() < config.failureRate)
+        }
+        if (fail) {
+            failedRequestCount.incrementAndGet()
+            return MockResponse().setResponseCode(503).setBodyDelay(delayMs, TimeUnit.MILLISECONDS)
+        }
+
+        if (url.pathSegments.take(2) == listOf("api", "v1")) {
+            return catalog(request, url.pathSegments.drop(2).filter { it.isNotEmpty() })
+                .setBodyDelay(delayMs, TimeUnit.MILLISECONDS)
+        }
+
+        val response = when {
+            request.method == "GET" && segments == listOf("health") -> MockResponse().setResponseCode(200)
+            request.method == "GET" && segments == listOf("backends") -> jsonResponse(backendsWithQueue())
+            request.method == "GET" && segments == listOf("hardware", "status") -> jsonResponse(hardwareStatus())
+            request.method == "POST" && segments == listOf("jobs") -> submit(request)
+            request.method == "GET" && segments == listOf("credits") -> jsonResponse(
+                CreditBalance(remaining = synchronized(workerFreeAt) { config.credits - creditsSpent })
+            )
+            request.method == "GET" && segments == listOf("jobs", "status") -> {
+                val ids = url.queryParameter("ids").orEmpty().split(',').filter { it.isNotBlank() }
+                jsonResponse(ids.mapNotNull { id -> jobs[id]?.let { snapshot(it) } })
+            }
+            request.method == "GET" && segments.size == 3 && segments[0] == "jobs" && segments[2] == "results" -> {
+                val job = jobs[segments[1]]?.let { snapshot(it) }
+                job?.results?.let { negotiatedResponse(request, it) } ?: MockResponse().setResponseCode(404)
+            }
+            request.method == "POST" && segments.size == 3 && segments[0] == "jobs" && segments[2] == "cancel" -> {
+                val job = jobs[segments[1]] ?: return MockResponse().setResponseCode(404)
+                job.cancelled = true
+                MockResponse().setResponseCode(204)
+            }
+            else -> MockResponse().setResponseCode(404)
+        }
+        return response.setBodyDelay(delayMs, TimeUnit.MILLISECONDS)
+    }
+
+    private fun submit(request: RecordedRequest): MockResponse {
+        val body = json.decodeFromString<CircuitSubmissionRequest>(request.body.readUtf8())
+        val now = clock()
+
+        val job = synchronized(workerFreeAt) {
+            // A retried submission gets the original job back and is not charged again
+            body.idempotencyKey?.let { jobsByIdempotencyKey[it] }?.let { id ->
+                return jsonResponse(snapshot(jobs.getValue(id)))
+            }
+            if (queueLength(now) >= config.maxQueueLength) return MockResponse().setResponseCode(429)
+            if (creditsSpent >= config.credits) return MockResponse().setResponseCode(402)
+            val worker = workerFreeAt.indices.minBy { workerFreeAt[it] }
+            val startAt = maxOf(now, workerFreeAt[worker])
+            val completeAt = startAt + config.executionMs
+            workerFreeAt[worker] = completeAt
+            ServerJob(
+                id = "local-${nextJobId.incrementAndGet()}",
+                request = body,
+                createdAt = now,
+                startAt = startAt,
+                completeAt = completeAt
+            ).also {
+                creditsSpent++
+                jobs[it.id] = it
+                body.idempotencyKey?.let { key -> jobsByIdempotencyKey[key] = it.id }
+            }
+        }
+        return jsonResponse(snapshot(job), code = 201)
+    }
+
+    private fun snapshot(job: ServerJob): BridgeJob {
+        val now = clock()
+        val status = when {
+            job.cancelled -> BridgeJobStatus.CANCELLED
+            now < job.startAt -> BridgeJobStatus.QUEUED
+            now < job.completeAt -> BridgeJobStatus.RUNNING
+            else -> BridgeJobStatus.COMPLETED
+        }
+        return BridgeJob(
+            id = job.id,
+            circuitData = job.request.circuitQasm,
+            status = status,
+            createdAt = job.createdAt,
+            startedAt = job.startAt.takeIf { now >= it },
+            completedAt = job.completeAt.takeIf { status == BridgeJobStatus.COMPLETED },
+            results = if (status == BridgeJobStatus.COMPLETED) results(job) else null,
+            estimatedTime = (config.executionMs / 1000).toInt().coerceAtLeast(1),
+            queuePosition = if (status == BridgeJobStatus.QUEUED) {
+                jobs.values.count { !it.cancelled && it.startAt in (now + 1)..job.startAt }
+            } else {
+                null
+            },
+            backend = job.request.backend
+        )
+    }
+
+    // Deterministic per job so repeated result fetches agree
+    private fun results(job: ServerJob): BridgeJobResults {
+        // Outcomes are as wide as the classical register, which transpiling leaves alone
+        val qubits = Regex("""creg\s+\w+\s*\[\s*(\d+)\s*]""").find(job.request.circuitQasm)
+            ?.groupValues?.get(1)?.toIntOrNull() ?: 2
+        val shots = job.request.numShots
+        val jobRandom = Random(config.seed xor job.id.hashCode().toLong())
+        val zeros = shots / 2 + jobRandom.nextInt(-shots / 20, shots / 20 + 1)
+        return BridgeJobResults(
+            measurements = mapOf("0".repeat(qubits) to zeros, "1".repeat(qubits) to shots - zeros),
+            stateVectorBlob = ghzState(qubits)?.let {
+                ResultAttachmentCodec.encodeBase64(ResultAttachmentCodec.encodeStateVector(it))
+            },
+            fidelity = 0.98 + jobRandom.nextDouble() * 0.015,
+            executionTimeMs = config.executionMs
+        )
+    }
+
+    // (|0...0> + |1...1>) / sqrt(2), stored sparsely
+    private fun ghzState(qubits: Int): StateVector? {
+        if (qubits !in 1..StateVectorLimits.MAX_QUBITS) return null
+        val amplitude = sqrt(0.5)
+        return StateVector(
+            qubitCount = qubits,
+            amplitudes = doubleArrayOf(amplitude, 0.0, amplitude, 0.0),
+            indices = intArrayOf(0, (1 shl qubits) - 1)
+        )
+    }
+
+    private fun queueLength(now: Long): Int = jobs.values.count { !it.cancelled && now < it.startAt }
+
+    private fun backendsWithQueue(): List<QuantumBackend> {
+        val queued = queueLength(clock())
+        return config.backends.map { it.copy(queueLength = it.queueLength + queued) }
+    }
+
+    private fun hardwareStatus(): HardwareStatus {
+        val queued = queueLength(clock())
+        return HardwareStatus(
+            queueLength = queued,
+            estimatedWaitSeconds = (queued * config.executionMs / config.workers.coerceAtLeast(1) / 1000).toInt()
+        )
+    }
+
+    private fun noiseStream(backendName: String?, intervalParam: String?): MockResponse {
+        val qubits = config.backends.find { it.name == backendName }?.numQubits
+            ?: return MockResponse().setResponseCode(404)
+        val intervalMs = intervalParam?.toLongOrNull()?.coerceAtLeast(10) ?: 500L
+
+        return MockResponse().withWebSocketUpgrade(object : WebSocketListener() {
+            private var task: ScheduledFuture<*>? = null
+            private val snapshot = NoiseSnapshot(qubits)
+            private val frameRandom = Random(config.seed)
+
+            override fun onOpen(webSocket: WebSocket, response: Response) {
+                task = noiseExecutor.scheduleAtFixedRate({
+                    fillNoise(snapshot, qubits, frameRandom)
+                    webSocket.send(NoiseSnapshotCodec.encode(snapshot).toByteString())
+                }, 0, intervalMs, TimeUnit.MILLISECONDS)
+            }
+
+            override fun onClosing(webSocket: WebSocket, code: Int, reason: String) {
+                task?.cancel(false)
+                webSocket.close(code, null)
+            }
+
+            override fun onFailure(webSocket: WebSocket, t: Throwable, response: Response?) {
+                task?.cancel(false)
+            }
+        })
+    }
+
+    private fun fillNoise(snapshot: NoiseSnapshot, qubits: Int, random: Random) {
+        snapshot.ensureCapacity(qubits)
+        snapshot.timestamp = clock()
+        for (i in 0 until qubits) {
+            snapshot.dephasing[i] = 0.001f + random.nextFloat() * 0.002f
+            snapshot.relaxation[i] = 0.0005f + random.nextFloat() * 0.001f
+            snapshot.gateError[i] = 0.003f + random.nextFloat() * 0.002f
+            snapshot.readoutError[i] = 0.008f + random.nextFloat() * 0.012f
+            snapshot.status[i] = if (random.nextDouble() > 0.95) QubitNoiseStatus.WARNING else QubitNoiseStatus.HEALTHY
+        }
+        snapshot.overallFidelity = 0.995 + random.nextDouble() * 0.004
+        snapshot.coherenceRemaining = 0.8 + random.nextDouble() * 0.2
+        snapshot.atomLossRate = 0.0001 + random.nextDouble() * 0.0002
+        snapshot.replenishmentRate = 20.0 + random.nextDouble() * 10.0
+    }
+
+    private fun catalog(request: RecordedRequest, segments: List<String>): MockResponse {
+        if (request.method != "GET") return MockResponse().setResponseCode(404)
+        catalogRequestCount.incrementAndGet()
+        val version = catalogVersion.get()
+        val binary = acceptsCbor(request)
+        val body = when {
+            segments == listOf("learning", "tracks") -> encode(
+                listOf("beginner", "intermediate", "advanced").map { id ->
+                    LearningTrack(id = id, name = "$id v$version", description = "Catalog v$version", iconName = "school")
+                },
+                binary
+            )
+            segments.size == 3 && segments[0] == "learning" && segments[1] == "levels" ->
+                encode(emptyList<LearningLevel>(), binary)
+            segments == listOf("achievements") -> encode(
+                (1..5).map { AchievementResponse(id = "a$it", title = "Achievement $it v$version", description = "") },
+                binary
+            )
+            else -> return MockResponse().setResponseCode(404)
+        }
+
+        // Each representation has its own ETag, as a real server's would
+        val format = if (binary) "cbor" else "json"
+        val etag = "\"${segments.joinToString("/")}-$version-$format-${Integer.toHexString(body.contentHashCode())}\""
+        val response = MockResponse().setHeader("ETag", etag).setHeader("Vary", "Accept")
+        config.catalogMaxAgeSeconds?.let { response.setHeader("Cache-Control", "public, max-age=$it") }
+        if (request.getHeader("If-None-Match") == etag) {
+            notModifiedCount.incrementAndGet()
+            return response.setResponseCode(304)
+        }
+        return response
+            .setResponseCode(200)
+            .setHeader("Content-Type", if (binary) WireFormat.CBOR else WireFormat.JSON)
+            .setBody(Buffer().write(body))
+    }
+
+    private fun acceptsCbor(request: RecordedRequest): Boolean =
+        config.cborEnabled && request.getHeader("Accept")?.contains(WireFormat.CBOR) == true
+
+    @OptIn(ExperimentalSerializationApi::class)
+    private inline fun <reified T> encode(value: T, binary: Boolean): ByteArray =
+        if (binary) NetworkCbor.encodeToByteArray(value) else json.encodeToString(value).toByteArray()
+
+    // CBOR when the client asked for it and the server config allows it, JSON otherwise
+    private inline fun <reified T> negotiatedResponse(request: RecordedRequest, body: T): MockResponse {
+        val binary = acceptsCbor(request)
+        return MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", if (binary) WireFormat.CBOR else WireFormat.JSON)
+            .setHeader("Vary", "Accept")
+            .setBody(Buffer().write(encode(body, binary)))
+    }
+
+    private inline fun <reified T> jsonResponse(body: T, code: Int = 200): MockResponse =
+        MockResponse()
+            .setResponseCode(code)
+            .setHeader("Content-Type", "application/json")
+            .setBody(json.encodeToString(body))
+}
@@ -0,0 +1,76 @@
+/**
+ * K-QuantumNative - Noise Telemetry Buffer Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class NoiseTelemetryBufferTest {
+
+    private val buffer = NoiseTelemetryBuffer(qubitCount = 1, capacity = 3)
+
+    private fun record(timestampMs: Long, value: Float) {
+        buffer.beginSample(timestampMs)
+        buffer.set(0, NoiseMetric.FIDELITY, value)
+        buffer.commitSample()
+    }
+
+    private fun visibleValues(): List<Float> = buffer.read { view ->
+        (0 until view.sampleCount).map { view.valueAt(0, NoiseMetric.FIDELITY, it) }
+    }
+
+    private fun visibleTimestamps(): List<Long> = buffer.read { view ->
+        (0 until view.sampleCount).map { view.timestampAt(it) }
+    }
+
+    @Test
+    fun keepsTheNewestSamplesOnceFull() {
+        (1..5).forEach { record(it.toLong(), it.toFloat()) }
+
+        assertEquals(listOf(3f, 4f, 5f), visibleValues())
+        assertEquals(listOf(3L, 4L, 5L), visibleTimestamps())
+    }
+
+    @Test
+    fun openSampleHidesTheSlotItOverwrites() {
+        (1..3).forEach { record(it.toLong(), it.toFloat()) }
+
+        buffer.beginSample(4)
+        buffer.set(0, NoiseMetric.FIDELITY, 4f)
+
+        assertEquals(listOf(2f, 3f), visibleValues())
+        assertEquals(listOf(2L, 3L), visibleTimestamps())
+
+        buffer.commitSample()
+
+        assertEquals(listOf(2f, 3f, 4f), visibleValues())
+    }
+
+    @Test
+    fun openSampleIsInvisibleWhileFilling() {
+        record(1, 1f)
+        buffer.beginSample(2)
+        buffer.set(0, NoiseMetric.FIDELITY, 2f)
+
+        assertEquals(listOf(1f), visibleValues())
+    }
+
+    @Test
+    fun downsampleSkipsTheSlotBeingOverwritten() {
+        (1..3).forEach { record(it.toLong(), it.toFloat() * 10) }
+        buffer.beginSample(4)
+        buffer.set(0, NoiseMetric.FIDELITY, -1f)
+
+        val min = FloatArray(1)
+        val max = FloatArray(1)
+        val avg = FloatArray(1)
+        val buckets = buffer.read { it.downsample(0, NoiseMetric.FIDELITY, 3, 1, min, max, avg) }
+
+        assertEquals(1, buckets)
+        assertEquals(20f, min[0])
+        assertEquals(30f, max[0])
+        assertEquals(25f, avg[0])
+    }
+}
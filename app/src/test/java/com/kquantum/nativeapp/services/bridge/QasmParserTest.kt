@@ -0,0 +1,97 @@
+/**
+ * K-QuantumNative - QASM Parser Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Test
+import kotlin.math.PI
+
+class QasmParserTest {
+
+    private fun QuantumCircuit.shape() = gates.map {
+        listOf(it.type, it.targetQubit, it.controlQubit, it.controlQubit2, it.parameter, it.classicalBit)
+    }
+
+    @Test
+    fun editorOutputRoundTrips() {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 3,
+            gates = listOf(
+                QuantumGate(type = QuantumGateType.HADAMARD, targetQubit = 0),
+                QuantumGate(type = QuantumGateType.CNOT, controlQubit = 0, targetQubit = 1),
+                QuantumGate(type = QuantumGateType.TOFFOLI, controlQubit = 0, controlQubit2 = 1, targetQubit = 2),
+                QuantumGate(type = QuantumGateType.ROTATION_Y, targetQubit = 2, parameter = 0.25),
+                QuantumGate(type = QuantumGateType.MEASURE, targetQubit = 2, classicalBit = 0)
+            )
+        )
+
+        val parsed = QasmParser.parse(circuit.toQASM())
+
+        assertEquals(3, parsed.numberOfQubits)
+        assertEquals(3, parsed.classicalBits)
+        assertEquals(circuit.shape(), parsed.shape())
+    }
+
+    @Test
+    fun wholeRegistersBroadcast() {
+        val parsed = QasmParser.parse(
+            """
+            OPENQASM 2.0;
+            include "qelib1.inc";
+            qreg a[2];
+            qreg b[2];
+            creg c[4];
+            h a; // both qubits of a
+            cx a, b;
+            barrier a, b;
+            measure b[1] -> c[3];
+            """.trimIndent()
+        )
+
+        assertEquals(
+            listOf(
+                listOf(QuantumGateType.HADAMARD, 0, null),
+                listOf(QuantumGateType.HADAMARD, 1, null),
+                listOf(QuantumGateType.CNOT, 2, 0),
+                listOf(QuantumGateType.CNOT, 3, 1),
+                listOf(QuantumGateType.MEASURE, 3, null)
+            ),
+            parsed.gates.map { listOf(it.type, it.targetQubit, it.controlQubit) }
+        )
+        assertEquals(3, parsed.gates.last().classicalBit)
+    }
+
+    @Test
+    fun anglesMayUsePi() {
+        val parsed = QasmParser.parse("qreg q[1]; rz(-pi/4) q[0]; rx(3*pi / 2) q[0]; ry((pi+1)*2) q[0]; sdg q[0];")
+
+        assertEquals(listOf(-PI / 4, 3 * PI / 2, (PI + 1) * 2, -PI / 2), parsed.gates.map { it.parameter })
+    }
+
+    @Test
+    fun unsupportedGateIsRejected() {
+        assertThrows(IllegalArgumentException::class.java) {
+            QasmParser.parse("qreg q[2]; cu1(0.5) q[0], q[1];")
+        }
+    }
+
+    @Test
+    fun unknownRegisterIsRejected() {
+        assertThrows(IllegalArgumentException::class.java) {
+            QasmParser.parse("qreg q[2]; h r[0];")
+        }
+    }
+
+    @Test
+    fun indexOutsideTheRegisterIsRejected() {
+        assertThrows(IllegalArgumentException::class.java) {
+            QasmParser.parse("qreg q[2]; x q[2];")
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * K-QuantumNative - QuantumBridge Service Tests
+ * QuantumBridgeService driven through the real client stack against LocalBridgeServer
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.core.PreferenceDataStoreFactory
+import androidx.datastore.preferences.core.Preferences
+import com.kquantum.nativeapp.data.models.BridgeJob
+import com.kquantum.nativeapp.data.models.BridgeJobStatus
+import com.kquantum.nativeapp.data.models.QuantumBackend
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import okhttp3.OkHttpClient
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.util.concurrent.atomic.AtomicInteger
+
+class QuantumBridgeServiceTest {
+
+    companion object {
+        private const val BACKEND = "local_sim"
+        private const val TIMEOUT_MS = 10_000L
+        private const val POLL_INTERVAL_MS = 50L
+
+        private val BELL = """
+            OPENQASM 2.0;
+            include "qelib1.inc";
+            qreg q[2];
+            creg c[2];
+            h q[0];
+            cx q[0], q[1];
+            measure q -> c;
+        """.trimIndent()
+    }
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private val storeScope = CoroutineScope(Dispatchers.IO + SupervisorJob())
+    private val trackingRequests = AtomicInteger()
+    private var server: LocalBridgeServer? = null
+    private lateinit var jobStore: BridgeJobStore
+    private lateinit var creditLedger: CreditLedger
+
+    private fun service(config: LocalBridgeConfig = LocalBridgeConfig(executionMs = 300)): QuantumBridgeService {
+        val local = LocalBridgeServer(config).start().also { server = it }
+        jobStore = BridgeJobStore(dataStore("bridge_jobs"), File(folder.root, "bridge_results"))
+        creditLedger = CreditLedger(dataStore("bridge_credits"))
+        return QuantumBridgeService(
+            jobStore = jobStore,
+            creditLedger = creditLedger,
+            readoutMitigator = ReadoutMitigator(),
+            jobTracker = BridgeJobTracker { trackingRequests.incrementAndGet() },
+            httpClient = OkHttpClient(),
+            config = local.bridgeConfig()
+        )
+    }
+
+    private fun dataStore(name: String): DataStore<Preferences> = PreferenceDataStoreFactory.create(
+        scope = storeScope,
+        produceFile = { File(folder.root, "$name.preferences_pb") }
+    )
+
+    @After
+    fun tearDown() {
+        storeScope.cancel()
+        server?.close()
+    }
+
+    // Polls the bridge the way the job screen does until the job settles
+    private suspend fun QuantumBridgeService.awaitTerminal(jobId: String): BridgeJob = withTimeout(TIMEOUT_MS) {
+        var job = getJobStatuses(setOf(jobId))[jobId]
+        while (job?.status?.isTerminal != true) {
+            delay(POLL_INTERVAL_MS)
+            job = getJobStatuses(setOf(jobId))[jobId]
+        }
+        job
+    }
+
+    @Test
+    fun submittedJobRunsToCompletion() = runBlocking {
+        val service = service()
+        assertTrue(service.connect())
+
+        val submitted = service.submitJob(BELL, BACKEND, shots = 1000)
+        val finished = service.awaitTerminal(requireNotNull(submitted) { "${service.error.value}" }.id)
+
+        assertEquals(BridgeJobStatus.COMPLETED, finished.status)
+        val results = requireNotNull(finished.results)
+        assertEquals(1000, results.measurements.values.sum())
+        assertNotNull(results.mitigatedProbabilities)
+        assertEquals(results.measurements, jobStore.completedJob(finished.id)?.results?.measurements)
+        assertEquals(1, trackingRequests.get())
+    }
+
+    @Test
+    fun resultsAreNotMitigatedWhenTheSubmissionOptsOut() = runBlocking {
+        val service = service()
+        assertTrue(service.connect())
+
+        val submitted = service.submitJob(BELL, BACKEND, shots = 1000, errorMitigation = false)
+        val finished = service.awaitTerminal(requireNotNull(submitted) { "${service.error.value}" }.id)
+
+        assertEquals(BridgeJobStatus.COMPLETED, finished.status)
+        assertFalse(finished.errorMitigation)
+        assertNull(requireNotNull(finished.results).mitigatedProbabilities)
+    }
+
+    @Test
+    fun identicalConcurrentSubmissionsShareOneJob() = runBlocking {
+        // A second bridge job would be refused for lack of credits
+        val service = service(LocalBridgeConfig(executionMs = 300, credits = 1))
+        assertTrue(service.connect())
+
+        val first = async { service.submitJob(BELL, BACKEND, shots = 500) }
+        val second = async { service.submitJob(BELL, BACKEND, shots = 500) }
+        val jobs = listOf(first.await(), second.await())
+
+        assertNull(service.error.value)
+        assertEquals(1, jobs.map { it?.id }.toSet().size)
+        assertEquals(0, creditLedger.ledgerState.value.available)
+    }
+
+    @Test
+    fun rejectedSubmissionReportsAnErrorAndReleasesTheCredit() = runBlocking {
+        val service = service(LocalBridgeConfig(maxQueueLength = 0))
+        assertTrue(service.connect())
+        val creditsBefore = creditLedger.ledgerState.value.available
+
+        val job = service.submitJob(BELL, BACKEND, shots = 100)
+
+        assertNull(job)
+        assertTrue(service.error.value.orEmpty().startsWith("Failed to submit job"))
+        assertEquals(creditsBefore, creditLedger.ledgerState.value.available)
+        assertEquals(0, trackingRequests.get())
+    }
+
+    @Test
+    fun cancelledJobIsMarkedAsCancelledByTheUser() = runBlocking {
+        val service = service(LocalBridgeConfig(executionMs = 60_000))
+        assertTrue(service.connect())
+        val job = requireNotNull(service.submitJob(BELL, BACKEND, shots = 100))
+
+        service.cancelJob(job.id)
+
+        assertEquals(BridgeJobStatus.CANCELLED, service.awaitTerminal(job.id).status)
+        assertTrue(service.wasCancelledByUser(job.id))
+    }
+
+    @Test
+    fun qasmIsTranspiledForTheSelectedBackend() = runBlocking {
+        val line = QuantumBackend(
+            name = "line",
+            displayName = "Line",
+            numQubits = 5,
+            couplingMap = CouplingMaps.line(5),
+            basisGates = listOf("cx", "rz", "rx", "measure")
+        )
+        val service = service(LocalBridgeConfig(executionMs = 300, backends = listOf(line)))
+        assertTrue(service.connect())
+        service.loadAvailableBackends()
+
+        val job = requireNotNull(service.submitJob(BELL, line.name, shots = 100)) { "${service.error.value}" }
+
+        val submitted = QasmParser.parse(requireNotNull(job.circuitData))
+        assertTrue(submitted.gates.none { it.type == QuantumGateType.HADAMARD })
+        val measured = submitted.gates.filter { it.type == QuantumGateType.MEASURE }
+        // Mitigation reads each bit's calibration from the qubit it was measured on
+        assertEquals(measured.sortedBy { it.classicalBit }.map { it.targetQubit }, job.qubitForBit)
+    }
+
+    @Test
+    fun qasmTheParserCannotReadIsSubmittedAsWritten() = runBlocking {
+        val service = service()
+        assertTrue(service.connect())
+        service.loadAvailableBackends()
+        val qasm = "qreg q[2]; creg c[2]; u3(0.1, 0.2, 0.3) q[0]; cu1(0.5) q[0], q[1]; measure q -> c;"
+
+        val job = requireNotNull(service.submitJob(qasm, BACKEND, shots = 100)) { "${service.error.value}" }
+
+        assertEquals(qasm, job.circuitData)
+        assertNull(job.qubitForBit)
+    }
+
+    @Test
+    fun circuitWiderThanTheBackendIsRejectedBeforeSubmission() = runBlocking {
+        val pair = QuantumBackend(name = "pair", displayName = "Pair", numQubits = 2)
+        val service = service(LocalBridgeConfig(backends = listOf(pair)))
+        assertTrue(service.connect())
+        service.loadAvailableBackends()
+
+        val job = service.submitJob("qreg q[3]; creg c[3]; h q[2]; measure q -> c;", pair.name, shots = 100)
+
+        assertNull(job)
+        assertTrue(service.error.value.orEmpty().startsWith("Failed to submit job"))
+        assertEquals(0, trackingRequests.get())
+    }
+
+    @Test
+    fun identicalCutFragmentsShareOneJobAndStillFinish() = runBlocking {
+        val pair = QuantumBackend(name = "pair", displayName = "Pair", numQubits = 2)
+        val service = service(LocalBridgeConfig(executionMs = 300, backends = listOf(pair)))
+        assertTrue(service.connect())
+        val creditsBefore = creditLedger.ledgerState.value.available
+
+        // Two independent, identical X-CX blocks: two fragments with the same circuit
+        fun x(q: Int) = QuantumGate(type = QuantumGateType.PAULI_X, targetQubit = q)
+        fun cx(c: Int, t: Int) = QuantumGate(type = QuantumGateType.CNOT, controlQubit = c, targetQubit = t)
+        val circuit = QuantumCircuit(numberOfQubits = 4, gates = listOf(x(0), cx(0, 1), x(2), cx(2, 3)))
+
+        val result = withTimeout(TIMEOUT_MS) { service.runCutCircuit(circuit, backend = pair) }
+
+        assertEquals(2, result.fragmentCount)
+        assertEquals(creditsBefore - 1, creditLedger.ledgerState.value.available)
+    }
+
+    @Test
+    fun submittingWhileDisconnectedFails() = runBlocking {
+        val service = service()
+
+        assertNull(service.submitJob(BELL, BACKEND, shots = 100))
+        assertEquals("Not connected to QuantumBridge", service.error.value)
+        assertFalse(service.isConnected.value)
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * K-QuantumNative - Zero-Noise Extrapolation Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.bridge
+
+import com.kquantum.nativeapp.data.models.OutcomeHistogram
+import com.kquantum.nativeapp.data.models.QuantumCircuit
+import com.kquantum.nativeapp.data.models.QuantumGate
+import com.kquantum.nativeapp.data.models.QuantumGateType
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Test
+
+class ZeroNoiseExtrapolatorTest {
+
+    @Test
+    fun linearFitRecoversTheInterceptOfALine() {
+        val value = ZeroNoiseExtrapolator.extrapolate(listOf(1.0, 2.0, 3.0), listOf(0.8, 0.6, 0.4), ZneFit.LINEAR)
+
+        assertEquals(1.0, value, 1e-12)
+    }
+
+    @Test
+    fun linearFitAveragesOutNoise() {
+        // Least squares through (1, 0.9), (2, 0.5), (3, 0.4): slope -0.25, intercept 1.1
+        val value = ZeroNoiseExtrapolator.extrapolate(listOf(1.0, 2.0, 3.0), listOf(0.9, 0.5, 0.4), ZneFit.LINEAR)
+
+        assertEquals(1.1, value, 1e-12)
+    }
+
+    @Test
+    fun richardsonIsExactForAQuadratic() {
+        val scales = listOf(1.0, 2.0, 3.0)
+        val values = scales.map { 0.9 - 0.1 * it + 0.02 * it * it }
+
+        val value = ZeroNoiseExtrapolator.extrapolate(scales, values, ZneFit.RICHARDSON)
+
+        assertEquals(0.9, value, 1e-12)
+    }
+
+    @Test
+    fun singleScaleReturnsItsValue() {
+        assertEquals(0.7, ZeroNoiseExtrapolator.extrapolate(listOf(1.0), listOf(0.7), ZneFit.RICHARDSON), 0.0)
+    }
+
+    @Test
+    fun mismatchedInputsAreRejected() {
+        assertThrows(IllegalArgumentException::class.java) {
+            ZeroNoiseExtrapolator.extrapolate(listOf(1.0, 2.0), listOf(0.5), ZneFit.LINEAR)
+        }
+    }
+
+    @Test
+    fun runExtrapolatesTheParityOfEachFoldedVariant() = runBlocking {
+        val circuit = QuantumCircuit(
+            numberOfQubits = 1,
+            gates = List(4) { QuantumGate(type = QuantumGateType.PAULI_X, targetQubit = 0) }
+        )
+        // Stand-in executor whose parity decays linearly with the folded circuit's length
+        val extrapolator = ZeroNoiseExtrapolator { variants ->
+            variants.map { variant ->
+                val scale = variant.gates.size.toDouble() / circuit.gates.size
+                val odd = (100 * scale).toInt()
+                OutcomeHistogram(width = 1).apply {
+                    add(0L, 1000 - odd)
+                    add(1L, odd)
+                }
+            }
+        }
+
+        val result = extrapolator.run(circuit, listOf(1.0, 2.0, 3.0), ZneFit.LINEAR)
+
+        assertEquals(listOf(1.0, 2.0, 3.0), result.scaleFactors)
+        assertEquals(0.8, result.unmitigatedValue, 1e-12)
+        assertEquals(1.0, result.mitigatedValue, 1e-9)
+    }
+}
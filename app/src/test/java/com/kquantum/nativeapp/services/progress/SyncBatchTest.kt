@@ -0,0 +1,73 @@
+/**
+ * K-QuantumNative - Sync Batch Tests
+ * Copyright (c) 2025 Eunmin Park. All rights reserved.
+ */
+package com.kquantum.nativeapp.services.progress
+
+import com.kquantum.nativeapp.data.local.OutboxEventEntity
+import com.kquantum.nativeapp.data.local.OutboxEventType
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class SyncBatchTest {
+
+    private fun xp(id: Long, amount: Int, reason: String? = "lesson") =
+        OutboxEventEntity(id = id, type = OutboxEventType.XP, xp = amount, reason = reason)
+
+    private fun level(id: Long, levelId: String, amount: Int) =
+        OutboxEventEntity(id = id, type = OutboxEventType.LEVEL_COMPLETE, targetId = levelId, xp = amount)
+
+    private fun unlock(id: Long, achievementId: String?) =
+        OutboxEventEntity(id = id, type = OutboxEventType.ACHIEVEMENT_UNLOCK, targetId = achievementId)
+
+    @Test
+    fun xpEventsAreSummedIntoOneRequest() {
+        val batch = SyncBatch.of(listOf(xp(1, 10), xp(2, 25), xp(3, 5)))
+
+        val delta = requireNotNull(batch.xp)
+        assertEquals(40, delta.amount)
+        assertEquals("lesson", delta.reason)
+        assertEquals(listOf(1L, 2L, 3L), delta.eventIds)
+        assertEquals(1, batch.requestCount)
+    }
+
+    @Test
+    fun mixedXpReasonsAreDropped() {
+        val batch = SyncBatch.of(listOf(xp(1, 10, "lesson"), xp(2, 10, "challenge")))
+
+        assertNull(requireNotNull(batch.xp).reason)
+    }
+
+    @Test
+    fun repeatedLevelCompletionKeepsTheFirstXp() {
+        val batch = SyncBatch.of(listOf(level(1, "l1", 50), level(2, "l2", 30), level(3, "l1", 80)))
+
+        assertEquals(listOf("l1", "l2"), batch.levels.map { it.levelId })
+        assertEquals(50, batch.levels.first().xp)
+        assertEquals(listOf(1L, 3L), batch.levels.first().eventIds)
+    }
+
+    @Test
+    fun unlocksAreDeduplicatedAndUntargetedEventsSkipped() {
+        val batch = SyncBatch.of(listOf(unlock(1, "first_circuit"), unlock(2, "first_circuit"), unlock(3, null)))
+
+        assertEquals(1, batch.unlocks.size)
+        assertEquals(listOf(1L, 2L), batch.unlocks.single().eventIds)
+    }
+
+    @Test
+    fun mixedBatchCountsOneRequestPerGroup() {
+        val batch = SyncBatch.of(listOf(xp(1, 10), level(2, "l1", 50), unlock(3, "a1"), unlock(4, "a2")))
+
+        assertEquals(4, batch.requestCount)
+    }
+
+    @Test
+    fun emptyOutboxNeedsNoRequests() {
+        val batch = SyncBatch.of(emptyList())
+
+        assertNull(batch.xp)
+        assertEquals(0, batch.requestCount)
+    }
+}